@@ -0,0 +1,129 @@
+package com.study.projectboard.dto;
+
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.ArticleComment;
+import com.study.projectboard.domain.AuditingFields;
+import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.response.ArticleResponse;
+import com.study.projectboard.response.ArticleWithCommentsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 거치는 엔티티 → DTO → 응답 변환만 따로 잰다. DB 와 스프링 컨텍스트 없이 메모리에 만든 엔티티를 쓴다.
+ * <p>
+ * 게시글 상세는 댓글 수({@link #comments})만큼 {@code from(...)} 과 {@code LinkedHashSet} 수집을 거친다.
+ * 서비스는 댓글을 한 페이지만 불러오지만, 여기서는 댓글을 모두 한 슬라이스에 담아 댓글 수에 따른 증가폭을 본다.
+ * 처리량은 ops/s 로, 할당량은 gc 프로파일러의 {@code gc.alloc.rate.norm} (B/op) 으로 본다.
+ * <p>
+ * {@code ./gradlew jmh -Pjmh.includes=ArticleMappingBenchmark -Pjmh.profilers=gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ArticleMappingBenchmark {
+
+    @Param({"0", "100", "10000"})
+    public int comments;
+
+    private Article article;
+    private List<ArticleComment> articleComments;
+    private ArticleDto articleDto;
+    private ArticleWithCommentsDto articleWithCommentsDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.of(2022, 11, 1, 12, 0);
+        UserAccount author = userAccount(1L, "uno", "Uno", createdAt);
+        UserAccount commenter = userAccount(2L, "heechan", "", createdAt);
+
+        article = Article.of(author, "JMH 로 매핑 비용 재기", "본문 ".repeat(200), "#java");
+        audit(article, 1L, "uno", createdAt);
+        articleComments = new ArrayList<>(comments);
+        for (int i = 0; i < comments; i++) {
+            ArticleComment articleComment = ArticleComment.of(article, i % 2 == 0 ? author : commenter, "댓글 " + i);
+            audit(articleComment, i + 1L, "uno", createdAt.plusMinutes(i));
+            articleComments.add(articleComment);
+        }
+
+        articleDto = ArticleDto.from(article);
+        articleWithCommentsDto = toDto();
+    }
+
+    @Benchmark
+    public ArticleResponse article() {
+        return ArticleResponse.from(ArticleDto.from(article));
+    }
+
+    @Benchmark
+    public ArticleResponse articleDtoToResponse() {
+        return ArticleResponse.from(articleDto);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsDto articleWithCommentsToDto() {
+        return toDto();
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse articleWithCommentsDtoToResponse() {
+        return ArticleWithCommentsResponse.from(articleWithCommentsDto);
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse articleWithComments() {
+        return ArticleWithCommentsResponse.from(toDto());
+    }
+
+    // ArticleCommentService#searchArticleComments 와 ArticleService 가 상세 DTO 를 만드는 과정과 같다
+    private ArticleWithCommentsDto toDto() {
+        List<ArticleCommentDto> content = articleComments.stream()
+                .map(ArticleCommentDto::from)
+                .toList();
+        CursorSlice<ArticleCommentDto> slice = new CursorSlice<>(content, PageRequest.of(0, Math.max(comments, 1)), null, null);
+        return ArticleWithCommentsDto.from(article, slice);
+    }
+
+    private static UserAccount userAccount(Long id, String userId, String nickname, LocalDateTime createdAt) {
+        UserAccount userAccount = UserAccount.of(userId, "{noop}password", userId + "@mail.com", nickname, null);
+        audit(userAccount, id, userId, createdAt);
+        return userAccount;
+    }
+
+    // 저장하지 않은 엔티티라서 id 와 감사 필드를 직접 채운다
+    private static void audit(AuditingFields entity, Long id, String createdBy, LocalDateTime createdAt) {
+        set(entity, entity.getClass(), "id", id);
+        set(entity, AuditingFields.class, "createdAt", createdAt);
+        set(entity, AuditingFields.class, "createdBy", createdBy);
+        set(entity, AuditingFields.class, "modifiedAt", createdAt);
+        set(entity, AuditingFields.class, "modifiedBy", createdBy);
+    }
+
+    private static void set(Object target, Class<?> type, String name, Object value) {
+        Field field = ReflectionUtils.findField(type, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+}
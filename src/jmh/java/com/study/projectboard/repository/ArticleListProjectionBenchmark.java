@@ -0,0 +1,149 @@
+package com.study.projectboard.repository;
+
+import com.study.projectboard.FastCampusProjectBoardApplication;
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.response.ArticleResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지를 엔티티 조회(본문, 작성자 포함)와 목록 컬럼 프로젝션으로 비교한다.
+ * 두 방식 모두 화면에 넘기는 {@link ArticleResponse} 까지 만든다.
+ * <p>
+ * 시작할 때 페이지당 결과 셋 크기(컬럼 바이트 합)를 출력하고, 힙 할당량은 gc 프로파일러의 {@code gc.alloc.rate.norm} 으로 본다.
+ * {@code ./gradlew jmh -Pjmh.includes=ArticleListProjectionBenchmark -Pjmh.profilers=gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArticleListProjectionBenchmark {
+
+    private static final int ARTICLES = 10_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    // 스프링 데이터의 Slice 조회와 같은 JPQL. 작성자는 지연 로딩된다.
+    private static final String ENTITY_QUERY = "select a from Article a order by a.createdAt desc";
+
+    @Param({"200", "10000"})
+    public int contentLength;
+
+    private ConfigurableApplicationContext context;
+    private ArticleRepository articleRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(FastCampusProjectBoardApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:projection;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.sql.init.mode=never",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.study.projectboard=info",
+                        "logging.level.org.springframework.web.servlet=info",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+                )
+                .run();
+        articleRepository = context.getBean(ArticleRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+        printResultBytes(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ArticleResponse> entityPage() {
+        return transactionTemplate.execute(status -> entityManager.createQuery(ENTITY_QUERY, Article.class)
+                .setFirstResult((int) FIRST_PAGE.getOffset())
+                .setMaxResults(FIRST_PAGE.getPageSize() + 1)
+                .getResultList()
+                .stream()
+                .limit(FIRST_PAGE.getPageSize())
+                .map(ArticleDto::from)
+                .map(ArticleResponse::from)
+                .toList());
+    }
+
+    @Benchmark
+    public List<ArticleResponse> projectionPage() {
+        return transactionTemplate.execute(status -> articleRepository.findListSlice(null, null, FIRST_PAGE)
+                .map(ArticleResponse::from)
+                .getContent());
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into user_account (id, user_id, user_password, nickname, email, memo, created_at, created_by, modified_at, modified_by) values (1, 'bench', '{noop}benchmark', '벤치마크', 'bench@mail.com', 'memo', now(), 'bench', now(), 'bench')");
+
+        String content = "가".repeat(contentLength);
+        LocalDateTime base = LocalDateTime.of(2000, 1, 1, 0, 0);
+        String sql = "insert into article (id, user_account_id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (?, 1, ?, ?, ?, ?, 'bench', ?, 'bench')";
+        for (int offset = 0; offset < ARTICLES; offset += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = offset; i < offset + BATCH_SIZE; i++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+                rows.add(new Object[]{i + 1L, "benchmark title " + i, content, "#tag" + (i % 100), createdAt, createdAt});
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    // 각 방식이 가져오는 컬럼의 바이트 합. 엔티티 조회는 게시글 전체 컬럼과 작성자 행 하나를 더 읽는다.
+    private void printResultBytes(JdbcTemplate jdbcTemplate) {
+        String page = "(select * from article order by created_at desc limit " + FIRST_PAGE.getPageSize() + ")";
+        Long entityBytes = jdbcTemplate.queryForObject(
+                "select sum(8 + octet_length(a.title) + octet_length(a.content) + octet_length(a.hashtag) + 8 + octet_length(a.created_by) + 8 + octet_length(a.modified_by) + 8) from " + page + " a",
+                Long.class
+        ) + jdbcTemplate.queryForObject(
+                "select 8 + octet_length(user_id) + octet_length(user_password) + octet_length(email) + octet_length(nickname) + octet_length(memo) + 8 + octet_length(created_by) + 8 + octet_length(modified_by) from user_account where id = 1",
+                Long.class
+        );
+        Long projectionBytes = jdbcTemplate.queryForObject(
+                "select sum(8 + octet_length(a.title) + octet_length(a.hashtag) + 8 + octet_length(u.user_id) + octet_length(u.nickname)) from " + page + " a join user_account u on u.id = a.user_account_id",
+                Long.class
+        );
+        System.out.printf("%n[contentLength=%d] result bytes per page - entity: %,d B, projection: %,d B%n", contentLength, entityBytes, projectionBytes);
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.study.projectboard.service.search;
+
+import com.study.projectboard.FastCampusProjectBoardApplication;
+import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.repository.ArticleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제목/유저 ID/닉네임 부분 문자열 검색을 기존 {@code LIKE '%keyword%'} 리포지토리 메소드와 n-gram 색인으로 비교한다.
+ * 색인 쪽도 찾은 id 로 게시글을 불러오는 비용까지 포함한다.
+ * <p>
+ * {@code ./gradlew jmh -Pjmh.includes=ArticleInfixSearchBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ArticleInfixSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "스프링", "부트", "게시판", "자바", "코틀린", "질문", "답변", "공지사항", "개발", "후기",
+            "프로젝트", "데이터베이스", "성능", "최적화", "검색", "페이지", "테스트", "배포", "서버", "화면",
+            "Spring", "JPA", "QueryDSL", "MySQL", "Docker"
+    };
+    private static final String[] ADJECTIVES = {"행복한", "즐거운", "바쁜", "조용한", "용감한", "느긋한", "성실한", "엉뚱한"};
+    private static final String[] ANIMALS = {"고양이", "강아지", "다람쥐", "호랑이", "펭귄", "토끼", "여우", "부엉이"};
+    private static final int USERS = 1_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private static final String NICKNAME_KEYWORD = "한다람";
+    private static final String USER_ID_KEYWORD = "user12";
+
+    @Param({"1000000"})
+    public int articles;
+
+    @Param({"게시판질", "최적화"})
+    public String titleKeyword;
+
+    private ConfigurableApplicationContext context;
+    private ArticleRepository articleRepository;
+    private NgramIndex titleIndex;
+    private NgramIndex userIdIndex;
+    private NgramIndex nicknameIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(FastCampusProjectBoardApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.sql.init.mode=never",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.study.projectboard=info",
+                        "logging.level.org.springframework.web.servlet=info",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+                )
+                .run();
+        articleRepository = context.getBean(ArticleRepository.class);
+        titleIndex = new NgramIndex();
+        userIdIndex = new NgramIndex();
+        nicknameIndex = new NgramIndex();
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ArticleDto> titleLike() {
+        return articleRepository.findByTitleContaining(titleKeyword, FIRST_PAGE).map(ArticleDto::from).getContent();
+    }
+
+    @Benchmark
+    public List<ArticleDto> titleNgram() {
+        return load(titleIndex.search(titleKeyword, 0, FIRST_PAGE.getPageSize()));
+    }
+
+    @Benchmark
+    public List<ArticleDto> userIdLike() {
+        return articleRepository.findByUserAccount_UserIdContaining(USER_ID_KEYWORD, FIRST_PAGE).map(ArticleDto::from).getContent();
+    }
+
+    @Benchmark
+    public List<ArticleDto> userIdNgram() {
+        return load(userIdIndex.search(USER_ID_KEYWORD, 0, FIRST_PAGE.getPageSize()));
+    }
+
+    @Benchmark
+    public List<ArticleDto> nicknameLike() {
+        return articleRepository.findByUserAccount_NicknameContaining(NICKNAME_KEYWORD, FIRST_PAGE).map(ArticleDto::from).getContent();
+    }
+
+    @Benchmark
+    public List<ArticleDto> nicknameNgram() {
+        return load(nicknameIndex.search(NICKNAME_KEYWORD, 0, FIRST_PAGE.getPageSize()));
+    }
+
+    private List<ArticleDto> load(SearchHits hits) {
+        return articleRepository.findAllById(hits.articleIds()).stream().map(ArticleDto::from).toList();
+    }
+
+    // 고정 시드로 만든 게시글을 DB 와 색인에 똑같이 넣는다
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+        String[] userIds = new String[USERS];
+        String[] nicknames = new String[USERS];
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = "user" + i;
+            nicknames[i] = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + ANIMALS[random.nextInt(ANIMALS.length)] + i;
+            users.add(new Object[]{i + 1, userIds[i], nicknames[i], userIds[i] + "@mail.com"});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into user_account (id, user_id, user_password, nickname, email, created_at, created_by, modified_at, modified_by) values (?, ?, '{noop}benchmark', ?, ?, now(), 'bench', now(), 'bench')",
+                users
+        );
+
+        String sql = "insert into article (id, user_account_id, title, content, hashtag, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?, 'bench', ?, 'bench')";
+        for (int offset = 0; offset < articles; offset += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = offset; i < Math.min(offset + BATCH_SIZE, articles); i++) {
+                long id = i + 1L;
+                int user = random.nextInt(USERS);
+                String title = title(random);
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+                rows.add(new Object[]{id, user + 1, title, "synthetic content " + i, "#tag" + (i % 100), createdAt, createdAt});
+
+                titleIndex.put(id, title);
+                userIdIndex.put(id, userIds[user]);
+                nicknameIndex.put(id, nicknames[user]);
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    // 띄어쓰기가 있거나 없는 단어 3~6개
+    private static String title(Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 3 + random.nextInt(4);
+        for (int i = 0; i < words; i++) {
+            if (i > 0 && random.nextBoolean()) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.study.projectboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 관리자 설정. 관리자만 {@code /admin/**} 와 관리용 actuator 엔드포인트를 쓸 수 있다.
+ *
+ * @param userIds               관리자 권한을 줄 회원 ID
+ * @param maxConcurrentExports  동시에 돌 수 있는 게시판 내보내기 수. 내보내기 하나가 끝날 때까지 커넥션 하나를 잡는다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.admin")
+public record AdminProperties(
+        @DefaultValue List<String> userIds,
+        @DefaultValue("2") int maxConcurrentExports
+) {
+
+    public AdminProperties {
+        if (maxConcurrentExports < 1) {
+            throw new IllegalArgumentException("board.admin 설정이 올바르지 않습니다 - maxConcurrentExports: %d"
+                    .formatted(maxConcurrentExports));
+        }
+    }
+
+    public boolean isAdmin(String userId) {
+        return userIds.contains(userId);
+    }
+
+}
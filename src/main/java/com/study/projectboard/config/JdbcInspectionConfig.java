@@ -0,0 +1,64 @@
+package com.study.projectboard.config;
+
+import com.study.projectboard.metrics.JdbcInspectionProperties;
+import com.study.projectboard.metrics.JdbcInspector;
+import com.study.projectboard.metrics.JdbcUsageListener;
+import com.study.projectboard.metrics.SlowQueryLog;
+import com.study.projectboard.metrics.SlowQueryProperties;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 데이터소스를 datasource-proxy 로 감싸서 JDBC 문장 실행과 결과 셋 읽기를 센다.
+ * 요청별 지표({@link MetricsConfig}), N+1/문장 수 경고({@link JdbcInspector}), 느린 쿼리 기록({@link SlowQueryLog}),
+ * 테스트의 문장 수 예산이 모두 여기서 센 값을 쓴다.
+ * 결과 셋 행 수는 {@code board.jdbc.inspection.count-rows} 를 켰을 때만 센다.
+ * 지표 레지스트리가 없는 테스트 슬라이스에서도 가져다 쓸 수 있도록 {@link MetricsConfig} 와 나눠 둔다.
+ */
+@Configuration
+@EnableConfigurationProperties({JdbcInspectionProperties.class, SlowQueryProperties.class})
+public class JdbcInspectionConfig {
+
+    @Bean
+    public JdbcInspector jdbcInspector(JdbcInspectionProperties properties) {
+        return new JdbcInspector(properties);
+    }
+
+    @Bean
+    public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties);
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcUsageDataSourcePostProcessor(
+            ObjectProvider<JdbcInspectionProperties> properties,
+            ObjectProvider<JdbcInspector> jdbcInspector,
+            ObjectProvider<SlowQueryLog> slowQueryLog
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                JdbcUsageListener listener = new JdbcUsageListener(jdbcInspector.getObject(), slowQueryLog.getObject(), dataSource);
+                // 메서드 리스너는 커넥션의 트랜잭션 경계를 알아야 하므로 항상 붙인다. 결과 셋은 켰을 때만 감싼다
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .methodListener(listener);
+                if (properties.getObject().countRows()) {
+                    builder.proxyResultSet();
+                }
+                return builder.build();
+            }
+        };
+    }
+
+}
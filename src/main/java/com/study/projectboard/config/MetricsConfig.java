@@ -0,0 +1,32 @@
+package com.study.projectboard.config;
+
+import com.study.projectboard.metrics.JdbcInspectionProperties;
+import com.study.projectboard.metrics.JdbcUsageFilter;
+import com.study.projectboard.metrics.ServiceMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 애플리케이션 지표. 서비스 메소드 타이머, 요청별 JDBC 문장/행 수를 등록한다.
+ * JDBC 문장/행은 {@link JdbcInspectionConfig} 가 감싼 데이터소스에서 센다.
+ * 히스토그램과 SLO 구간은 {@code management.metrics.distribution} 설정에서 정한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<JdbcUsageFilter> jdbcUsageFilter(MeterRegistry meterRegistry, JdbcInspectionProperties properties) {
+        FilterRegistrationBean<JdbcUsageFilter> registration = new FilterRegistrationBean<>(new JdbcUsageFilter(meterRegistry, properties.countRows()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+}
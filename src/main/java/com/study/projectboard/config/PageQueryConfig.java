@@ -0,0 +1,38 @@
+package com.study.projectboard.config;
+
+import com.study.projectboard.service.ConcurrentPageQuery;
+import com.study.projectboard.service.PageQueryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 목록 내용/COUNT 쿼리를 동시에 실행할 {@link ConcurrentPageQuery}.
+ * 스레드 풀을 빈으로 등록하면 스프링 부트의 기본 작업 실행기({@code @Async})가 물러나므로 안에서만 만든다.
+ * 내용/COUNT 트랜잭션에는 각자 기다리는 시간만큼 제한 시간을 걸어서, 기다리다 포기한 쿼리가 DB 에서 계속 돌지 않게 한다.
+ * JDBC 제한 시간은 초 단위라 내림하되 최소 1초다.
+ */
+@Configuration
+@EnableConfigurationProperties(PageQueryProperties.class)
+public class PageQueryConfig {
+
+    @Bean
+    public ConcurrentPageQuery concurrentPageQuery(PlatformTransactionManager transactionManager, PageQueryProperties properties) {
+        return new ConcurrentPageQuery(
+                readOnlyTransaction(transactionManager, properties.contentTimeout()),
+                readOnlyTransaction(transactionManager, properties.countTimeout()),
+                properties);
+    }
+
+    private static TransactionTemplate readOnlyTransaction(PlatformTransactionManager transactionManager, Duration timeout) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout((int) Math.max(timeout.toSeconds(), 1));
+        return readOnlyTransaction;
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.study.projectboard.config;
+
+import com.study.projectboard.datasource.ReadWriteRoutingDataSource;
+import com.study.projectboard.datasource.ReplicaCacheBypassingJpaTransactionManager;
+import com.study.projectboard.datasource.ReplicaLagMonitor;
+import com.study.projectboard.datasource.ReplicaPool;
+import com.study.projectboard.datasource.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 읽기 전용 복제본이 설정되어 있으면({@code board.datasource.replicas[0].url}) 기본 데이터소스 대신
+ * 원본과 복제본 커넥션 풀을 묶은 {@link ReadWriteRoutingDataSource} 를 쓴다.
+ * 원본은 {@code spring.datasource.*} 설정으로 만든다.
+ * 복제본에서 읽은 행이 2차 캐시를 채우지 않도록 트랜잭션 매니저도 {@link ReplicaCacheBypassingJpaTransactionManager} 로 바꾼다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "board.datasource.replicas[0]", name = "url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaProperties properties) {
+        List<ReplicaPool> replicas = IntStream.range(0, properties.replicas().size())
+                .mapToObj(i -> {
+                    ReplicaProperties.Replica replica = properties.replicas().get(i);
+                    HikariDataSource dataSource = DataSourceBuilder.create()
+                            .type(HikariDataSource.class)
+                            .url(replica.url())
+                            .username(replica.username())
+                            .password(replica.password())
+                            .build();
+                    dataSource.setPoolName("replica-" + i);
+                    dataSource.setReadOnly(true);
+                    return new ReplicaPool("replica-" + i, dataSource);
+                })
+                .toList();
+        return new ReplicaLagMonitor(replicas, properties);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaLagMonitor replicaLagMonitor, ReplicaProperties properties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return new ReadWriteRoutingDataSource(primary, replicaLagMonitor.replicas(), properties.stickiness());
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new ReplicaCacheBypassingJpaTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.study.projectboard.config;
 
-import com.study.projectboard.dto.UserAccountDto;
 import com.study.projectboard.dto.security.BoardPrincipal;
-import com.study.projectboard.repository.UserAccountRepository;
+import com.study.projectboard.endpoint.HashtagCatalogEndpoint;
+import com.study.projectboard.endpoint.SlowQueryEndpoint;
+import com.study.projectboard.service.UserAccountCache;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,7 +18,10 @@ import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Set;
+
 @Configuration
+@EnableConfigurationProperties(AdminProperties.class)
 public class SecurityConfig {
 
     @Bean
@@ -31,6 +37,8 @@ public class SecurityConfig {
                                         "/articles",
                                         "/articles/search-hashtag"
                                 ).permitAll()
+                                .mvcMatchers("/admin/**").hasRole("ADMIN")
+                                .requestMatchers(EndpointRequest.to(SlowQueryEndpoint.class, HashtagCatalogEndpoint.class)).hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 )
                 .formLogin()
@@ -42,11 +50,12 @@ public class SecurityConfig {
     }
 
     @Bean
-    public UserDetailsService userDetailsService(UserAccountRepository userAccountRepository) {
-        return username -> userAccountRepository
-                .findByUserId(username)
-                .map(UserAccountDto::from)
-                .map(BoardPrincipal::from)
+    public UserDetailsService userDetailsService(UserAccountCache userAccountCache, AdminProperties adminProperties) {
+        return username -> userAccountCache
+                .get(username)
+                .map(dto -> BoardPrincipal.from(dto, adminProperties.isAdmin(dto.userId())
+                        ? Set.of(BoardPrincipal.RoleType.USER, BoardPrincipal.RoleType.ADMIN)
+                        : Set.of(BoardPrincipal.RoleType.USER)))
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다. username :" + username));
     }
 
@@ -3,13 +3,17 @@ package com.study.projectboard.controller;
 import com.study.projectboard.dto.UserAccountDto;
 import com.study.projectboard.dto.request.ArticleCommentRequest;
 import com.study.projectboard.dto.security.BoardPrincipal;
+import com.study.projectboard.response.ArticleCommentsResponse;
 import com.study.projectboard.service.ArticleCommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.time.LocalDateTime;
 
@@ -20,6 +24,15 @@ public class ArticleCommentController {
 
     private final ArticleCommentService articleCommentService;
 
+    // 상세 페이지의 "댓글 더 보기"가 다음 댓글 페이지를 불러가는 API
+    @ResponseBody
+    @GetMapping
+    public ArticleCommentsResponse articleComments(@RequestParam Long articleId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "" + ArticleCommentService.COMMENT_PAGE_SIZE) int size) {
+        return ArticleCommentsResponse.from(articleCommentService.searchArticleComments(articleId, cursor, size));
+    }
+
     @PostMapping("/new")
     public String postNewArticleComment(@AuthenticationPrincipal BoardPrincipal boardPrincipal,
                                         ArticleCommentRequest articleCommentRequest) {
@@ -1,25 +1,36 @@
 package com.study.projectboard.controller;
 
+import com.study.projectboard.domain.constant.ArticleFileFormat;
 import com.study.projectboard.domain.constant.FormStatus;
 import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.dto.ArticleCursor;
+import com.study.projectboard.dto.ArticleListDto;
+import com.study.projectboard.dto.CursorSlice;
 import com.study.projectboard.dto.UserAccountDto;
 import com.study.projectboard.dto.request.ArticleRequest;
 import com.study.projectboard.dto.security.BoardPrincipal;
+import com.study.projectboard.response.ArticleImportResponse;
 import com.study.projectboard.response.ArticleResponse;
 import com.study.projectboard.response.ArticleWithCommentsResponse;
+import com.study.projectboard.service.ArticleImportService;
 import com.study.projectboard.service.ArticleService;
 import com.study.projectboard.service.PaginationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.OptionalLong;
 
 @RequiredArgsConstructor
 @Controller
@@ -28,18 +39,36 @@ public class ArticleController {
 
     private final ArticleService articleService;
     private final PaginationService paginationService;
+    private final ArticleImportService articleImportService;
 
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             ModelMap map) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> paginationBarNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+        map.addAttribute("searchTypes", SearchType.values());
+
+        if (cursor != null && !cursor.isBlank()) {
+            CursorSlice<ArticleResponse> articles = articleService.searchArticlesByCursor(searchType, searchValue, cursor, pageable).map(ArticleResponse::from);
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", List.of());
+            map.addAttribute("cursorMode", true);
+            return "articles/index";
+        }
+
+        Slice<ArticleListDto> articleDtos = articleService.searchArticleSlice(searchType, searchValue, pageable);
+        Slice<ArticleResponse> articles = articleDtos.map(ArticleResponse::from);
+        int totalPages = articles instanceof Page<ArticleResponse> page
+                ? page.getTotalPages()
+                : estimateTotalPages(articles, articleService.getCachedArticleCount(searchType, searchValue), pageable);
+        List<Integer> paginationBarNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), totalPages);
         map.addAttribute("articles", articles);
         map.addAttribute("paginationBarNumbers", paginationBarNumbers);
-        map.addAttribute("searchTypes", SearchType.values());
+        map.addAttribute("cursorMode", false);
+        map.addAttribute("nextCursor", nextCursorOf(articleDtos, pageable));
+        map.addAttribute("offsetPageLimit", paginationService.offsetPageLimit());
         return "articles/index";
     }
 
@@ -62,11 +91,15 @@ public class ArticleController {
             ModelMap map)
     {
 
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> paginationBarNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+        Slice<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+        int totalPages = articles instanceof Page<ArticleResponse> page
+                ? page.getTotalPages()
+                : estimateTotalPages(articles, articleService.getCachedArticleCount(SearchType.HASHTAG, searchValue), pageable);
+        List<Integer> paginationBarNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), totalPages);
         List<String> hashtags = articleService.getHashtags();
         map.addAttribute("articles", articles);
         map.addAttribute("hashtags", hashtags);
+        map.addAttribute("trendingHashtags", articleService.getTrendingHashtags());
         map.addAttribute("paginationBarNumbers", paginationBarNumbers);
         map.addAttribute("searchType", SearchType.HASHTAG);
 
@@ -87,6 +120,19 @@ public class ArticleController {
         return "redirect:/articles";
     }
 
+    /**
+     * 요청 본문(CSV 또는 NDJSON)을 메모리에 모으지 않고 읽으면서 로그인한 회원의 게시글로 저장한다.
+     * CSV 는 첫 줄이 헤더(title,content,hashtag)여야 한다.
+     */
+    @ResponseBody
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ArticleImportResponse importArticles(@AuthenticationPrincipal BoardPrincipal boardPrincipal,
+                                                @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                InputStream body) {
+        ArticleFileFormat format = ArticleFileFormat.from(contentType).orElseThrow();
+        return ArticleImportResponse.from(articleImportService.importArticles(body, format, boardPrincipal.getUsername()));
+    }
+
     @GetMapping("/{articleId}/form")
     public String updateArticleForm(@PathVariable Long articleId, ModelMap map) {
         ArticleResponse article = ArticleResponse.from(articleService.getArticle(articleId));
@@ -115,4 +161,26 @@ public class ArticleController {
         return "redirect:/articles";
     }
 
+    // 캐시된 전체 개수가 없으면, 지금까지 확인된 페이지(다음 페이지 존재 여부)까지만 보여준다.
+    private int estimateTotalPages(Slice<?> articles, OptionalLong totalCount, Pageable pageable) {
+        int knownPages = pageable.getPageNumber() + (articles.hasNext() ? 2 : 1);
+        if (totalCount.isEmpty()) {
+            return knownPages;
+        }
+        int cachedPages = (int) Math.ceil((double) totalCount.getAsLong() / pageable.getPageSize());
+        return Math.max(cachedPages, knownPages);
+    }
+
+    // 마지막 행 기준으로 커서를 만들어 두면, 깊은 페이지부터는 OFFSET 없이 이어서 조회할 수 있다.
+    private String nextCursorOf(Slice<ArticleListDto> articles, Pageable pageable) {
+        // 서비스가 커서로 이어서 조회할 때와 같은 정렬 기준으로 만든다
+        Sort.Order order = ArticleCursor.orderOf(pageable.getSort());
+        // 검색 인덱스 결과(Page)는 관련도 순이라 커서로 이어갈 수 없다
+        if (articles instanceof Page || !articles.hasNext() || !articles.hasContent()) {
+            return null;
+        }
+        List<ArticleListDto> content = articles.getContent();
+        return ArticleCursor.from(content.get(content.size() - 1), order, false).encode();
+    }
+
 }
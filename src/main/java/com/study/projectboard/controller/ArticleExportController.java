@@ -0,0 +1,52 @@
+package com.study.projectboard.controller;
+
+import com.study.projectboard.config.AdminProperties;
+import com.study.projectboard.service.ArticleExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 관리자용 게시판 내보내기. 내보내기 하나가 끝날 때까지 읽기 전용 트랜잭션과 커넥션 하나를 잡으므로,
+ * 동시에 {@link AdminProperties#maxConcurrentExports()} 개까지만 돌리고 넘으면 429 로 거절한다.
+ */
+@Controller
+@RequestMapping("/admin/articles")
+public class ArticleExportController {
+
+    private final ArticleExportService articleExportService;
+    private final Semaphore exports;
+
+    public ArticleExportController(ArticleExportService articleExportService, AdminProperties adminProperties) {
+        this.articleExportService = articleExportService;
+        this.exports = new Semaphore(adminProperties.maxConcurrentExports());
+    }
+
+    /**
+     * 게시글과 댓글 전체를 NDJSON 으로 응답 스트림에 바로 쓴다. 한 줄이 게시글 또는 댓글 하나다.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public void exportArticles(HttpServletResponse response) throws IOException {
+        if (!exports.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "이미 진행 중인 내보내기가 많습니다. 잠시 후 다시 시도하세요");
+        }
+        try {
+            response.setContentType("application/x-ndjson");
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("board.ndjson").build().toString());
+            articleExportService.exportAll(response.getOutputStream());
+        } finally {
+            exports.release();
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.study.projectboard.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션({@code @Transactional(readOnly = true)})은 복제본으로, 나머지는 원본으로 보내는 데이터소스.
+ * <p>
+ * 트랜잭션 매니저는 읽기 전용 여부를 표시하기 전에 커넥션부터 얻으므로, {@link LazyConnectionDataSourceProxy} 로
+ * 실제 커넥션을 첫 문장을 실행할 때까지 미룬 다음 고른다.
+ * 복제본은 복제 지연이 허용치 안인 것({@link ReplicaPool#isAvailable()}) 중에서 돌아가며 고르고, 하나도 없으면 원본으로 보낸다.
+ * 쓰기 트랜잭션을 커밋한 회원은 {@link ReplicaProperties#stickiness()} 동안 읽기도 원본으로 보내서 방금 쓴 글이 바로 보이게 한다.
+ * 트랜잭션 밖에서 얻는 커넥션은 모두 원본이다.
+ * <p>
+ * 캐시를 채우는 조회는 {@link #readFromPrimary} 안에서 실행한다. 복제본에서 읽으면 무효화 직후에 지연된 행을 다시 캐시할 수 있어서다.
+ */
+public class ReadWriteRoutingDataSource extends DelegatingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> READ_FROM_PRIMARY = ThreadLocal.withInitial(() -> false);
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaPool> replicas, Duration stickiness) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickiness)
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return route();
+            }
+        };
+        router.setTargetDataSources(targets);
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        setTargetDataSource(new LazyConnectionDataSourceProxy(router));
+    }
+
+    /**
+     * {@code query} 안에서 여는 읽기 전용 트랜잭션을 복제본 대신 원본으로 보낸다.
+     */
+    public static <T> T readFromPrimary(Supplier<T> query) {
+        boolean outer = READ_FROM_PRIMARY.get();
+        READ_FROM_PRIMARY.set(true);
+        try {
+            return query.get();
+        } finally {
+            READ_FROM_PRIMARY.set(outer);
+        }
+    }
+
+    public static boolean isReadingFromPrimary() {
+        return READ_FROM_PRIMARY.get();
+    }
+
+    /**
+     * 지금 실제 커넥션을 얻는다면 보낼 곳. {@link #PRIMARY} 또는 복제본 이름이다.
+     */
+    String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriterOnCommit();
+            return PRIMARY;
+        }
+        if (isReadingFromPrimary()) {
+            return PRIMARY;
+        }
+        if (currentUserId().map(recentWriters::getIfPresent).isPresent()) {
+            return PRIMARY;
+        }
+        List<ReplicaPool> available = replicas.stream()
+                .filter(ReplicaPool::isAvailable)
+                .toList();
+        if (available.isEmpty()) {
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(next.getAndIncrement(), available.size())).name();
+    }
+
+    @Override
+    public void close() {
+        for (ReplicaPool replica : replicas) {
+            try {
+                replica.close();
+            } catch (Exception e) {
+                // 닫는 중 실패는 무시한다
+            }
+        }
+        if (primary instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                // 닫는 중 실패는 무시한다
+            }
+        }
+    }
+
+    private void rememberWriterOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        currentUserId().ifPresent(userId -> TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        }));
+    }
+
+    private static Optional<String> currentUserId() {
+        return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+                .filter(Authentication::isAuthenticated)
+                .filter(authentication -> !(authentication instanceof AnonymousAuthenticationToken))
+                .map(Authentication::getName);
+    }
+
+}
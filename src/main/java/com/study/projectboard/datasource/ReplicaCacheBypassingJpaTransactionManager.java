@@ -0,0 +1,40 @@
+package com.study.projectboard.datasource;
+
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.CacheStoreMode;
+
+/**
+ * 복제본으로 갈 수 있는 읽기 전용 트랜잭션에서는 Hibernate 2차 캐시와 쿼리 캐시에 넣지 않는 트랜잭션 매니저.
+ * 복제본에서 읽은 지연된 행이 무효화된 캐시를 다시 채우지 않게 한다. 캐시에서 꺼내 읽는 것은 그대로다.
+ * {@link ReadWriteRoutingDataSource#readFromPrimary} 안이거나 쓰기 트랜잭션이면 평소처럼 캐시에 넣는다.
+ */
+public class ReplicaCacheBypassingJpaTransactionManager extends JpaTransactionManager {
+
+    private static final String STORE_MODE = "javax.persistence.cache.storeMode";
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly() && !ReadWriteRoutingDataSource.isReadingFromPrimary()) {
+            setStoreMode(CacheStoreMode.BYPASS);
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        // 트랜잭션 전부터 묶여 있던 엔티티 매니저는 트랜잭션이 끝나도 계속 쓰이므로 되돌린다
+        setStoreMode(CacheStoreMode.USE);
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private void setStoreMode(CacheStoreMode storeMode) {
+        if (TransactionSynchronizationManager.getResource(obtainEntityManagerFactory()) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().setProperty(STORE_MODE, storeMode);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.study.projectboard.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+/**
+ * 복제본마다 복제 지연을 주기적으로 잰다. 시작하자마자 한 번 재고, 그 전까지는 모든 읽기가 원본으로 간다.
+ */
+@RequiredArgsConstructor
+public class ReplicaLagMonitor {
+
+    private final List<ReplicaPool> replicas;
+    private final ReplicaProperties properties;
+
+    public List<ReplicaPool> replicas() {
+        return replicas;
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.lag-check-interval:5000}")
+    public void checkLag() {
+        replicas.forEach(replica -> replica.checkLag(properties.lagQuery(), properties.maxLag()));
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.study.projectboard.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 복제본 커넥션 풀 하나와 최근에 잰 복제 지연. 지연이 허용치 안일 때만 읽기를 받는다.
+ * 아직 재지 않았거나, 재다가 실패했거나, 복제가 멈춰 있으면(지연 값이 없으면) 받지 않는다.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available;
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * {@code lagQuery} 로 복제 지연을 재서 {@code maxLag} 이하면 읽기를 받는다.
+     */
+    public void checkLag(String lagQuery, Duration maxLag) {
+        boolean wasAvailable = available;
+        Double lagSeconds = null;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (resultSet.next()) {
+                Object value = resultSet.getObject(lagColumn(resultSet));
+                lagSeconds = value == null ? null : Double.valueOf(value.toString());
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("복제 지연을 재지 못했습니다 - replica: {}, {}", name, e.getLocalizedMessage());
+        }
+
+        available = lagSeconds != null && lagSeconds * 1_000 <= maxLag.toMillis();
+        if (available != wasAvailable) {
+            log.info("복제본 {} - replica: {}, lag: {}s", available ? "읽기 재개" : "읽기 중단", name, lagSeconds);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static int lagColumn(ResultSet resultSet) {
+        for (String column : LAG_COLUMNS) {
+            try {
+                return resultSet.findColumn(column);
+            } catch (SQLException e) {
+                // 다음 이름으로
+            }
+        }
+        return 1;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.study.projectboard.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 설정. 복제본을 하나라도 적으면 {@link ReadWriteRoutingDataSource} 가 켜진다.
+ *
+ * @param replicas    복제본 접속 정보. 드라이버는 URL 로 정한다.
+ * @param maxLag      복제 지연이 이보다 크면 그 복제본으로 보내지 않는다
+ * @param stickiness  쓰기 트랜잭션을 커밋한 회원의 읽기를 이 시간 동안 원본으로 보낸다(read-your-writes)
+ * @param lagQuery    복제 지연(초)을 알아내는 쿼리. {@code Seconds_Behind_Source} 컬럼이 있으면 그 값을, 없으면 첫 번째 컬럼을 쓴다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.datasource")
+public record ReplicaProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("1s") Duration maxLag,
+        @DefaultValue("5s") Duration stickiness,
+        @DefaultValue("show replica status") String lagQuery
+) {
+
+    public ReplicaProperties {
+        if (maxLag.isNegative() || stickiness.isNegative() || lagQuery.isBlank()) {
+            throw new IllegalArgumentException("board.datasource 설정이 올바르지 않습니다 - maxLag: %s, stickiness: %s, lagQuery: %s"
+                    .formatted(maxLag, stickiness, lagQuery));
+        }
+    }
+
+    public record Replica(String url, String username, String password) {
+    }
+
+}
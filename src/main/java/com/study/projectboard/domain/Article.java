@@ -1,8 +1,11 @@
 package com.study.projectboard.domain;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -17,11 +20,14 @@ import java.util.Set;
         @Index(columnList = "createdBy")
 
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 public class Article extends AuditingFields {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "article_id")
+    @TableGenerator(name = "article_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "article", allocationSize = 100)
     private Long id;
 
     @Setter
@@ -37,10 +43,20 @@ public class Article extends AuditingFields {
     private String content; // 내용
 
     @Setter
-    private String hashtag; // 해시태그
+    private String hashtag; // 해시태그 (입력한 그대로)
+
+    @ToString.Exclude
+    @JoinTable(
+            name = "article_hashtag",
+            joinColumns = @JoinColumn(name = "articleId"),
+            inverseJoinColumns = @JoinColumn(name = "hashtagId")
+    )
+    @ManyToMany
+    private final Set<Hashtag> hashtags = new LinkedHashSet<>(); // 해시태그 필드와 본문에서 뽑은 해시태그
 
     @ToString.Exclude
     @OrderBy("createdAt DESC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "article", cascade = CascadeType.ALL)
     private final Set<ArticleComment> articleComments = new LinkedHashSet<>();
 
@@ -55,6 +71,14 @@ public class Article extends AuditingFields {
         return new Article(userAccount, title, content, hashtag);
     }
 
+    public void addHashtags(Collection<Hashtag> hashtags) {
+        this.hashtags.addAll(hashtags);
+    }
+
+    public void clearHashtags() {
+        this.hashtags.clear();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,72 @@
+package com.study.projectboard.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+@Getter
+@ToString(callSuper = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(columnList = "hashtagName", unique = true),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdBy")
+})
+@Entity
+public class Hashtag extends AuditingFields {
+
+    public static final int MAX_NAME_LENGTH = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "hashtag_id")
+    @TableGenerator(name = "hashtag_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "hashtag", allocationSize = 100)
+    private Long id;
+
+    @ToString.Exclude
+    @ManyToMany(mappedBy = "hashtags")
+    private final Set<Article> articles = new LinkedHashSet<>();
+
+    @Column(nullable = false, length = MAX_NAME_LENGTH)
+    private String hashtagName; // '#' 없이 소문자로 정규화한 이름
+
+    @Column(nullable = false)
+    private long articleCount; // 이 해시태그가 달린 게시글 수. 게시글 저장/수정/삭제 시 함께 갱신한다.
+
+    private Hashtag(String hashtagName) {
+        this.hashtagName = hashtagName;
+    }
+
+    public static Hashtag of(String hashtagName) {
+        return new Hashtag(normalizeName(hashtagName));
+    }
+
+    /**
+     * '#java', 'Java', ' #JAVA ' 를 모두 같은 이름('java')으로 만든다. 이름이 없으면 빈 문자열을 리턴한다.
+     */
+    public static String normalizeName(String hashtag) {
+        if (hashtag == null) {
+            return "";
+        }
+        String name = hashtag.strip();
+        while (name.startsWith("#")) {
+            name = name.substring(1);
+        }
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Hashtag hashtag)) return false;
+        return id != null && id.equals(hashtag.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,29 @@
+package com.study.projectboard.domain.constant;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 게시글 가져오기에 쓰는 파일 형식. 한 행(줄)이 게시글 하나다.
+ */
+public enum ArticleFileFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson"),
+    ;
+
+    @Getter
+    private final MediaType mediaType;
+
+    ArticleFileFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public static Optional<ArticleFileFormat> from(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(mediaType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,53 @@
+package com.study.projectboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 댓글 키셋 페이지네이션 커서. 댓글은 항상 최신순((createdAt, id) 내림차순)이므로 마지막으로 본 댓글의 위치만 담는다.
+ */
+public record ArticleCommentCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "\n";
+
+    public ArticleCommentCursor {
+        Objects.requireNonNull(createdAt);
+        Objects.requireNonNull(id);
+    }
+
+    public static ArticleCommentCursor of(LocalDateTime createdAt, Long id) {
+        return new ArticleCommentCursor(createdAt, id);
+    }
+
+    /**
+     * 주어진 댓글 바로 다음(더 오래된) 댓글을 가리키는 커서를 만든다.
+     */
+    public static ArticleCommentCursor from(ArticleCommentDto dto) {
+        return new ArticleCommentCursor(dto.createdAt(), dto.id());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+     */
+    public static ArticleCommentCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = raw.split(DELIMITER, 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("잘못된 커서입니다 - cursor: " + token);
+        }
+        try {
+            return new ArticleCommentCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다 - cursor: " + token, e);
+        }
+    }
+
+}
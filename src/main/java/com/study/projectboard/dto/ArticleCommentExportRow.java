@@ -0,0 +1,29 @@
+package com.study.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 내보내기(NDJSON) 한 줄. 게시글 줄과 구분할 수 있도록 {@code type} 이 "comment" 이다.
+ * 쿼리에서 바로 만드는 프로젝션이라 댓글, 게시글 엔티티는 불러오지 않는다.
+ */
+public record ArticleCommentExportRow(
+        String type,
+        Long id,
+        Long articleId,
+        String userId,
+        String nickname,
+        String content,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+
+    public static final String TYPE = "comment";
+
+    // JPQL 생성자 표현식용
+    public ArticleCommentExportRow(Long id, Long articleId, String userId, String nickname, String content, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
+        this(TYPE, id, articleId, userId, nickname, content, createdAt, createdBy, modifiedAt, modifiedBy);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.study.projectboard.dto;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 게시글 키셋(seek) 페이지네이션 커서.
+ * (정렬 키 값, id) 쌍을 기준으로 다음/이전 페이지를 찾으며, 클라이언트에는 불투명한 토큰으로만 노출한다.
+ */
+public record ArticleCursor(
+        String property,
+        Sort.Direction direction,
+        String value,
+        Long id,
+        boolean backward
+) {
+
+    public static final Set<String> SORT_PROPERTIES = Set.of("createdAt", "title", "hashtag", "userAccount.userId");
+    public static final Sort.Order DEFAULT_ORDER = Sort.Order.desc("createdAt");
+
+    private static final String DELIMITER = "\n";
+
+    public ArticleCursor {
+        if (!SORT_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("커서를 지원하지 않는 정렬 기준입니다 - property: " + property);
+        }
+        Objects.requireNonNull(direction);
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(id);
+    }
+
+    public static ArticleCursor of(String property, Sort.Direction direction, String value, Long id, boolean backward) {
+        return new ArticleCursor(property, direction, value, id, backward);
+    }
+
+    /**
+     * 주어진 게시글 바로 다음(backward 면 바로 이전) 위치를 가리키는 커서를 만든다.
+     */
+    public static ArticleCursor from(ArticleListDto dto, Sort.Order order, boolean backward) {
+        String value = switch (order.getProperty()) {
+            case "title" -> dto.title();
+            case "hashtag" -> Objects.requireNonNullElse(dto.hashtag(), "");
+            case "userAccount.userId" -> dto.userId();
+            default -> String.valueOf(dto.createdAt());
+        };
+        return new ArticleCursor(order.getProperty(), order.getDirection(), value, dto.id(), backward);
+    }
+
+    /**
+     * 요청 정렬 중 커서가 지원하는 첫 번째 정렬 기준을 고른다. 없으면 최신순.
+     */
+    public static Sort.Order orderOf(Sort sort) {
+        return sort.stream()
+                .filter(order -> SORT_PROPERTIES.contains(order.getProperty()))
+                .findFirst()
+                .orElse(DEFAULT_ORDER);
+    }
+
+    public Sort.Order order() {
+        return new Sort.Order(direction, property);
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, property, direction.name(), backward ? "prev" : "next", String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+     */
+    public static ArticleCursor decode(String token) {
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        String[] parts = raw.split(DELIMITER, 5);
+        if (parts.length != 5) {
+            throw new IllegalArgumentException("잘못된 커서입니다 - cursor: " + token);
+        }
+        if ("createdAt".equals(parts[0])) {
+            try {
+                LocalDateTime.parse(parts[4]);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다 - cursor: " + token, e);
+            }
+        }
+
+        return new ArticleCursor(
+                parts[0],
+                Sort.Direction.fromString(parts[1]),
+                parts[4],
+                Long.valueOf(parts[3]),
+                "prev".equals(parts[2])
+        );
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.study.projectboard.dto;
+
+import com.study.projectboard.domain.Article;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 내보내기(NDJSON) 한 줄. 댓글 줄과 구분할 수 있도록 {@code type} 이 "article" 이다.
+ */
+public record ArticleExportRow(
+        String type,
+        Long id,
+        String userId,
+        String nickname,
+        String title,
+        String content,
+        String hashtag,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy
+) {
+
+    public static final String TYPE = "article";
+
+    public static ArticleExportRow from(Article entity) {
+        return new ArticleExportRow(
+                TYPE,
+                entity.getId(),
+                entity.getUserAccount().getUserId(),
+                entity.getUserAccount().getNickname(),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtag(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy()
+        );
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.study.projectboard.dto;
+
+/**
+ * 게시글 가져오기 결과.
+ * 중간에 실패하면 {@code error} 에 이유가 담기고, 그 전까지 커밋된 배치의 게시글만 {@code imported} 에 센다.
+ */
+public record ArticleImportResult(
+        long imported,
+        long skipped,
+        int batches,
+        long elapsedMillis,
+        String error
+) {
+
+    public static ArticleImportResult of(long imported, long skipped, int batches, long elapsedMillis, String error) {
+        return new ArticleImportResult(imported, skipped, batches, elapsedMillis, error);
+    }
+
+    public long rowsPerSecond() {
+        return elapsedMillis == 0 ? imported : imported * 1_000 / elapsedMillis;
+    }
+
+    public boolean completed() {
+        return error == null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.study.projectboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 줄. 목록 화면에 필요한 컬럼만 조회(프로젝션)해서 담으므로, 본문과 작성자 엔티티는 불러오지 않는다.
+ */
+public record ArticleListDto(
+        Long id,
+        String title,
+        String hashtag,
+        LocalDateTime createdAt,
+        String userId,
+        String nickname
+) {
+
+    public static ArticleListDto of(Long id, String title, String hashtag, LocalDateTime createdAt, String userId, String nickname) {
+        return new ArticleListDto(id, title, hashtag, createdAt, userId, nickname);
+    }
+
+}
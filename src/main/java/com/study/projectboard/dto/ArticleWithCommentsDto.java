@@ -5,7 +5,6 @@ import com.study.projectboard.domain.Article;
 import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public record ArticleWithCommentsDto(
         Long id,
@@ -17,26 +16,29 @@ public record ArticleWithCommentsDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        String nextCommentCursor // 댓글 다음 페이지 커서. 더 없으면 null
 ) {
     public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, String hashtag, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtag, createdAt, createdBy, modifiedAt, modifiedBy, null);
     }
 
-    public static ArticleWithCommentsDto from(Article entity) {
+    /**
+     * 게시글 전체 댓글 대신, 따로 조회한 댓글 첫 페이지를 담는다.
+     */
+    public static ArticleWithCommentsDto from(Article entity, CursorSlice<ArticleCommentDto> articleComments) {
         return new ArticleWithCommentsDto(
                 entity.getId(),
                 UserAccountDto.from(entity.getUserAccount()),
-                entity.getArticleComments().stream()
-                        .map(ArticleCommentDto::from)
-                        .collect(Collectors.toCollection(LinkedHashSet::new)),
+                new LinkedHashSet<>(articleComments.getContent()),
                 entity.getTitle(),
                 entity.getContent(),
                 entity.getHashtag(),
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                articleComments.getNextCursor()
         );
     }
 
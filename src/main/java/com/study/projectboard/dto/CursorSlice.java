@@ -0,0 +1,35 @@
+package com.study.projectboard.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 다음/이전 페이지 커서를 함께 담는 {@link org.springframework.data.domain.Slice}
+ */
+@Getter
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+    private final String previousCursor;
+
+    public CursorSlice(List<T> content, Pageable pageable, String nextCursor, String previousCursor) {
+        super(content, pageable, nextCursor != null);
+        this.nextCursor = nextCursor;
+        this.previousCursor = previousCursor;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+
+    @Override
+    public <U> CursorSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new CursorSlice<>(getConvertedContent(converter), getPageable(), nextCursor, previousCursor);
+    }
+
+}
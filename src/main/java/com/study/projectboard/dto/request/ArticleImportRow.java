@@ -0,0 +1,25 @@
+package com.study.projectboard.dto.request;
+
+/**
+ * 게시글 가져오기 파일의 한 행. CSV 는 헤더의 컬럼 이름으로, NDJSON 은 필드 이름으로 맞춘다.
+ */
+public record ArticleImportRow(String title, String content, String hashtag) {
+
+    // Article 컬럼 길이
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 10_000;
+    private static final int MAX_HASHTAG_LENGTH = 255;
+
+    public static ArticleImportRow of(String title, String content, String hashtag) {
+        return new ArticleImportRow(title, content, hashtag);
+    }
+
+    /**
+     * 제목과 본문이 있고 컬럼 길이를 넘지 않는 행만 저장할 수 있다
+     */
+    public boolean isValid() {
+        return title != null && !title.isBlank() && title.length() <= MAX_TITLE_LENGTH
+                && content != null && !content.isBlank() && content.length() <= MAX_CONTENT_LENGTH
+                && (hashtag == null || hashtag.length() <= MAX_HASHTAG_LENGTH);
+    }
+}
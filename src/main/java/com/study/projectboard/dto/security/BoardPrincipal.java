@@ -20,9 +20,10 @@ public record BoardPrincipal(
 ) implements UserDetails {
 
     public static BoardPrincipal of(String username, String password, String email, String nickname, String memo) {
+        return of(username, password, email, nickname, memo, Set.of(RoleType.USER));
+    }
 
-        Set<RoleType> roleTypes = Set.of(RoleType.USER);
-
+    public static BoardPrincipal of(String username, String password, String email, String nickname, String memo, Set<RoleType> roleTypes) {
         return new BoardPrincipal(
                 username,
                 password,
@@ -37,12 +38,17 @@ public record BoardPrincipal(
     }
 
     public static BoardPrincipal from(UserAccountDto dto) {
+        return from(dto, Set.of(RoleType.USER));
+    }
+
+    public static BoardPrincipal from(UserAccountDto dto, Set<RoleType> roleTypes) {
         return BoardPrincipal.of(
                 dto.userId(),
                 dto.userPassword(),
                 dto.email(),
                 dto.nickname(),
-                dto.memo()
+                dto.memo(),
+                roleTypes
         );
     }
 
@@ -94,7 +100,8 @@ public record BoardPrincipal(
     }
 
     public enum RoleType {
-        USER("ROLE_USER");
+        USER("ROLE_USER"),
+        ADMIN("ROLE_ADMIN");
 
         @Getter
         private final String name;
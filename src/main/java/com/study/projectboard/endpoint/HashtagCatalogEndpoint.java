@@ -0,0 +1,41 @@
+package com.study.projectboard.endpoint;
+
+import com.study.projectboard.service.HashtagCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 해시태그 카탈로그 상태 조회({@code GET /actuator/hashtagcatalog})와 강제 재로딩({@code POST /actuator/hashtagcatalog}). 관리자만 호출할 수 있다.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "hashtagcatalog")
+public class HashtagCatalogEndpoint {
+
+    private final HashtagCatalog hashtagCatalog;
+
+    @ReadOperation
+    public CatalogStatus status() {
+        return CatalogStatus.of(hashtagCatalog);
+    }
+
+    @WriteOperation
+    public CatalogStatus rebuild() {
+        hashtagCatalog.rebuild();
+        return CatalogStatus.of(hashtagCatalog);
+    }
+
+
+    public record CatalogStatus(boolean loaded, int size, Instant lastRebuiltAt) {
+        static CatalogStatus of(HashtagCatalog catalog) {
+            long lastRebuiltAt = catalog.lastRebuiltAt();
+            return new CatalogStatus(catalog.isLoaded(), catalog.size(), lastRebuiltAt == 0 ? null : Instant.ofEpochMilli(lastRebuiltAt));
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.study.projectboard.endpoint;
+
+import com.study.projectboard.metrics.SlowQueryLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 느린 쿼리 조회({@code GET /actuator/slowqueries})와 비우기({@code DELETE /actuator/slowqueries})
+ * <p>
+ * 모양별 횟수/합계/최대 시간과 실행 계획, 최근 느린 쿼리와 바인드 값을 보여준다. 관리자만 쓸 수 있다.
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public SlowQueryReport report() {
+        return SlowQueryReport.of(slowQueryLog);
+    }
+
+    @DeleteOperation
+    public SlowQueryReport clear() {
+        slowQueryLog.clear();
+        return SlowQueryReport.of(slowQueryLog);
+    }
+
+
+    public record SlowQueryReport(long thresholdMillis, List<SlowQueryLog.ShapeSummary> shapes, List<SlowQueryLog.SlowQuery> recent) {
+        static SlowQueryReport of(SlowQueryLog slowQueryLog) {
+            return new SlowQueryReport(slowQueryLog.thresholdMillis(), slowQueryLog.shapes(), slowQueryLog.recent());
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.study.projectboard.event;
+
+/**
+ * 댓글 생성/수정/삭제 이벤트. 어떤 게시글의 댓글이 바뀌었는지만 알린다.
+ * {@link ArticleEvent} 처럼 트랜잭션 커밋 이후에 받아서 파생 데이터를 갱신하는 데 사용한다.
+ */
+public record ArticleCommentEvent(Long articleId) {
+
+    public static ArticleCommentEvent of(Long articleId) {
+        return new ArticleCommentEvent(articleId);
+    }
+
+}
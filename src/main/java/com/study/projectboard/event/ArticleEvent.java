@@ -0,0 +1,45 @@
+package com.study.projectboard.event;
+
+import com.study.projectboard.dto.ArticleDto;
+
+import java.util.Set;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트.
+ * 트랜잭션 커밋 이후({@link org.springframework.transaction.event.TransactionalEventListener})에 받아서
+ * 캐시나 인덱스처럼 DB 밖에 있는 파생 데이터를 갱신하는 데 사용한다.
+ *
+ * @param hashtagNames 새 게시글에 달린 해시태그 이름. 회원이 쓴 게시글의 생성 이벤트에만 채우고, 지금 뜨는 해시태그에 반영한다.
+ */
+public record ArticleEvent(
+        Type type,
+        Long articleId,
+        ArticleDto article,
+        Set<String> hashtagNames
+) {
+
+    public ArticleEvent(Type type, Long articleId, ArticleDto article) {
+        this(type, articleId, article, Set.of());
+    }
+
+    public static ArticleEvent created(ArticleDto article) {
+        return new ArticleEvent(Type.CREATED, article.id(), article);
+    }
+
+    public static ArticleEvent created(ArticleDto article, Set<String> hashtagNames) {
+        return new ArticleEvent(Type.CREATED, article.id(), article, Set.copyOf(hashtagNames));
+    }
+
+    public static ArticleEvent updated(ArticleDto article) {
+        return new ArticleEvent(Type.UPDATED, article.id(), article);
+    }
+
+    public static ArticleEvent deleted(Long articleId) {
+        return new ArticleEvent(Type.DELETED, articleId, null);
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.study.projectboard.event;
+
+import java.util.List;
+
+/**
+ * 해시태그별 게시글 수가 바뀌었다는 이벤트. 커밋 이후에 해시태그 카탈로그 같은 메모리 캐시에 반영한다.
+ */
+public record HashtagCountEvent(
+        List<String> hashtagNames,
+        long delta
+) {
+}
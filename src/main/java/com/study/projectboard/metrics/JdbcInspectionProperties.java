@@ -0,0 +1,35 @@
+package com.study.projectboard.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청/트랜잭션별 JDBC 문장 수 점검 설정. {@link JdbcInspector} 가 쓴다.
+ *
+ * @param warn               문장 수를 넘거나 N+1 이 의심되면 경고 로그를 남길지
+ * @param statementBudget    요청이나 트랜잭션 하나가 실행해도 되는 문장 수
+ * @param nPlusOneThreshold  같은 모양의 select 를 이 횟수만큼 실행하면 N+1 로 본다
+ * @param sampleRate         걸린 것 중 로그로 남길 비율(0 ~ 1). 호출 위치 스택을 뜨는 비용을 줄인다.
+ * @param stackDepth         로그에 남길 애플리케이션 스택 프레임 수
+ * @param countRows          결과 셋을 감싸서 요청마다 읽은 행 수를 셀지. 행마다 프록시 호출이 붙으므로 기본은 끈다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.jdbc.inspection")
+public record JdbcInspectionProperties(
+        @DefaultValue("true") boolean warn,
+        @DefaultValue("50") int statementBudget,
+        @DefaultValue("10") int nPlusOneThreshold,
+        @DefaultValue("0.1") double sampleRate,
+        @DefaultValue("10") int stackDepth,
+        @DefaultValue("false") boolean countRows
+) {
+
+    public JdbcInspectionProperties {
+        if (statementBudget < 1 || nPlusOneThreshold < 2 || sampleRate < 0 || sampleRate > 1 || stackDepth < 1) {
+            throw new IllegalArgumentException("board.jdbc.inspection 설정이 올바르지 않습니다 - statementBudget: %d, nPlusOneThreshold: %d, sampleRate: %s, stackDepth: %d"
+                    .formatted(statementBudget, nPlusOneThreshold, sampleRate, stackDepth));
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.study.projectboard.metrics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 실행한 JDBC 문장을 요청({@link JdbcUsage})과 트랜잭션 구간에 세고, 설정한 문장 수를 넘거나
+ * 같은 모양의 select 가 되풀이되면(N+1) 그 문장을 실행한 호출 위치 스택과 함께 경고 로그를 남긴다.
+ * <p>
+ * 트랜잭션 구간은 커넥션의 {@code setAutoCommit(false)} 부터 {@code commit()}/{@code rollback()} 까지다.
+ * {@code REQUIRES_NEW} 처럼 한 스레드가 커넥션을 여럿 쓰는 경우를 위해 커넥션별로 센다.
+ * 경고는 문턱을 넘는 순간 한 번만, {@link JdbcInspectionProperties#sampleRate()} 비율로만 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JdbcInspector {
+
+    private static final String APPLICATION_PACKAGE = "com.study.projectboard.";
+    private static final Set<String> SKIPPED_CLASSES = Set.of(JdbcInspector.class.getName(), JdbcUsageListener.class.getName());
+
+    private static final ThreadLocal<Map<String, QueryWindow>> TRANSACTIONS = ThreadLocal.withInitial(HashMap::new);
+
+    private final JdbcInspectionProperties properties;
+
+    public void afterStatement(String connectionId, String sql) {
+        JdbcUsage usage = JdbcUsage.current().orElse(null);
+        QueryWindow transaction = properties.warn() ? TRANSACTIONS.get().get(connectionId) : null;
+        if (usage == null && transaction == null) {
+            return;
+        }
+
+        String shape = QueryShape.of(sql);
+        if (usage != null) {
+            inspect("요청", usage.addStatement(shape), usage.statements(), shape);
+        }
+        if (transaction != null) {
+            inspect("트랜잭션", transaction.record(shape), transaction.statements(), shape);
+        }
+    }
+
+    public void beginTransaction(String connectionId) {
+        if (properties.warn()) {
+            TRANSACTIONS.get().put(connectionId, new QueryWindow());
+        }
+    }
+
+    public void endTransaction(String connectionId) {
+        Map<String, QueryWindow> transactions = TRANSACTIONS.get();
+        transactions.remove(connectionId);
+        if (transactions.isEmpty()) {
+            TRANSACTIONS.remove();
+        }
+    }
+
+    private void inspect(String scope, int repeats, long statements, String shape) {
+        if (!properties.warn()) {
+            return;
+        }
+        if (repeats == properties.nPlusOneThreshold() && sampled()) {
+            log.warn("N+1 의심 - {} 하나에서 같은 select 를 {}번 실행했습니다: {}\n{}", scope, repeats, shape, callSite());
+        }
+        if (statements == properties.statementBudget() + 1L && sampled()) {
+            log.warn("JDBC 문장 수 초과 - {} 하나에서 {}개를 넘었습니다. 마지막 문장: {}\n{}", scope, properties.statementBudget(), shape, callSite());
+        }
+    }
+
+    private boolean sampled() {
+        return ThreadLocalRandom.current().nextDouble() < properties.sampleRate();
+    }
+
+    // 프록시(CGLIB)와 점검 클래스를 뺀 애플리케이션 프레임만 남긴다
+    private String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(frame -> !SKIPPED_CLASSES.contains(frame.getClassName()))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .limit(properties.stackDepth())
+                .map(frame -> "\tat " + frame)
+                .collect(Collectors.joining("\n")));
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.study.projectboard.metrics;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * 현재 스레드가 실행한 JDBC 문장 수, select 모양별 횟수, 읽은 행 수.
+ * {@link JdbcUsageFilter} 가 요청 하나를 처리하는 동안 켜 두고, {@link JdbcUsageListener} 가 센다.
+ * 켜 두지 않은 스레드(스케줄러, 비동기 작업 등)는 세지 않는다. 요청을 대신해 다른 스레드에서 도는 작업은 {@link #wrap} 으로 감싸면 같은 구간에 센다.
+ * 그래서 한 구간을 여러 스레드가 함께 셀 수 있고, 세는 메서드는 동기화한다.
+ * <p>
+ * 이미 켜진 스레드에서 다시 켜면 안쪽 구간이 되고, 안쪽에서 센 것은 바깥 구간에도 더한다.
+ * 테스트 하나({@code StatementBudget}) 안에서 요청을 여러 번 보내는 경우가 그렇다.
+ */
+public final class JdbcUsage {
+
+    private static final ThreadLocal<JdbcUsage> CURRENT = new ThreadLocal<>();
+
+    private final JdbcUsage outer;
+    private final QueryWindow queries = new QueryWindow();
+    private long rows;
+
+    private JdbcUsage(JdbcUsage outer) {
+        this.outer = outer;
+    }
+
+    public static JdbcUsage start() {
+        JdbcUsage usage = new JdbcUsage(CURRENT.get());
+        CURRENT.set(usage);
+        return usage;
+    }
+
+    public static void stop() {
+        JdbcUsage usage = CURRENT.get();
+        if (usage != null && usage.outer != null) {
+            CURRENT.set(usage.outer);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public static Optional<JdbcUsage> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * 지금 켜진 구간을 붙잡아 두고, {@code task} 를 실행하는 동안 그 스레드에서도 같은 구간에 세도록 감싼다.
+     * 켜진 구간이 없으면 그대로 돌려준다.
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        JdbcUsage usage = CURRENT.get();
+        if (usage == null) {
+            return task;
+        }
+        return () -> {
+            JdbcUsage previous = CURRENT.get();
+            CURRENT.set(usage);
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * 문장 하나를 센다. {@link QueryWindow#record(String)} 처럼 이 구간에서 같은 select 를 몇 번째 실행한 것인지 리턴한다.
+     */
+    public synchronized int addStatement(String shape) {
+        if (outer != null) {
+            outer.addStatement(shape);
+        }
+        return queries.record(shape);
+    }
+
+    public synchronized void addRow() {
+        if (outer != null) {
+            outer.addRow();
+        }
+        rows++;
+    }
+
+    public synchronized long statements() {
+        return queries.statements();
+    }
+
+    public synchronized Map<String, Integer> repeatedSelects(int threshold) {
+        return queries.repeatedSelects(threshold);
+    }
+
+    public synchronized long rows() {
+        return rows;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.study.projectboard.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청 하나가 실행한 JDBC 문장 수({@code board.request.jdbc.statements})와 읽은 행 수({@code board.request.jdbc.rows})를
+ * 요청 메소드와 URI 패턴별 분포로 남긴다. 행 수는 결과 셋을 감쌀 때({@code board.jdbc.inspection.count-rows})만 남긴다.
+ */
+@RequiredArgsConstructor
+public class JdbcUsageFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean countRows;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        JdbcUsage usage = JdbcUsage.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            JdbcUsage.stop();
+            Tags tags = Tags.of("method", request.getMethod(), "uri", uriOf(request));
+            DistributionSummary.builder("board.request.jdbc.statements")
+                    .description("요청 하나가 실행한 JDBC 문장 수")
+                    .baseUnit("statements")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(usage.statements());
+            if (countRows) {
+                DistributionSummary.builder("board.request.jdbc.rows")
+                        .description("요청 하나가 결과 셋에서 읽은 행 수")
+                        .baseUnit("rows")
+                        .tags(tags)
+                        .register(meterRegistry)
+                        .record(usage.rows());
+            }
+        }
+    }
+
+    // 태그 개수가 늘지 않도록 실제 경로 대신 매핑된 패턴(/articles/{articleId})을 쓴다
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+}
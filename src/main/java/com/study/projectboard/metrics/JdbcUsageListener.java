@@ -0,0 +1,95 @@
+package com.study.projectboard.metrics;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너. 문장을 실행할 때마다(배치는 한 번) {@link JdbcInspector} 에 넘기고,
+ * 결과 셋에서 행을 하나 읽을 때마다 {@link JdbcUsage} 에 센다.
+ * 커넥션의 트랜잭션 시작(autoCommit 끄기)과 커밋/롤백/반납도 {@link JdbcInspector} 에 알린다.
+ * 느린 문장은 바인드 값과 함께 {@link SlowQueryLog} 에 남긴다.
+ */
+@RequiredArgsConstructor
+public class JdbcUsageListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private final JdbcInspector inspector;
+    private final SlowQueryLog slowQueryLog;
+    private final DataSource dataSource; // 감싸기 전 데이터소스. 느린 쿼리의 실행 계획을 뜰 때 쓴다.
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        QueryInfo queryInfo = queryInfoList.get(0);
+        inspector.afterStatement(execInfo.getConnectionId(), queryInfo.getQuery());
+        if (slowQueryLog.isSlow(execInfo.getElapsedTime())) {
+            slowQueryLog.record(dataSource, queryInfo.getQuery(), parametersOf(queryInfo), execInfo.getElapsedTime());
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        Object target = executionContext.getTarget();
+        String method = executionContext.getMethod().getName();
+        if (target instanceof ResultSet) {
+            if ("next".equals(method) && Boolean.TRUE.equals(executionContext.getResult())) {
+                JdbcUsage.current().ifPresent(JdbcUsage::addRow);
+            }
+        } else if (target instanceof Connection && executionContext.getThrown() == null) {
+            String connectionId = executionContext.getConnectionInfo().getConnectionId();
+            Object[] args = executionContext.getMethodArgs();
+            switch (method) {
+                case "setAutoCommit" -> {
+                    if (Boolean.FALSE.equals(args[0])) {
+                        inspector.beginTransaction(connectionId);
+                    }
+                }
+                case "commit", "close" -> inspector.endTransaction(connectionId);
+                case "rollback" -> {
+                    if (args == null || args.length == 0) {
+                        inspector.endTransaction(connectionId);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    // 배치면 첫 번째 행의 바인드 값만 쓴다
+    private static List<Object> parametersOf(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        return queryInfo.getParametersList().get(0).stream()
+                .filter(operation -> operation.getArgs().length > 1 && operation.getArgs()[0] instanceof Integer)
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .map(JdbcUsageListener::valueOf)
+                .toList();
+    }
+
+    private static Object valueOf(ParameterSetOperation operation) {
+        return "setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1];
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.study.projectboard.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 을 모양(shape)으로 바꾼다. 공백을 하나로 줄이고, {@code in (?, ?, ?)} 처럼 개수만 다른 바인드 목록을 {@code in (?)} 로 합친다.
+ * 같은 모양의 select 가 한 요청이나 트랜잭션에서 여러 번 나가면 N+1 을 의심한다.
+ */
+public final class QueryShape {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin \\( ?\\?( ?, ?\\?)* ?\\)");
+
+    private QueryShape() {
+    }
+
+    public static String of(String sql) {
+        String shape = WHITESPACE.matcher(sql.strip()).replaceAll(" ");
+        return shape.indexOf('?') < 0 ? shape : IN_LIST.matcher(shape).replaceAll("in (?)");
+    }
+
+    public static boolean isSelect(String shape) {
+        return shape.regionMatches(true, 0, "select", 0, 6) || shape.regionMatches(true, 0, "with", 0, 4);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.study.projectboard.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청, 트랜잭션, 테스트 같은 구간 하나에서 실행한 JDBC 문장 수와 select 모양별 실행 횟수.
+ */
+public final class QueryWindow {
+
+    private final Map<String, Integer> selects = new HashMap<>();
+    private long statements;
+
+    /**
+     * 문장 하나를 센다. select 면 이 구간에서 같은 모양을 몇 번째 실행한 것인지, 아니면 0 을 리턴한다.
+     */
+    public int record(String shape) {
+        statements++;
+        return QueryShape.isSelect(shape) ? selects.merge(shape, 1, Integer::sum) : 0;
+    }
+
+    public long statements() {
+        return statements;
+    }
+
+    /**
+     * {@code threshold} 번 이상 실행한 select 모양과 횟수. 많이 실행한 순서다.
+     */
+    public Map<String, Integer> repeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        selects.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.study.projectboard.metrics;
+
+import com.study.projectboard.domain.constant.SearchType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Set;
+
+/**
+ * 게시글/댓글 서비스의 public 메소드마다 실행 시간을 {@code board.service} 타이머로 남긴다.
+ * <p>
+ * 태그는 클래스, 메소드, 검색 종류({@code searchType}), 검색어가 비었는지({@code keyword}: blank/present/none), 예외다.
+ * 그래서 느린 목록 요청이 닉네임 조인 때문인지 본문 스캔 때문인지 나눠 볼 수 있다.
+ * 트랜잭션 커밋까지 재도록 트랜잭션 어드바이스보다 바깥에서 감싼다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "board.service";
+    private static final Set<String> KEYWORD_PARAMETERS = Set.of("searchKeyword", "hashtag");
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.study.projectboard.service.ArticleService.*(..))"
+            + " || execution(public * com.study.projectboard.service.ArticleCommentService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("게시글/댓글 서비스 메소드 실행 시간")
+                    .tags(tagsOf(signature, joinPoint.getArgs()))
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static Tags tagsOf(MethodSignature signature, Object[] args) {
+        String searchType = "none";
+        String keyword = "none";
+        String[] parameterNames = signature.getParameterNames();
+        Class<?>[] parameterTypes = signature.getParameterTypes();
+        for (int i = 0; i < args.length; i++) {
+            if (parameterTypes[i] == SearchType.class) {
+                searchType = args[i] == null ? "none" : ((SearchType) args[i]).name();
+            } else if (parameterNames != null && KEYWORD_PARAMETERS.contains(parameterNames[i])) {
+                keyword = args[i] == null || args[i].toString().isBlank() ? "blank" : "present";
+            }
+        }
+        return Tags.of(
+                "class", signature.getDeclaringType().getSimpleName(),
+                "method", signature.getName(),
+                "searchType", searchType,
+                "keyword", keyword
+        );
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.study.projectboard.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 쿼리 기록. {@link SlowQueryProperties#threshold()} 이상 걸린 문장을 바인드 값과 함께 고정 크기 링 버퍼에 남기고,
+ * 모양({@link QueryShape})별로 횟수/합계/최대 시간을 모은다.
+ * <p>
+ * select 모양은 처음 걸렸을 때 한 번만, 같은 바인드 값으로 {@code EXPLAIN} 을 떠 둔다.
+ * 실행 계획은 요청 스레드를 막지 않도록 전용 스레드 하나에서 따로 커넥션을 얻어 뜬다. 밀려 있으면 다음에 걸렸을 때 다시 시도한다.
+ * 조회는 {@code GET /actuator/slowqueries} 에서 한다.
+ * 바인드 값은 {@link SlowQueryProperties#includeParameters()} 가 켜져 있을 때만 그대로 남기고, 아니면 {@code ?(Long)} 처럼 타입만 남긴다.
+ */
+@Slf4j
+public class SlowQueryLog implements AutoCloseable {
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final SlowQueryProperties properties;
+    private final long thresholdMillis;
+    private final Executor explainExecutor;
+    private final AtomicReferenceArray<SlowQuery> recent;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(SlowQueryProperties properties) {
+        this(properties, new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), runnable -> {
+            Thread thread = new Thread(runnable, "slow-query-explain");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    SlowQueryLog(SlowQueryProperties properties, Executor explainExecutor) {
+        this.properties = properties;
+        this.thresholdMillis = properties.threshold().toMillis();
+        this.explainExecutor = explainExecutor;
+        this.recent = new AtomicReferenceArray<>(properties.capacity());
+    }
+
+    public boolean isSlow(long elapsedMillis) {
+        return elapsedMillis >= thresholdMillis;
+    }
+
+    /**
+     * 느린 문장 하나를 기록한다.
+     *
+     * @param dataSource  실행 계획을 뜰 때 쓸 데이터소스. 프록시로 감싸지 않은 것이어야 다시 기록되지 않는다.
+     * @param parameters  바인드 값. 인덱스 순서다.
+     */
+    public void record(DataSource dataSource, String sql, List<Object> parameters, long elapsedMillis) {
+        String shape = QueryShape.of(sql);
+        recent.set((int) (sequence.getAndIncrement() % recent.length()), new SlowQuery(
+                Instant.now(), elapsedMillis, shape, parameters.stream().map(this::display).toList()));
+
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null) {
+            if (shapes.size() >= properties.maxShapes()) {
+                return;
+            }
+            stats = shapes.computeIfAbsent(shape, key -> new ShapeStats());
+        }
+        stats.add(elapsedMillis);
+
+        if (properties.explain() && QueryShape.isSelect(shape) && stats.explainRequested.compareAndSet(false, true)) {
+            ShapeStats target = stats;
+            try {
+                explainExecutor.execute(() -> target.plan = explain(dataSource, sql, parameters));
+            } catch (RejectedExecutionException e) {
+                target.explainRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * 최근 느린 쿼리. 최근 것부터다.
+     */
+    public List<SlowQuery> recent() {
+        long last = sequence.get();
+        List<SlowQuery> queries = new ArrayList<>();
+        for (long i = last - 1; i >= Math.max(0, last - recent.length()); i--) {
+            SlowQuery query = recent.get((int) (i % recent.length()));
+            if (query != null) {
+                queries.add(query);
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * 모양별 집계. 걸린 시간 합계가 큰 것부터다.
+     */
+    public List<ShapeSummary> shapes() {
+        return shapes.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(Comparator.comparingLong(ShapeSummary::totalMillis).reversed())
+                .toList();
+    }
+
+    public long thresholdMillis() {
+        return thresholdMillis;
+    }
+
+    public void clear() {
+        shapes.clear();
+        for (int i = 0; i < recent.length(); i++) {
+            recent.set(i, null);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (explainExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static String explain(DataSource dataSource, String sql, List<Object> parameters) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            StringJoiner plan = new StringJoiner("\n");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    StringJoiner row = new StringJoiner(", ");
+                    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                        row.add(metaData.getColumnLabel(column) + "=" + resultSet.getString(column));
+                    }
+                    plan.add(row.toString());
+                }
+            }
+            return plan.toString();
+        } catch (SQLException | RuntimeException e) {
+            log.warn("느린 쿼리 실행 계획을 뜨지 못했습니다 - {}", e.getLocalizedMessage());
+            return "EXPLAIN 실패 - " + e.getLocalizedMessage();
+        }
+    }
+
+    private String display(Object parameter) {
+        if (!properties.includeParameters()) {
+            return parameter == null ? "null" : "?(" + parameter.getClass().getSimpleName() + ")";
+        }
+        String value = parameter instanceof CharSequence ? "'" + parameter + "'" : String.valueOf(parameter);
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+
+
+    public record SlowQuery(Instant executedAt, long elapsedMillis, String sql, List<String> parameters) {
+    }
+
+    public record ShapeSummary(String shape, long count, long totalMillis, long maxMillis, String plan) {
+    }
+
+    private static class ShapeStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+        private final AtomicBoolean explainRequested = new AtomicBoolean();
+        private volatile String plan;
+
+        void add(long elapsedMillis) {
+            count.increment();
+            totalMillis.add(elapsedMillis);
+            maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+        }
+
+        ShapeSummary summary(String shape) {
+            return new ShapeSummary(shape, count.sum(), totalMillis.sum(), maxMillis.get(), plan);
+        }
+
+    }
+
+}
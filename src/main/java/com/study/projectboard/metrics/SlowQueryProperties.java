@@ -0,0 +1,36 @@
+package com.study.projectboard.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 느린 쿼리 기록 설정. {@link SlowQueryLog} 가 쓴다.
+ *
+ * @param threshold  이 시간 이상 걸린 문장을 기록한다
+ * @param capacity   최근 느린 쿼리를 몇 개까지 들고 있을지(링 버퍼 크기)
+ * @param maxShapes  모양별 집계를 몇 종류까지 들고 있을지. 넘으면 새 모양은 집계하지 않는다.
+ * @param explain    모양마다 처음 한 번 {@code EXPLAIN} 을 떠 둘지
+ * @param includeParameters  바인드 값을 그대로 보여줄지. 회원 ID, 이메일, 비밀번호 해시가 섞이므로 기본은 타입만 남긴다.
+ *                           {@code EXPLAIN} 에는 어느 쪽이든 실제 값을 쓴다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.jdbc.slow-query")
+public record SlowQueryProperties(
+        @DefaultValue("200ms") Duration threshold,
+        @DefaultValue("200") int capacity,
+        @DefaultValue("500") int maxShapes,
+        @DefaultValue("true") boolean explain,
+        @DefaultValue("false") boolean includeParameters
+) {
+
+    public SlowQueryProperties {
+        if (threshold.isNegative() || capacity < 1 || maxShapes < 1) {
+            throw new IllegalArgumentException("board.jdbc.slow-query 설정이 올바르지 않습니다 - threshold: %s, capacity: %d, maxShapes: %d"
+                    .formatted(threshold, capacity, maxShapes));
+        }
+    }
+
+}
@@ -4,13 +4,25 @@ import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.study.projectboard.domain.ArticleComment;
 import com.study.projectboard.domain.QArticleComment;
+import com.study.projectboard.dto.ArticleCommentExportRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @RepositoryRestResource
 public interface ArticleCommentRepository extends JpaRepository<ArticleComment, Long>,
@@ -19,7 +31,36 @@ public interface ArticleCommentRepository extends JpaRepository<ArticleComment,
 
     List<ArticleComment> findByArticle_Id(Long articleId);
 
-    void deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+    // 댓글 첫 페이지. COUNT 쿼리 없이 pageable 크기만큼만 가져온다.
+    @EntityGraph(attributePaths = "userAccount")
+    List<ArticleComment> findByArticle_IdOrderByCreatedAtDescIdDesc(Long articleId, Pageable pageable);
+
+    // 커서(마지막으로 본 댓글) 다음 페이지. OFFSET 없이 (createdAt, id) 조건으로 바로 찾아 들어간다.
+    @EntityGraph(attributePaths = "userAccount")
+    @Query("""
+            select ac from ArticleComment ac
+            where ac.article.id = :articleId
+              and (ac.createdAt < :createdAt or (ac.createdAt = :createdAt and ac.id < :id))
+            order by ac.createdAt desc, ac.id desc
+            """)
+    List<ArticleComment> findByKeyset(@Param("articleId") Long articleId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    long deleteByIdAndUserAccount_UserId(Long articleCommentId, String userId);
+
+    // 내보내기용 전체 댓글. 엔티티 대신 내보낼 컬럼만 앞으로만 읽는 커서로 가져오므로 영속성 컨텍스트에 쌓이지 않는다.
+    // 트랜잭션 안에서 사용하고 다 읽으면 닫아야 한다.
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.study.projectboard.dto.ArticleCommentExportRow(
+                ac.id, ac.article.id, ua.userId, ua.nickname, ac.content, ac.createdAt, ac.createdBy, ac.modifiedAt, ac.modifiedBy)
+            from ArticleComment ac join ac.userAccount ua
+            order by ac.id
+            """)
+    Stream<ArticleCommentExportRow> streamAllForExport();
 
     @Override
     default void customize(QuerydslBindings bindings, QArticleComment root) {
@@ -7,13 +7,27 @@ import com.study.projectboard.domain.QArticle;
 import com.study.projectboard.repository.querydsl.ArticleRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 import org.springframework.security.core.parameters.P;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @RepositoryRestResource
 public interface ArticleRepository extends JpaRepository<Article, Long>,
         ArticleRepositoryCustom,
@@ -31,9 +45,51 @@ public interface ArticleRepository extends JpaRepository<Article, Long>,
 
     Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
 
-    Page<Article> findByHashtag(String hashtag, Pageable pageable);
+    Page<Article> findByHashtags_HashtagName(String hashtagName, Pageable pageable);
+
+    // COUNT 없이 한 건 더 조회하는 목록. 개수는 아래 count 쿼리로 따로(동시에) 센다.
+    Slice<Article> findSliceBy(Pageable pageable);
+
+    Slice<Article> findSliceByTitleContaining(String title, Pageable pageable);
+
+    Slice<Article> findSliceByContentContaining(String content, Pageable pageable);
+
+    Slice<Article> findSliceByUserAccount_UserIdContaining(String userId, Pageable pageable);
+
+    Slice<Article> findSliceByUserAccount_NicknameContaining(String nickname, Pageable pageable);
+
+    Slice<Article> findSliceByHashtags_HashtagName(String hashtagName, Pageable pageable);
+
+    long countByTitleContaining(String title);
+
+    long countByContentContaining(String content);
+
+    long countByUserAccount_UserIdContaining(String userId);
+
+    long countByUserAccount_NicknameContaining(String nickname);
+
+    long countByHashtags_HashtagName(String hashtagName);
+
+    long deleteByIdAndUserAccount_UserId(Long articleId, String userId);
+
+    // 상세 화면용. 작성자를 함께 가져오고, 댓글은 페이지 단위로 따로 조회한다.
+    @EntityGraph(attributePaths = "userAccount")
+    Optional<Article> findWithUserAccountById(Long articleId);
+
+    // 검색 인덱스 생성용 id 순 배치 조회. 유저 ID/닉네임도 색인하므로 작성자를 함께 가져온다.
+    @EntityGraph(attributePaths = "userAccount")
+    List<Article> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
 
-    void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
+    // 내보내기용 전체 게시글. 앞으로만 읽는 커서로 fetch size 만큼씩 가져오고, 스냅샷(readOnly)과 2차 캐시는 쓰지 않는다.
+    // 트랜잭션 안에서 사용하고 다 읽으면 닫아야 한다.
+    @RestResource(exported = false)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select a from Article a join fetch a.userAccount order by a.id")
+    Stream<Article> streamAllForExport();
 
 
 
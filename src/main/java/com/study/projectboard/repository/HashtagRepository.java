@@ -0,0 +1,19 @@
+package com.study.projectboard.repository;
+
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.repository.querydsl.HashtagRepositoryCustom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface HashtagRepository extends JpaRepository<Hashtag, Long>, HashtagRepositoryCustom {
+
+    Optional<Hashtag> findByHashtagName(String hashtagName);
+
+    List<Hashtag> findByHashtagNameIn(Collection<String> hashtagNames);
+
+    List<Hashtag> findByArticleCountGreaterThan(long articleCount);
+
+}
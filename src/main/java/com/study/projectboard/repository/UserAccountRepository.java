@@ -5,11 +5,17 @@ import com.study.projectboard.domain.UserAccount;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
 
 //    Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
+    // 쿼리 캐시(l2cache 프로파일)에서는 userId → id 결과만 캐시하고, 회원은 2차 캐시에서 꺼낸다
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<UserAccount> findByUserId(String userId);
 }
@@ -1,10 +1,33 @@
 package com.study.projectboard.repository.querydsl;
 
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.dto.ArticleCursor;
+import com.study.projectboard.dto.ArticleListDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface ArticleRepositoryCustom {
 
-    List<String> findAllDistinctHashtags();
+    /**
+     * 키셋(seek) 방식으로 게시글을 조회한다. OFFSET 없이 (정렬 키, id) 조건으로 바로 찾아 들어간다.
+     * 커서가 backward 면 정렬을 뒤집어 조회하므로, 호출하는 쪽에서 결과를 다시 뒤집어야 한다.
+     */
+    List<ArticleListDto> findByKeyset(SearchType searchType, String searchKeyword, Sort.Order order, ArticleCursor cursor, int limit);
+
+    /**
+     * 목록 화면에 필요한 컬럼만 조회한다. COUNT 쿼리 없이 다음 페이지 존재 여부만 확인한다.
+     * 검색어가 없으면 전체 게시글을 조회한다.
+     */
+    Slice<ArticleListDto> findListSlice(SearchType searchType, String searchKeyword, Pageable pageable);
 
+    /**
+     * 검색 인덱스에서 찾은 게시글을 목록 컬럼만 조회한다. 순서는 보장하지 않는다.
+     */
+    List<ArticleListDto> findListByIdIn(Collection<Long> articleIds);
 
 }
@@ -1,10 +1,32 @@
 package com.study.projectboard.repository.querydsl;
 
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.Hashtag;
 import com.study.projectboard.domain.QArticle;
+import com.study.projectboard.domain.QUserAccount;
+import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.dto.ArticleCursor;
+import com.study.projectboard.dto.ArticleListDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport implements ArticleRepositoryCustom {
@@ -14,13 +36,137 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
     }
 
     @Override
-    public List<String> findAllDistinctHashtags() {
+    public List<ArticleListDto> findByKeyset(SearchType searchType, String searchKeyword, Sort.Order order, ArticleCursor cursor, int limit) {
         QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+        boolean descending = order.isDescending() != (cursor != null && cursor.backward());
+        ComparableExpression<?> sortKey = sortKey(article, userAccount, order.getProperty());
+
+        return from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(listRow(article, userAccount))
+                .where(
+                        searchCondition(article, userAccount, searchType, searchKeyword),
+                        seekCondition(article, userAccount, cursor, descending)
+                )
+                .orderBy(
+                        descending ? sortKey.desc() : sortKey.asc(),
+                        descending ? article.id.desc() : article.id.asc()
+                )
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Slice<ArticleListDto> findListSlice(SearchType searchType, String searchKeyword, Pageable pageable) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
+        // 한 건 더 조회해서 다음 페이지가 있는지 확인한다
+        List<ArticleListDto> content = from(article)
+                .innerJoin(article.userAccount, userAccount)
+                .select(listRow(article, userAccount))
+                .where(searchCondition(article, userAccount, searchType, searchKeyword))
+                .orderBy(orderSpecifiers(article, userAccount, pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<ArticleListDto> findListByIdIn(Collection<Long> articleIds) {
+        QArticle article = QArticle.article;
+        QUserAccount userAccount = QUserAccount.userAccount;
+
         return from(article)
-                .distinct()
-                .select(article.hashtag)
-                .where(article.hashtag.isNotNull())
+                .innerJoin(article.userAccount, userAccount)
+                .select(listRow(article, userAccount))
+                .where(article.id.in(articleIds))
                 .fetch();
     }
 
+    // 목록 화면에 보이는 컬럼만 고른다. 최대 10,000자인 본문은 빠진다.
+    private static ConstructorExpression<ArticleListDto> listRow(QArticle article, QUserAccount userAccount) {
+        return Projections.constructor(
+                ArticleListDto.class,
+                article.id,
+                article.title,
+                article.hashtag,
+                article.createdAt,
+                userAccount.userId,
+                userAccount.nickname
+        );
+    }
+
+    // 작성자 정렬은 이미 조인한 별칭을 써야 조인이 한 번 더 생기지 않는다
+    private static OrderSpecifier<?>[] orderSpecifiers(QArticle article, QUserAccount userAccount, Sort sort) {
+        PathBuilder<Article> articlePath = new PathBuilder<>(Article.class, article.getMetadata());
+        PathBuilder<UserAccount> userAccountPath = new PathBuilder<>(UserAccount.class, userAccount.getMetadata());
+        String userAccountPrefix = "userAccount.";
+
+        List<OrderSpecifier<?>> specifiers = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+            ComparableExpressionBase<?> key = property.startsWith(userAccountPrefix)
+                    ? userAccountPath.getComparable(property.substring(userAccountPrefix.length()), Comparable.class)
+                    : articlePath.getComparable(property, Comparable.class);
+            specifiers.add(order.isAscending() ? key.asc() : key.desc());
+        }
+        return specifiers.toArray(OrderSpecifier[]::new);
+    }
+
+    private static BooleanExpression searchCondition(QArticle article, QUserAccount userAccount, SearchType searchType, String searchKeyword) {
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return null;
+        }
+
+        return switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> article.hashtags.any().hashtagName.eq(Hashtag.normalizeName(searchKeyword));
+        };
+    }
+
+    private static BooleanExpression seekCondition(QArticle article, QUserAccount userAccount, ArticleCursor cursor, boolean descending) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return switch (cursor.property()) {
+            case "title" -> seek(article.title, cursor.value(), article.id, cursor.id(), descending);
+            case "hashtag" -> seek(hashtagKey(article), cursor.value(), article.id, cursor.id(), descending);
+            case "userAccount.userId" -> seek(userAccount.userId, cursor.value(), article.id, cursor.id(), descending);
+            default -> seek(article.createdAt, LocalDateTime.parse(cursor.value()), article.id, cursor.id(), descending);
+        };
+    }
+
+    private static ComparableExpression<?> sortKey(QArticle article, QUserAccount userAccount, String property) {
+        return switch (property) {
+            case "title" -> article.title;
+            case "hashtag" -> hashtagKey(article);
+            case "userAccount.userId" -> userAccount.userId;
+            default -> article.createdAt;
+        };
+    }
+
+    // 해시태그는 null 일 수 있으므로, 키셋 비교가 가능하도록 빈 문자열로 바꿔서 정렬한다.
+    private static StringExpression hashtagKey(QArticle article) {
+        return Expressions.stringTemplate("coalesce({0}, '')", article.hashtag);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T extends Comparable> BooleanExpression seek(ComparableExpression<T> key, T value, NumberPath<Long> id, Long lastId, boolean descending) {
+        return descending
+                ? key.lt(value).or(key.eq(value).and(id.lt(lastId)))
+                : key.gt(value).or(key.eq(value).and(id.gt(lastId)));
+    }
+
 }
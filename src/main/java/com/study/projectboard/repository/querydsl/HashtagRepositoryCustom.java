@@ -0,0 +1,22 @@
+package com.study.projectboard.repository.querydsl;
+
+import com.study.projectboard.domain.Hashtag;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HashtagRepositoryCustom {
+
+    /**
+     * 게시글이 하나 이상 달린 해시태그 이름을 이름 순으로 리턴한다.
+     */
+    List<String> findAllHashtagNames();
+
+    List<Hashtag> findByArticleId(Long articleId);
+
+    /**
+     * 해시태그별 게시글 수를 DB 에서 바로 더한다. 동시에 저장되는 게시글끼리 값을 덮어쓰지 않는다.
+     */
+    long updateArticleCount(Collection<Long> hashtagIds, long delta);
+
+}
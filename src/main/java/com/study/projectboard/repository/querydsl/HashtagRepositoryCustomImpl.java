@@ -0,0 +1,50 @@
+package com.study.projectboard.repository.querydsl;
+
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.domain.QArticle;
+import com.study.projectboard.domain.QHashtag;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.Collection;
+import java.util.List;
+
+public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
+
+    public HashtagRepositoryCustomImpl() {
+        super(Hashtag.class);
+    }
+
+    @Override
+    public List<String> findAllHashtagNames() {
+        QHashtag hashtag = QHashtag.hashtag;
+        return from(hashtag)
+                .select(hashtag.hashtagName)
+                .where(hashtag.articleCount.gt(0))
+                .orderBy(hashtag.hashtagName.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Hashtag> findByArticleId(Long articleId) {
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+        return from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .select(hashtag)
+                .where(article.id.eq(articleId))
+                .fetch();
+    }
+
+    @Override
+    public long updateArticleCount(Collection<Long> hashtagIds, long delta) {
+        if (hashtagIds.isEmpty() || delta == 0) {
+            return 0;
+        }
+        QHashtag hashtag = QHashtag.hashtag;
+        return update(hashtag)
+                .set(hashtag.articleCount, hashtag.articleCount.add(delta))
+                .where(hashtag.id.in(hashtagIds))
+                .execute();
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.study.projectboard.response;
+
+import com.study.projectboard.dto.ArticleCommentDto;
+import com.study.projectboard.dto.CursorSlice;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 댓글 한 페이지와 다음 페이지 커서
+ */
+public record ArticleCommentsResponse(
+        List<ArticleCommentResponse> articleComments,
+        String nextCursor
+) implements Serializable {
+
+    public static ArticleCommentsResponse of(List<ArticleCommentResponse> articleComments, String nextCursor) {
+        return new ArticleCommentsResponse(articleComments, nextCursor);
+    }
+
+    public static ArticleCommentsResponse from(CursorSlice<ArticleCommentDto> slice) {
+        return new ArticleCommentsResponse(
+                slice.getContent().stream()
+                        .map(ArticleCommentResponse::from)
+                        .toList(),
+                slice.getNextCursor()
+        );
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.study.projectboard.response;
+
+import com.study.projectboard.dto.ArticleImportResult;
+
+import java.io.Serializable;
+
+public record ArticleImportResponse(
+        boolean completed,
+        long imported,
+        long skipped,
+        int batches,
+        long elapsedMillis,
+        long rowsPerSecond,
+        String error
+) implements Serializable {
+
+    public static ArticleImportResponse from(ArticleImportResult result) {
+        return new ArticleImportResponse(
+                result.completed(),
+                result.imported(),
+                result.skipped(),
+                result.batches(),
+                result.elapsedMillis(),
+                result.rowsPerSecond(),
+                result.error()
+        );
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.study.projectboard.response;
 
 import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.dto.ArticleListDto;
 import com.study.projectboard.repository.ArticleRepository;
 
 import java.io.Serializable;
@@ -43,7 +44,22 @@ public record ArticleResponse(
         );
     }
 
+    // 목록 화면용. 본문과 이메일은 조회하지 않으므로 비어 있다.
+    public static ArticleResponse from(ArticleListDto dto) {
+        String nickname = dto.nickname();
+        if (nickname == null || nickname.isBlank()) {
+            nickname = dto.userId();
+        }
 
-
+        return new ArticleResponse(
+                dto.id(),
+                dto.title(),
+                null,
+                dto.hashtag(),
+                dto.createdAt(),
+                null,
+                nickname
+        );
+    }
 
 }
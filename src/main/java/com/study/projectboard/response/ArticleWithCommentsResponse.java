@@ -17,7 +17,8 @@ public record ArticleWithCommentsResponse(
         String email,
         String nickname,
         String userId,
-        Set<ArticleCommentResponse> articleCommentsResponse
+        Set<ArticleCommentResponse> articleCommentsResponse,
+        String nextCommentCursor
 ) implements Serializable {
 
     public static ArticleWithCommentsResponse of(Long id,
@@ -37,7 +38,8 @@ public record ArticleWithCommentsResponse(
                 email,
                 nickname,
                 userId,
-                articleCommentResponses);
+                articleCommentResponses,
+                null);
     }
 
     public static ArticleWithCommentsResponse from(ArticleWithCommentsDto dto) {
@@ -57,7 +59,8 @@ public record ArticleWithCommentsResponse(
                 dto.userAccountDto().userId(),
                 dto.articleCommentDtos().stream()
                         .map(ArticleCommentResponse::from)
-                        .collect(Collectors.toCollection(LinkedHashSet::new))
+                        .collect(Collectors.toCollection(LinkedHashSet::new)),
+                dto.nextCommentCursor()
         );
     }
 
@@ -3,17 +3,24 @@ package com.study.projectboard.service;
 import com.study.projectboard.domain.Article;
 import com.study.projectboard.domain.ArticleComment;
 import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.dto.ArticleCommentCursor;
 import com.study.projectboard.dto.ArticleCommentDto;
+import com.study.projectboard.dto.CursorSlice;
+import com.study.projectboard.event.ArticleCommentEvent;
 import com.study.projectboard.repository.ArticleCommentRepository;
 import com.study.projectboard.repository.ArticleRepository;
 import com.study.projectboard.repository.UserAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -21,9 +28,13 @@ import java.util.List;
 @Service
 public class ArticleCommentService {
 
+    public static final int COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional(readOnly = true)
@@ -34,11 +45,48 @@ public class ArticleCommentService {
                 .toList();
     }
 
+    /**
+     * 게시글의 댓글을 최신순으로 한 페이지만 리턴한다. 커서가 없거나 잘못된 경우 첫 페이지를 리턴한다.
+     * 댓글이 많은 게시글도 페이지 크기만큼만 불러온다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleCommentDto> searchArticleComments(long articleId, String cursorToken, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE));
+        ArticleCommentCursor cursor = decodeCursor(cursorToken);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ArticleComment> articleComments = cursor == null
+                ? articleCommentRepository.findByArticle_IdOrderByCreatedAtDescIdDesc(articleId, limit)
+                : articleCommentRepository.findByKeyset(articleId, cursor.createdAt(), cursor.id(), limit);
+        List<ArticleCommentDto> content = articleComments.stream()
+                .limit(pageSize)
+                .map(ArticleCommentDto::from)
+                .toList();
+
+        String nextCursor = articleComments.size() > pageSize
+                ? ArticleCommentCursor.from(content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorSlice<>(content, PageRequest.of(0, pageSize), nextCursor, null);
+    }
+
+    private ArticleCommentCursor decodeCursor(String cursorToken) {
+        if (cursorToken == null || cursorToken.isBlank()) {
+            return null;
+        }
+        try {
+            return ArticleCommentCursor.decode(cursorToken);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 댓글 커서로 조회를 시도했습니다. 첫 페이지를 조회합니다 - cursor: {}", cursorToken);
+            return null;
+        }
+    }
+
     public void saveArticleComment(ArticleCommentDto dto) {
         try {
             Article article = articleRepository.getReferenceById(dto.articleId());
             UserAccount userAccount = userAccountRepository.getReferenceById(dto.userAccountDto().id());
             articleCommentRepository.save(dto.toEntity(article, userAccount));
+            eventPublisher.publishEvent(ArticleCommentEvent.of(dto.articleId()));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 저장 실패. 댓글 작성에 필요한 정보를 찾을 수 없습니다 - {}", e.getLocalizedMessage());
         }
@@ -50,6 +98,7 @@ public class ArticleCommentService {
             if (dto.content() != null) {
                 articleComment.setContent(dto.content());
             }
+            eventPublisher.publishEvent(ArticleCommentEvent.of(articleComment.getArticle().getId()));
         } catch (EntityNotFoundException e) {
             log.warn("댓글 업데이트 실패. 댓글을 찾을 수 없습니다 - dto: {}", dto);
         }
@@ -58,7 +107,12 @@ public class ArticleCommentService {
     }
 
     public void deleteArticleComment(Long articleCommentId, String userId) {
-        articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        // 이벤트에 실을 게시글 id 를 얻으려고 댓글을 먼저 한 번 읽는다
+        Optional<Long> articleId = articleCommentRepository.findById(articleCommentId)
+                .map(articleComment -> articleComment.getArticle().getId());
+        if (articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId) > 0) {
+            articleId.map(ArticleCommentEvent::of).ifPresent(eventPublisher::publishEvent);
+        }
     }
 
 }
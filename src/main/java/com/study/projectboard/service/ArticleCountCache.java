@@ -0,0 +1,154 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.event.ArticleEvent;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 검색 결과 전체 개수 캐시.
+ * 목록 조회는 개수가 캐시되어 있으면 COUNT 쿼리를 실행하지 않고, 캐시된 개수를 페이지네이션 바에 사용한다.
+ * 캐시되지 않은 개수는 목록 조회가 내용 쿼리와 함께 세서 {@link #put} 으로 넣거나, 백그라운드에서 센다.
+ * 게시글이 저장/삭제되면 전체 개수만 커밋 이후에 바로 더하고 뺀다.
+ * 검색어별 개수는 글이 바뀔 때마다 다시 세면 바쁜 게시판에서는 갱신 때마다 키 수만큼 COUNT 를 다시 돌리게 되므로,
+ * 바뀌어도 그대로 두고 {@link #STALE_AFTER_MILLIS} 가 지나면 다시 센다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleCountCache {
+
+    private static final int MAX_KEYS = 1_000;
+    private static final long STALE_AFTER_MILLIS = 5 * 60 * 1000L;
+    private static final long IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private final ArticleRepository articleRepository;
+    private final HashtagRepository hashtagRepository;
+    private final Map<CountKey, CachedCount> counts = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 개수를 리턴한다. 아직 집계되지 않았으면 비어 있으며, 다음 백그라운드 갱신 때 집계된다.
+     */
+    public OptionalLong get(SearchType searchType, String searchKeyword) {
+        CountKey key = CountKey.of(searchType, searchKeyword);
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = counts.computeIfPresent(key, (k, old) -> old.accessed(now));
+        if (cached == null) {
+            if (counts.size() < MAX_KEYS) {
+                counts.putIfAbsent(key, CachedCount.pending(now));
+            }
+            return OptionalLong.empty();
+        }
+
+        return cached.loaded() ? OptionalLong.of(cached.count()) : OptionalLong.empty();
+    }
+
+    /**
+     * 목록 조회와 함께 센 개수를 넣는다. {@link #get} 으로 집계를 기다리는 검색어만 넣는다.
+     */
+    public void put(SearchType searchType, String searchKeyword, long count) {
+        long now = System.currentTimeMillis();
+        counts.computeIfPresent(CountKey.of(searchType, searchKeyword), (key, old) -> old.loaded(count, now));
+    }
+
+    /**
+     * 캐시와 상관없이 DB 에서 센다.
+     */
+    public long count(SearchType searchType, String searchKeyword) {
+        return countOf(CountKey.of(searchType, searchKeyword));
+    }
+
+    @Scheduled(fixedDelayString = "${board.article-count.refresh-interval:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        counts.entrySet().removeIf(entry -> !entry.getKey().isTotal() && now - entry.getValue().lastAccessedAt() > IDLE_TIMEOUT_MILLIS);
+
+        for (Map.Entry<CountKey, CachedCount> entry : counts.entrySet()) {
+            if (!entry.getValue().needsRefresh(now)) {
+                continue;
+            }
+            long startedAt = System.currentTimeMillis();
+            long count = countOf(entry.getKey());
+            counts.computeIfPresent(entry.getKey(), (k, old) -> old.loaded(count, startedAt));
+            log.debug("게시글 개수 캐시 갱신 - key: {}, count: {}", entry.getKey(), count);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        long delta = switch (event.type()) {
+            case CREATED -> 1;
+            case UPDATED -> 0;
+            case DELETED -> -1;
+        };
+        if (delta != 0) {
+            counts.computeIfPresent(CountKey.TOTAL, (key, cached) -> cached.loaded() ? cached.plus(delta) : cached);
+        }
+    }
+
+    private long countOf(CountKey key) {
+        if (key.isTotal()) {
+            return articleRepository.count();
+        }
+
+        return switch (key.searchType()) {
+            case TITLE -> articleRepository.countByTitleContaining(key.keyword());
+            case CONTENT -> articleRepository.countByContentContaining(key.keyword());
+            case ID -> articleRepository.countByUserAccount_UserIdContaining(key.keyword());
+            case NICKNAME -> articleRepository.countByUserAccount_NicknameContaining(key.keyword());
+            case HASHTAG -> hashtagRepository.findByHashtagName(Hashtag.normalizeName(key.keyword()))
+                    .map(Hashtag::getArticleCount)
+                    .orElse(0L);
+        };
+    }
+
+
+    record CountKey(SearchType searchType, String keyword) {
+        static final CountKey TOTAL = new CountKey(null, "");
+
+        static CountKey of(SearchType searchType, String searchKeyword) {
+            if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+                return TOTAL;
+            }
+            return new CountKey(searchType, searchKeyword);
+        }
+
+        boolean isTotal() {
+            return this.equals(TOTAL);
+        }
+    }
+
+    record CachedCount(long count, boolean loaded, long loadedAt, long lastAccessedAt) {
+        static CachedCount pending(long now) {
+            return new CachedCount(0, false, 0, now);
+        }
+
+        boolean needsRefresh(long now) {
+            return !loaded || now - loadedAt > STALE_AFTER_MILLIS;
+        }
+
+        CachedCount accessed(long now) {
+            return new CachedCount(count, loaded, loadedAt, now);
+        }
+
+        CachedCount loaded(long count, long loadedAt) {
+            return new CachedCount(count, true, loadedAt, lastAccessedAt);
+        }
+
+        CachedCount plus(long delta) {
+            return new CachedCount(Math.max(count + delta, 0), loaded, loadedAt, lastAccessedAt);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.study.projectboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.projectboard.dto.ArticleCommentDto;
+import com.study.projectboard.dto.ArticleWithCommentsDto;
+import com.study.projectboard.event.ArticleCommentEvent;
+import com.study.projectboard.event.ArticleEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세(게시글 + 댓글 첫 페이지) 캐시.
+ * <p>
+ * Caffeine(W-TinyLFU) 으로 자주 읽히는 게시글을 남기고, 본문과 댓글 길이로 어림한 크기 합이 {@link #MAX_WEIGHT_BYTES} 를 넘지 않게 한다.
+ * 게시글이나 댓글이 바뀌면 커밋 이후에 받는 {@link ArticleEvent}, {@link ArticleCommentEvent} 로 해당 게시글을 지운다.
+ * 커밋 직전에 시작한 조회가 이전 내용을 다시 넣을 수 있으므로, 쓰고 나서 {@link #EXPIRE_AFTER_WRITE} 가 지나면 만료시킨다.
+ */
+@Component
+public class ArticleDetailCache {
+
+    static final String CACHE_NAME = "article.detail";
+    private static final long MAX_WEIGHT_BYTES = 64L * 1024 * 1024;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+    private static final int ENTRY_OVERHEAD_BYTES = 512; // 문자열 밖의 객체, 필드 몫으로 어림한 값
+
+    private final Cache<Long, ArticleWithCommentsDto> cache;
+    private final Timer loadTimer;
+
+    public ArticleDetailCache(MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(MAX_WEIGHT_BYTES)
+                .weigher((Long articleId, ArticleWithCommentsDto article) -> weigh(article))
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+        this.loadTimer = Timer.builder("board.article.detail.load")
+                .description("게시글 상세 캐시 미스 때 DB 에서 불러오는 시간")
+                .register(meterRegistry);
+        Gauge.builder("board.article.detail.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("게시글 상세 캐시 적중률")
+                .register(meterRegistry);
+        // cache.gets{result=hit|miss}, cache.evictions, cache.eviction.weight, cache.size ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 게시글 상세를 리턴한다. 없으면 {@code loader} 로 불러와서 넣는다.
+     * 같은 게시글을 동시에 요청하면 한 번만 불러온다. {@code loader} 가 던진 예외는 그대로 전달되고 캐시에 남지 않는다.
+     */
+    public ArticleWithCommentsDto get(Long articleId, Function<Long, ArticleWithCommentsDto> loader) {
+        return cache.get(articleId, key -> loadTimer.record(() -> loader.apply(key)));
+    }
+
+    public void invalidate(Long articleId) {
+        cache.invalidate(articleId);
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.type() != ArticleEvent.Type.CREATED) {
+            invalidate(event.articleId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleCommentEvent(ArticleCommentEvent event) {
+        invalidate(event.articleId());
+    }
+
+    // 문자열은 UTF-16 으로 들고 있으므로 글자당 2바이트로 센다
+    private static int weigh(ArticleWithCommentsDto article) {
+        long chars = length(article.title()) + length(article.content()) + length(article.hashtag());
+        for (ArticleCommentDto articleComment : article.articleCommentDtos()) {
+            chars += length(articleComment.content()) + ENTRY_OVERHEAD_BYTES / 2;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars * 2 + ENTRY_OVERHEAD_BYTES);
+    }
+
+    private static int length(String text) {
+        return text == null ? 0 : text.length();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.study.projectboard.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.dto.ArticleCommentExportRow;
+import com.study.projectboard.dto.ArticleExportRow;
+import com.study.projectboard.repository.ArticleCommentRepository;
+import com.study.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 게시판 전체를 NDJSON 으로 내보낸다. 게시글 줄을 모두 쓴 다음 댓글 줄을 쓴다.
+ * <p>
+ * 앞으로만 읽는 커서로 한 행씩 읽어서 바로 출력 스트림에 쓰고, 게시글은 {@link #CLEAR_SIZE} 행마다 영속성 컨텍스트를 비운다.
+ * 그래서 행 수와 상관없이 힙 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ArticleExportService {
+
+    static final int CLEAR_SIZE = 1_000;
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final EntityManager entityManager;
+
+    public void exportAll(OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        long articles = 0;
+        long comments = 0;
+
+        try (JsonGenerator generator = JSON_MAPPER.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+
+            try (Stream<Article> stream = articleRepository.streamAllForExport()) {
+                for (Iterator<Article> it = stream.iterator(); it.hasNext(); ) {
+                    writeLine(generator, ArticleExportRow.from(it.next()));
+                    if (++articles % CLEAR_SIZE == 0) {
+                        entityManager.clear();
+                    }
+                }
+            }
+            entityManager.clear();
+
+            try (Stream<ArticleCommentExportRow> stream = articleCommentRepository.streamAllForExport()) {
+                for (Iterator<ArticleCommentExportRow> it = stream.iterator(); it.hasNext(); ) {
+                    writeLine(generator, it.next());
+                    comments++;
+                }
+            }
+        }
+
+        log.info("게시판 내보내기 완료 - articles: {}, comments: {}, {} ms",
+                articles, comments, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private static void writeLine(JsonGenerator generator, Object row) throws IOException {
+        JSON_MAPPER.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.study.projectboard.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.domain.constant.ArticleFileFormat;
+import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.dto.ArticleImportResult;
+import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.dto.request.ArticleImportRow;
+import com.study.projectboard.event.ArticleEvent;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.repository.UserAccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CSV/NDJSON 으로 게시글을 대량으로 가져온다.
+ * <p>
+ * 요청 본문을 한 행씩 읽어서 {@link #BATCH_SIZE} 개마다 트랜잭션 하나로 저장하고, 저장한 뒤 영속성 컨텍스트를 비운다.
+ * 그래서 파일 크기와 상관없이 메모리에는 배치 하나만 올라간다.
+ * 중간에 실패하면 그 전까지 커밋된 배치는 남고, 결과에 실패 위치를 담는다.
+ */
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    static final int BATCH_SIZE = 1_000;
+
+    private static final ObjectReader NDJSON_READER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build()
+            .readerFor(ArticleImportRow.class);
+    private static final ObjectReader CSV_READER = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build()
+            .readerFor(ArticleImportRow.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final UserAccountCache userAccountCache;
+    private final HashtagService hashtagService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer batchTimer;
+    private final Counter importedCounter;
+    private final Counter skippedCounter;
+
+    public ArticleImportService(
+            ArticleRepository articleRepository,
+            UserAccountRepository userAccountRepository,
+            UserAccountCache userAccountCache,
+            HashtagService hashtagService,
+            ApplicationEventPublisher eventPublisher,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.userAccountCache = userAccountCache;
+        this.hashtagService = hashtagService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchTimer = Timer.builder("board.article.import.batch")
+                .description("게시글 가져오기 배치 하나를 저장하는 시간")
+                .register(meterRegistry);
+        this.importedCounter = Counter.builder("board.article.import.rows")
+                .description("가져온 게시글 수")
+                .tag("result", "imported")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("board.article.import.rows")
+                .description("가져온 게시글 수")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@code in} 의 게시글을 모두 {@code userId} 회원의 게시글로 저장한다.
+     * 제목이나 본문이 없거나 컬럼 길이를 넘는 행은 건너뛴다.
+     */
+    public ArticleImportResult importArticles(InputStream in, ArticleFileFormat format, String userId) {
+        UserAccountDto userAccountDto = userAccountCache.get(userId)
+                .orElseThrow(() -> new EntityNotFoundException("회원이 없습니다 - userId: " + userId));
+        long startedAt = System.nanoTime();
+        long imported = 0;
+        long skipped = 0;
+        int batches = 0;
+        String error = null;
+
+        long rowNumber = 0;
+        long batchFirstRow = 0;
+        List<ArticleImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        try (MappingIterator<ArticleImportRow> rows = readerFor(format).readValues(in)) {
+            while (rows.hasNextValue()) {
+                ArticleImportRow row = rows.nextValue();
+                rowNumber++;
+                if (!row.isValid()) {
+                    skipped++;
+                    skippedCounter.increment();
+                    continue;
+                }
+                if (batch.isEmpty()) {
+                    batchFirstRow = rowNumber;
+                }
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    imported += saveBatch(batch, userAccountDto.id(), ++batches, imported, startedAt);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                imported += saveBatch(batch, userAccountDto.id(), ++batches, imported, startedAt);
+            }
+        } catch (BatchSaveException e) {
+            // 배치는 통째로 롤백되므로 어느 행 때문인지 모른다. 배치가 걸친 행 범위를 알려준다.
+            error = "%d~%d번째 행 배치 저장 실패 - %s".formatted(batchFirstRow, rowNumber, e.getCause().getLocalizedMessage());
+            log.warn("게시글 가져오기 실패, 커밋된 배치까지만 저장됩니다 - imported: {}, {}", imported, e.getCause().getLocalizedMessage());
+        } catch (IOException | RuntimeException e) {
+            error = "%d번째 행에서 가져오기 실패 - %s".formatted(rowNumber + 1, e.getLocalizedMessage());
+            log.warn("게시글 가져오기 실패, 커밋된 배치까지만 저장됩니다 - imported: {}, {}", imported, e.getLocalizedMessage());
+        }
+
+        ArticleImportResult result = ArticleImportResult.of(imported, skipped, batches, elapsedMillis(startedAt), error);
+        log.info("게시글 가져오기 종료 - imported: {}, skipped: {}, batches: {}, {} ms ({} rows/s)",
+                result.imported(), result.skipped(), result.batches(), result.elapsedMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    private ObjectReader readerFor(ArticleFileFormat format) {
+        return switch (format) {
+            case CSV -> CSV_READER;
+            case NDJSON -> NDJSON_READER;
+        };
+    }
+
+    // 배치 하나를 한 트랜잭션으로 저장하고 영속성 컨텍스트를 비운다. 저장한 게시글 수를 리턴한다.
+    private int saveBatch(List<ArticleImportRow> rows, Long userAccountId, int batchNumber, long importedBefore, long startedAt) {
+        long batchStartedAt = System.nanoTime();
+        try {
+            Map<ArticleImportRow, Set<String>> hashtagNames = rows.stream()
+                    .collect(Collectors.toMap(Function.identity(), row -> hashtagService.parseHashtagNames(row.hashtag(), row.content()), (a, b) -> a));
+            Set<String> allHashtagNames = hashtagNames.values().stream()
+                    .flatMap(Set::stream)
+                    .collect(Collectors.toSet());
+            // 새 해시태그는 배치 트랜잭션을 열기 전에 만들어 둔다
+            hashtagService.createHashtags(allHashtagNames);
+            transactionTemplate.executeWithoutResult(status -> {
+                UserAccount userAccount = userAccountRepository.getReferenceById(userAccountId);
+                Map<String, Hashtag> hashtags = hashtagService.findOrCreateHashtags(allHashtagNames).stream()
+                        .collect(Collectors.toMap(Hashtag::getHashtagName, Function.identity()));
+
+                List<Article> articles = new ArrayList<>(rows.size());
+                Map<Hashtag, Long> articleCounts = new HashMap<>();
+                for (ArticleImportRow row : rows) {
+                    Article article = Article.of(userAccount, row.title(), row.content(), row.hashtag());
+                    for (String hashtagName : hashtagNames.get(row)) {
+                        Hashtag hashtag = hashtags.get(hashtagName);
+                        article.addHashtags(List.of(hashtag));
+                        articleCounts.merge(hashtag, 1L, Long::sum);
+                    }
+                    articles.add(article);
+                }
+                articleRepository.saveAll(articles);
+                hashtagService.increaseArticleCounts(articleCounts);
+                entityManager.flush();
+                articles.forEach(article -> eventPublisher.publishEvent(ArticleEvent.created(ArticleDto.from(article))));
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            throw new BatchSaveException(e);
+        }
+        long batchNanos = System.nanoTime() - batchStartedAt;
+        batchTimer.record(batchNanos, TimeUnit.NANOSECONDS);
+        importedCounter.increment(rows.size());
+
+        log.info("게시글 가져오기 진행 - batch: {}, rows: {} (누적 {}), {} ms ({} rows/s), 경과 {} ms",
+                batchNumber, rows.size(), importedBefore + rows.size(),
+                TimeUnit.NANOSECONDS.toMillis(batchNanos), rows.size() * 1_000_000_000L / Math.max(batchNanos, 1),
+                elapsedMillis(startedAt));
+        return rows.size();
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    // 행을 읽다가 난 실패와 배치를 저장하다 난 실패를 구분한다
+    private static class BatchSaveException extends RuntimeException {
+
+        BatchSaveException(RuntimeException cause) {
+            super(cause);
+        }
+
+    }
+
+}
@@ -1,21 +1,51 @@
 package com.study.projectboard.service;
 
+import com.study.projectboard.datasource.ReadWriteRoutingDataSource;
 import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.Hashtag;
 import com.study.projectboard.domain.UserAccount;
 import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.dto.ArticleCommentDto;
+import com.study.projectboard.dto.ArticleCursor;
 import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.dto.ArticleListDto;
 import com.study.projectboard.dto.ArticleWithCommentsDto;
+import com.study.projectboard.dto.CursorSlice;
+import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.event.ArticleEvent;
 import com.study.projectboard.repository.ArticleRepository;
 import com.study.projectboard.repository.UserAccountRepository;
+import com.study.projectboard.service.search.ArticleSearchIndex;
+import com.study.projectboard.service.search.SearchHits;
+import com.study.projectboard.service.trending.TrendingHashtags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,14 +53,37 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ArticleService {
 
+    private static final int TRENDING_HASHTAG_SIZE = 10;
+
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
+    private final ArticleCountCache articleCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final HashtagService hashtagService;
+    private final TrendingHashtags trendingHashtags;
+    private final ArticleCommentService articleCommentService;
+    private final ArticleDetailCache articleDetailCache;
+    private final UserAccountCache userAccountCache;
+    private final ConcurrentPageQuery concurrentPageQuery;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional(readOnly = true)
+    /**
+     * 게시글과 댓글 첫 페이지. 캐시에 없을 때만 DB 에서 불러온다.
+     * 캐시 적중은 커넥션을 빌리지 않도록, 읽기 전용 트랜잭션은 DB 에서 불러올 때만 연다.
+     * 캐시를 채우는 조회이므로 복제본이 아닌 원본에서 읽는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ArticleWithCommentsDto getArticleWithComments(Long articleId) {
-        return articleRepository.findById(articleId)
-                .map(ArticleWithCommentsDto::from)
+        return articleDetailCache.get(articleId, id -> ReadWriteRoutingDataSource.readFromPrimary(() -> readOnly(() -> loadArticleWithComments(id))));
+    }
+
+    private ArticleWithCommentsDto loadArticleWithComments(Long articleId) {
+        Article article = articleRepository.findWithUserAccountById(articleId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId));
+        CursorSlice<ArticleCommentDto> articleComments =
+                articleCommentService.searchArticleComments(articleId, null, ArticleCommentService.COMMENT_PAGE_SIZE);
+        return ArticleWithCommentsDto.from(article, articleComments);
     }
 
     @Transactional(readOnly = true)
@@ -44,27 +97,181 @@ public class ArticleService {
 
     /**
      * 검색에 따른 결과를 리턴한다
+     * 검색 인덱스가 준비되어 있으면 HASHTAG 를 제외한 검색은 인덱스를 사용한다.
+     * 본문 검색은 관련도(BM25) 순, 제목/유저 ID/닉네임 부분 문자열 검색은 최신 id 순으로 정렬한다.
+     * 부분 문자열 검색에 최신순이 아닌 정렬을 요청하면 인덱스 대신 DB 에서 정렬해서 검색한다.
+     * DB 검색은 내용 쿼리와 COUNT 쿼리를 동시에 실행하고, COUNT 가 늦으면 전체 개수 없는 {@code Slice} 를 리턴한다.
      * @param searchType
      * @param searchKeyword
      * @param pageable
-     * @return
+     * @return 전체 개수를 알면 {@code Page}
      */
-    @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Slice<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return concurrentPageQuery.execute(pageable,
+                    () -> articleRepository.findSliceBy(pageable).map(ArticleDto::from),
+                    articleRepository::count);
+        }
+        if (isIndexed(searchType, searchKeyword, pageable.getSort())) {
+            return readOnly(() -> searchIndex(searchType, searchKeyword, pageable, this::loadArticles, ArticleDto::id));
+        }
+
+        return switch (searchType) {
+            case TITLE -> concurrentPageQuery.execute(pageable,
+                    () -> articleRepository.findSliceByTitleContaining(searchKeyword, pageable).map(ArticleDto::from),
+                    () -> articleRepository.countByTitleContaining(searchKeyword));
+            case CONTENT -> concurrentPageQuery.execute(pageable,
+                    () -> articleRepository.findSliceByContentContaining(searchKeyword, pageable).map(ArticleDto::from),
+                    () -> articleRepository.countByContentContaining(searchKeyword));
+            case ID -> concurrentPageQuery.execute(pageable,
+                    () -> articleRepository.findSliceByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from),
+                    () -> articleRepository.countByUserAccount_UserIdContaining(searchKeyword));
+            case NICKNAME -> concurrentPageQuery.execute(pageable,
+                    () -> articleRepository.findSliceByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from),
+                    () -> articleRepository.countByUserAccount_NicknameContaining(searchKeyword));
+            case HASHTAG -> searchByHashtagName(Hashtag.normalizeName(searchKeyword), pageable);
+        };
+    }
+
+    /**
+     * 목록 화면용 검색. 다음 페이지가 있는지만 알려주고, 전체 개수는 {@link #getCachedArticleCount} 로 따로 얻는다.
+     * 개수가 아직 캐시되지 않았으면 내용 쿼리와 COUNT 쿼리를 동시에 실행해서, 제때 끝난 개수를 캐시에 넣는다.
+     * 목록 화면에 필요한 컬럼만 조회하므로 본문과 작성자 엔티티는 불러오지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Slice<ArticleListDto> searchArticleSlice(SearchType searchType, String searchKeyword, Pageable pageable) {
 
         if (searchKeyword == null || searchKeyword.isBlank()) {
-            return articleRepository.findAll(pageable).map(ArticleDto::from);
+            return searchListSlice(null, null, pageable);
+        }
+        if (isIndexed(searchType, searchKeyword, pageable.getSort())) {
+            return readOnly(() -> searchIndex(searchType, searchKeyword, pageable, articleRepository::findListByIdIn, ArticleListDto::id));
+        }
+
+        Slice<ArticleListDto> articles = searchListSlice(searchType, searchKeyword, pageable);
+        return searchType == SearchType.HASHTAG ? recordHashtagSearch(searchKeyword, articles) : articles;
+    }
+
+    // 커서로 이어 갈 수 있도록 전체 개수를 알아도 Slice 로 돌려준다
+    private Slice<ArticleListDto> searchListSlice(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (articleCountCache.get(searchType, searchKeyword).isPresent()) {
+            return readOnly(() -> articleRepository.findListSlice(searchType, searchKeyword, pageable));
+        }
+
+        Slice<ArticleListDto> articles = concurrentPageQuery.execute(pageable,
+                () -> articleRepository.findListSlice(searchType, searchKeyword, pageable),
+                () -> articleCountCache.count(searchType, searchKeyword));
+        if (articles instanceof Page<ArticleListDto> page) {
+            articleCountCache.put(searchType, searchKeyword, page.getTotalElements());
+            return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
         }
+        return articles;
+    }
 
+    // n-gram 색인은 최신 id 순으로만 돌려주므로, 다른 정렬을 요청하면 DB 에서 정렬해서 검색한다
+    private boolean isIndexed(SearchType searchType, String searchKeyword, Sort sort) {
+        if (!articleSearchIndex.isReady()) {
+            return false;
+        }
         return switch (searchType) {
-            case TITLE -> articleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case ID ->
-                    articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case NICKNAME ->
-                    articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtag("#" + searchKeyword, pageable).map(ArticleDto::from);
+            case TITLE, ID, NICKNAME -> ArticleSearchIndex.isInfixSearchable(searchKeyword) && isNewestFirst(sort);
+            case CONTENT -> ArticleSearchIndex.isContentSearchable(searchKeyword);
+            case HASHTAG -> false;
+        };
+    }
+
+    private static boolean isNewestFirst(Sort sort) {
+        return sort.stream().allMatch(order -> order.isDescending()
+                && (order.getProperty().equals("createdAt") || order.getProperty().equals("id")));
+    }
+
+    // 인덱스에서 찾은 id 순서를 유지하며 게시글을 불러온다. 인덱스 반영 전에 삭제된 게시글은 빠진다.
+    private <T> Page<T> searchIndex(SearchType searchType, String searchKeyword, Pageable pageable,
+                                    Function<List<Long>, List<T>> loader, Function<T, Long> idOf) {
+        int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+        int limit = pageable.getPageSize();
+        SearchHits hits = switch (searchType) {
+            case TITLE -> articleSearchIndex.searchTitle(searchKeyword, offset, limit);
+            case ID -> articleSearchIndex.searchUserId(searchKeyword, offset, limit);
+            case NICKNAME -> articleSearchIndex.searchNickname(searchKeyword, offset, limit);
+            default -> articleSearchIndex.searchContent(searchKeyword, offset, limit);
         };
+        if (hits.articleIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.totalHits());
+        }
+
+        Map<Long, T> articles = loader.apply(hits.articleIds()).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> content = hits.articleIds().stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, hits.totalHits());
+    }
+
+    private List<ArticleDto> loadArticles(List<Long> articleIds) {
+        return articleRepository.findAllById(articleIds).stream()
+                .map(ArticleDto::from)
+                .toList();
+    }
+
+    /**
+     * 캐시된 검색 결과 개수. 아직 집계되지 않았으면 비어 있다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OptionalLong getCachedArticleCount(SearchType searchType, String searchKeyword) {
+        return articleCountCache.get(searchType, searchKeyword);
+    }
+
+    /**
+     * 커서(키셋) 방식으로 검색 결과를 리턴한다. 깊은 페이지도 OFFSET 없이 조회한다.
+     * 커서가 없거나 잘못된 경우 첫 페이지를 리턴한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ArticleListDto> searchArticlesByCursor(SearchType searchType, String searchKeyword, String cursorToken, Pageable pageable) {
+        ArticleCursor cursor = decodeCursor(cursorToken);
+        Sort.Order order = cursor != null ? cursor.order() : ArticleCursor.orderOf(pageable.getSort());
+        boolean backward = cursor != null && cursor.backward();
+        int size = pageable.getPageSize();
+
+        List<ArticleListDto> articles = new ArrayList<>(articleRepository.findByKeyset(searchType, searchKeyword, order, cursor, size + 1));
+        boolean hasMore = articles.size() > size;
+        if (hasMore) {
+            articles.remove(size);
+        }
+        if (backward) {
+            Collections.reverse(articles);
+        }
+
+        String nextCursor = null;
+        String previousCursor = null;
+        if (!articles.isEmpty()) {
+            ArticleListDto first = articles.get(0);
+            ArticleListDto last = articles.get(articles.size() - 1);
+            if (backward || hasMore) {
+                nextCursor = ArticleCursor.from(last, order, false).encode();
+            }
+            if (backward ? hasMore : cursor != null) {
+                previousCursor = ArticleCursor.from(first, order, true).encode();
+            }
+        }
+
+        return new CursorSlice<>(articles, PageRequest.of(0, size, Sort.by(order)), nextCursor, previousCursor);
+    }
+
+    private ArticleCursor decodeCursor(String cursorToken) {
+        if (cursorToken == null || cursorToken.isBlank()) {
+            return null;
+        }
+        try {
+            return ArticleCursor.decode(cursorToken);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 커서로 조회를 시도했습니다. 첫 페이지를 조회합니다 - cursor: {}", cursorToken);
+            return null;
+        }
     }
 
     @Transactional(readOnly = true)
@@ -72,19 +279,46 @@ public class ArticleService {
         return null;
     }
 
+    /**
+     * 게시글을 저장한다. 새 해시태그는 게시글 트랜잭션을 열기 전에 따로 만들어 둔다({@link HashtagService#createHashtags}).
+     */
+    @Transactional(propagation = Propagation.NEVER)
     public void saveArticle(ArticleDto dto) {
-        UserAccount userAccount = userAccountRepository.findByUserId(dto.userAccountDto().userId()).get();
-        articleRepository.save(dto.toEntity(userAccount));
+        // 로그인할 때 캐시된 회원의 id 로 참조만 만든다. user_account 를 다시 조회하지 않는다.
+        UserAccountDto userAccountDto = userAccountCache.get(dto.userAccountDto().userId())
+                .orElseThrow(() -> new EntityNotFoundException("회원이 없습니다 - userId: " + dto.userAccountDto().userId()));
+        Set<String> hashtagNames = hashtagService.parseHashtagNames(dto.hashtag(), dto.content());
+        hashtagService.createHashtags(hashtagNames);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            UserAccount userAccount = userAccountRepository.getReferenceById(userAccountDto.id());
+            Article article = dto.toEntity(userAccount);
+            Set<Hashtag> hashtags = hashtagService.findOrCreateHashtags(hashtagNames);
+            article.addHashtags(hashtags);
+            Article savedArticle = articleRepository.save(article);
+            hashtagService.increaseArticleCount(hashtags);
+            // 지금 뜨는 해시태그는 커밋된 게시글만 세도록 이벤트를 받아서 기록한다
+            eventPublisher.publishEvent(ArticleEvent.created(ArticleDto.from(savedArticle), hashtagNames));
+        });
     }
 
+    /**
+     * 게시글을 수정한다. {@link #saveArticle} 처럼 새 해시태그는 게시글 트랜잭션을 열기 전에 만들어 둔다.
+     */
+    @Transactional(propagation = Propagation.NEVER)
     public void updateArticle(Long articleId, ArticleDto dto) {
+        hashtagService.createHashtags(hashtagService.parseHashtagNames(dto.hashtag(), dto.content()));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> updateArticleInTransaction(articleId, dto));
+    }
+
+    private void updateArticleInTransaction(Long articleId, ArticleDto dto) {
 
         try {
 
             Article article = articleRepository.getReferenceById(articleId);
-            UserAccount userAccount = userAccountRepository.findByUserId(dto.userAccountDto().userId()).get();
 
-            if (article.getUserAccount().equals(userAccount)) {
+            // 게시글과 함께 불러온 작성자의 userId 로 비교한다
+            if (article.getUserAccount().getUserId().equals(dto.userAccountDto().userId())) {
                 if (dto.title() != null) {
                     article.setTitle(dto.title());
                 }
@@ -92,6 +326,8 @@ public class ArticleService {
                     article.setContent(dto.content());
                 }
                 article.setHashtag(dto.hashtag());
+                updateHashtags(article);
+                eventPublisher.publishEvent(ArticleEvent.updated(ArticleDto.from(article)));
             }
 
 
@@ -103,25 +339,82 @@ public class ArticleService {
 
     }
 
+    // 수정된 해시태그 필드와 본문으로 해시태그를 다시 연결하고, 빠지거나 새로 붙은 해시태그의 게시글 수만 바꾼다
+    private void updateHashtags(Article article) {
+        Set<Hashtag> oldHashtags = new HashSet<>(article.getHashtags());
+        Set<Hashtag> newHashtags = hashtagService.findOrCreateHashtags(hashtagService.parseHashtagNames(article.getHashtag(), article.getContent()));
+        article.clearHashtags();
+        article.addHashtags(newHashtags);
+
+        Set<Hashtag> addedHashtags = new HashSet<>(newHashtags);
+        addedHashtags.removeAll(oldHashtags);
+        Set<Hashtag> removedHashtags = new HashSet<>(oldHashtags);
+        removedHashtags.removeAll(newHashtags);
+        hashtagService.increaseArticleCount(addedHashtags);
+        hashtagService.decreaseArticleCount(removedHashtags);
+    }
+
     public void deleteArticle(long articleId, String userId) {
 //        articleRepository.deleteById(articleI
-        articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId);
+        Set<Hashtag> hashtags = hashtagService.getHashtagsOfArticle(articleId);
+        if (articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId) > 0) {
+            hashtagService.decreaseArticleCount(hashtags);
+            eventPublisher.publishEvent(ArticleEvent.deleted(articleId));
+        }
 
     }
 
-    @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
-        if (hashtag == null || hashtag.isBlank()) {
+    /**
+     * 해시태그로 검색한다. {@link #searchArticles} 처럼 COUNT 가 늦으면 전체 개수 없는 {@code Slice} 를 리턴한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Slice<ArticleDto> searchArticlesViaHashtag(String hashtag, Pageable pageable) {
+        String hashtagName = Hashtag.normalizeName(hashtag);
+        if (hashtagName.isEmpty()) {
             return Page.empty(pageable);
         }
-        return articleRepository.findByHashtag(hashtag, pageable).map(ArticleDto::from);
+        return recordHashtagSearch(hashtagName, searchByHashtagName(hashtagName, pageable));
+    }
+
+    private Slice<ArticleDto> searchByHashtagName(String hashtagName, Pageable pageable) {
+        return concurrentPageQuery.execute(pageable,
+                () -> articleRepository.findSliceByHashtags_HashtagName(hashtagName, pageable).map(ArticleDto::from),
+                () -> articleRepository.countByHashtags_HashtagName(hashtagName));
+    }
+
+    // 결과가 있는 해시태그 검색만 트렌드에 반영한다. 없는 해시태그를 반복 검색해도 순위에 올라오지 않는다.
+    private <T extends Slice<?>> T recordHashtagSearch(String hashtag, T articles) {
+        if (articles.hasContent()) {
+            trendingHashtags.recordSearch(Hashtag.normalizeName(hashtag));
+        }
+        return articles;
     }
 
+    /**
+     * 최근 많이 쓰이고 검색된 해시태그
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> getTrendingHashtags() {
+        return trendingHashtags.getTopHashtagNames(TRENDING_HASHTAG_SIZE).stream()
+                .map(hashtagName -> "#" + hashtagName)
+                .toList();
+    }
+
+    private <T> T readOnly(Supplier<T> query) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    @Transactional(readOnly = true)
     public long getArticleCount() {
         return articleRepository.count();
     }
 
+    @Transactional(readOnly = true)
     public List<String> getHashtags() {
-        return articleRepository.findAllDistinctHashtags();
+        return hashtagService.getHashtagNames().stream()
+                .map(hashtagName -> "#" + hashtagName)
+                .toList();
     }
 }
@@ -0,0 +1,171 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.metrics.JdbcUsage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 목록 페이지의 내용 쿼리와 COUNT 쿼리를 크기가 정해진 스레드 풀에서 동시에 실행하고 합친다.
+ * 두 쿼리는 각자 읽기 전용 트랜잭션에서 돌고, 요청 스레드의 인증 정보(복제본 라우팅의 read-your-writes 때문에)와
+ * JDBC 사용량 구간({@link JdbcUsage})을 넘겨받는다.
+ * 기다리다 포기한 쿼리는 스레드를 인터럽트해도 DB 에서 멈추지 않으므로, 트랜잭션 제한 시간으로 DB 에서도 끊는다.
+ * <p>
+ * COUNT 가 {@link PageQueryProperties#countTimeout()} 안에 끝나면 전체 개수가 있는 {@code Page} 를,
+ * 아니면 취소하고 다음 페이지 여부만 아는 {@code Slice} 를 돌려준다. 화면은 {@code Slice} 면 아는 페이지까지만 보여준다.
+ * 풀이 가득 차면 내용은 요청 스레드에서 실행하고 COUNT 는 맡기지 않는다.
+ */
+@Slf4j
+public class ConcurrentPageQuery implements AutoCloseable {
+
+    private final Executor executor;
+    private final TransactionOperations contentTransaction;
+    private final TransactionOperations countTransaction;
+    private final PageQueryProperties properties;
+
+    /**
+     * @param contentTransaction  내용 쿼리를 실행할 읽기 전용 트랜잭션. 제한 시간이 {@link PageQueryProperties#contentTimeout()} 을 넘지 않아야 한다.
+     * @param countTransaction    COUNT 쿼리를 실행할 읽기 전용 트랜잭션. 제한 시간이 {@link PageQueryProperties#countTimeout()} 을 넘지 않아야 한다.
+     */
+    public ConcurrentPageQuery(TransactionOperations contentTransaction, TransactionOperations countTransaction, PageQueryProperties properties) {
+        this(newExecutor(properties), contentTransaction, countTransaction, properties);
+    }
+
+    ConcurrentPageQuery(Executor executor, TransactionOperations contentTransaction, TransactionOperations countTransaction, PageQueryProperties properties) {
+        this.executor = executor;
+        this.contentTransaction = contentTransaction;
+        this.countTransaction = countTransaction;
+        this.properties = properties;
+    }
+
+    /**
+     * @param content  {@code pageable} 만큼(다음 페이지 확인용으로 한 건 더) 조회하는 쿼리
+     * @param count    전체 개수를 세는 쿼리
+     */
+    public <T> Slice<T> execute(Pageable pageable, Supplier<Slice<T>> content, LongSupplier count) {
+        long startedAt = System.nanoTime();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        FutureTask<Slice<T>> contentTask = submit(content::get, contentTransaction, securityContext);
+        // 내용도 못 맡길 만큼 풀이 바쁘면 COUNT 는 맡기지 않는다
+        FutureTask<Long> countTask = contentTask != null ? submit(count::getAsLong, countTransaction, securityContext) : null;
+
+        Slice<T> slice;
+        try {
+            slice = contentTask != null
+                    ? await(contentTask, properties.contentTimeout().toNanos() - (System.nanoTime() - startedAt))
+                    : contentTransaction.execute(status -> content.get());
+        } catch (TimeoutException e) {
+            contentTask.cancel(true);
+            cancel(countTask);
+            throw new QueryTimeoutException("목록 조회 시간이 초과되었습니다 - %d ms".formatted(properties.contentTimeout().toMillis()));
+        } catch (RuntimeException e) {
+            cancel(countTask);
+            throw e;
+        }
+
+        Long total = countTask != null ? awaitCount(countTask, properties.countTimeout().toNanos() - (System.nanoTime() - startedAt)) : null;
+        if (total == null) {
+            return slice;
+        }
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private <V> FutureTask<V> submit(Callable<V> query, TransactionOperations transaction, SecurityContext securityContext) {
+        FutureTask<V> task = new FutureTask<>(DelegatingSecurityContextCallable.create(
+                JdbcUsage.wrap(() -> transaction.execute(status -> call(query))), securityContext));
+        try {
+            executor.execute(task);
+            return task;
+        } catch (RejectedExecutionException e) {
+            log.debug("목록 쿼리 풀이 가득 찼습니다. 요청 스레드에서 실행합니다");
+            return null;
+        }
+    }
+
+    private static void cancel(FutureTask<?> task) {
+        if (task != null) {
+            task.cancel(true);
+        }
+    }
+
+    // COUNT 가 늦거나 실패하면 개수 없이 돌려준다
+    private Long awaitCount(FutureTask<Long> countTask, long timeoutNanos) {
+        try {
+            return await(countTask, timeoutNanos);
+        } catch (TimeoutException e) {
+            countTask.cancel(true);
+            log.debug("COUNT 쿼리가 {} ms 안에 끝나지 않아 전체 개수 없이 돌려줍니다", properties.countTimeout().toMillis());
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("COUNT 쿼리 실패, 전체 개수 없이 돌려줍니다 - {}", e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    private static <V> V await(FutureTask<V> task, long timeoutNanos) throws TimeoutException {
+        try {
+            return task.get(Math.max(timeoutNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(true);
+            throw new QueryTimeoutException("목록 조회가 중단되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static <V> V call(Callable<V> query) {
+        try {
+            return query.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ExecutorService newExecutor(PageQueryProperties properties) {
+        BlockingQueue<Runnable> queue = properties.queueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.queueCapacity())
+                : new SynchronousQueue<>();
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(properties.threads(), properties.threads(), 0, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "page-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+}
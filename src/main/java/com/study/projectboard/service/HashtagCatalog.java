@@ -0,0 +1,163 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.datasource.ReadWriteRoutingDataSource;
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.event.HashtagCountEvent;
+import com.study.projectboard.repository.HashtagRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 해시태그 검색 페이지용 해시태그 목록 캐시.
+ * 게시글 수가 1 이상인 해시태그 이름을 정렬된 맵(이름 → 게시글 수)으로 들고 있다.
+ * 시작할 때 한 번 읽고, 이후에는 커밋된 {@link HashtagCountEvent} 로만 바꾼다.
+ * 로딩 전이거나 로딩에 실패하면 비어 있으므로, 호출하는 쪽에서 DB 를 조회해야 한다.
+ */
+@Slf4j
+@Component
+public class HashtagCatalog {
+
+    private final HashtagRepository hashtagRepository;
+    private final TreeMap<String, Long> articleCounts = new TreeMap<>();
+    private List<HashtagCountEvent> pendingEvents; // 다시 만드는 중에 들어온 이벤트. DB 에서 읽은 값으로 바꾼 뒤 다시 반영한다.
+    private volatile List<String> hashtagNames; // 정렬된 이름 스냅샷. 읽을 때는 잠금 없이 사용한다.
+    private volatile long lastRebuiltAt;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer rebuildTimer;
+    private final Counter rebuildFailureCounter;
+
+    public HashtagCatalog(HashtagRepository hashtagRepository, MeterRegistry meterRegistry) {
+        this.hashtagRepository = hashtagRepository;
+        this.hitCounter = Counter.builder("board.hashtag.catalog.requests")
+                .description("해시태그 카탈로그 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("board.hashtag.catalog.requests")
+                .description("해시태그 카탈로그 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("board.hashtag.catalog.rebuild")
+                .description("해시태그 카탈로그 전체 로딩 시간")
+                .register(meterRegistry);
+        this.rebuildFailureCounter = Counter.builder("board.hashtag.catalog.rebuild.failures")
+                .description("해시태그 카탈로그 로딩 실패 수")
+                .register(meterRegistry);
+        Gauge.builder("board.hashtag.catalog.size", this, HashtagCatalog::size)
+                .description("해시태그 카탈로그에 있는 해시태그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글이 달린 해시태그 이름을 이름 순으로 리턴한다. 아직 로딩되지 않았으면 비어 있다.
+     */
+    public Optional<List<String>> getHashtagNames() {
+        List<String> names = hashtagNames;
+        if (names == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(names);
+    }
+
+    public boolean isLoaded() {
+        return hashtagNames != null;
+    }
+
+    public int size() {
+        List<String> names = hashtagNames;
+        return names == null ? 0 : names.size();
+    }
+
+    public long lastRebuiltAt() {
+        return lastRebuiltAt;
+    }
+
+    /**
+     * DB 의 해시태그별 게시글 수로 카탈로그를 다시 만든다. 시작할 때와, 운영 중 값이 어긋났을 때 사용한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (articleCounts) {
+            if (pendingEvents != null) {
+                log.warn("해시태그 카탈로그를 이미 로딩하고 있습니다.");
+                return;
+            }
+            pendingEvents = new ArrayList<>();
+        }
+
+        try {
+            rebuildTimer.record(() -> {
+                // 이후 이벤트로만 바꾸므로 복제 지연 없이 원본에서 읽는다
+                List<Hashtag> hashtags = ReadWriteRoutingDataSource.readFromPrimary(() -> hashtagRepository.findByArticleCountGreaterThan(0L));
+                synchronized (articleCounts) {
+                    articleCounts.clear();
+                    hashtags.forEach(hashtag -> articleCounts.put(hashtag.getHashtagName(), hashtag.getArticleCount()));
+                    // DB 를 읽는 동안 커밋된 변경은 읽은 값에 빠져 있을 수 있으므로 다시 반영한다
+                    pendingEvents.forEach(this::apply);
+                    publishSnapshot();
+                }
+            });
+            lastRebuiltAt = System.currentTimeMillis();
+            log.info("해시태그 카탈로그 로딩 완료 - hashtags: {}", size());
+        } catch (RuntimeException e) {
+            rebuildFailureCounter.increment();
+            log.warn("해시태그 카탈로그 로딩 실패, DB 에서 해시태그를 조회합니다 - {}", e.getLocalizedMessage());
+        } finally {
+            synchronized (articleCounts) {
+                pendingEvents = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onHashtagCountEvent(HashtagCountEvent event) {
+        synchronized (articleCounts) {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            if (hashtagNames == null) {
+                return;
+            }
+            if (apply(event)) {
+                publishSnapshot();
+            }
+        }
+    }
+
+    // articleCounts 잠금 안에서 호출한다. 게시글이 달린 해시태그 목록이 바뀌었으면 true 를 리턴한다.
+    private boolean apply(HashtagCountEvent event) {
+        boolean changed = false;
+        for (String name : event.hashtagNames()) {
+            long before = articleCounts.getOrDefault(name, 0L);
+            long after = before + event.delta();
+            if (after > 0) {
+                articleCounts.put(name, after);
+            } else {
+                articleCounts.remove(name);
+            }
+            changed |= (before > 0) != (after > 0);
+        }
+        return changed;
+    }
+
+    // articleCounts 잠금 안에서 호출한다
+    private void publishSnapshot() {
+        hashtagNames = List.copyOf(articleCounts.keySet());
+    }
+
+}
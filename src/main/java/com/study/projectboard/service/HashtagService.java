@@ -0,0 +1,161 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.event.HashtagCountEvent;
+import com.study.projectboard.repository.HashtagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Transactional
+public class HashtagService {
+
+    private static final Pattern HASHTAG_PATTERN = Pattern.compile("(?<![\\p{L}\\p{N}_])#([\\p{L}\\p{N}_]+)");
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagCatalog hashtagCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+
+    public HashtagService(
+            HashtagRepository hashtagRepository,
+            HashtagCatalog hashtagCatalog,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.hashtagRepository = hashtagRepository;
+        this.hashtagCatalog = hashtagCatalog;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 해시태그 입력값과 본문에서 '#이름' 형태의 해시태그를 모두 뽑아 정규화한 이름으로 리턴한다.
+     */
+    public Set<String> parseHashtagNames(String... texts) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            Matcher matcher = HASHTAG_PATTERN.matcher(text);
+            while (matcher.find()) {
+                String name = Hashtag.normalizeName(matcher.group(1));
+                if (name.length() <= Hashtag.MAX_NAME_LENGTH) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 없는 해시태그를 짧은 트랜잭션으로 먼저 만들어 커밋한다. 게시글을 저장하는 트랜잭션을 열기 전에 불러야 한다.
+     * 트랜잭션 안에서 커넥션을 하나 더 빌리지 않고, 뒤에 여는 트랜잭션은 커밋된 해시태그를 그대로 읽는다.
+     * 같은 새 해시태그를 다른 요청이 동시에 만들어서 유니크 제약에 걸리면, 하나씩 다시 만들면서 이미 있는 이름은 건너뛴다.
+     * 게시글 저장이 실패해도 해시태그는 남지만, 게시글 수가 0 이라 목록에는 나오지 않는다.
+     */
+    @Transactional(propagation = Propagation.NEVER)
+    public void createHashtags(Set<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return;
+        }
+
+        List<String> newNames = newNamesOf(hashtagNames, hashtagRepository.findByHashtagNameIn(hashtagNames));
+        if (newNames.isEmpty()) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> hashtagRepository.saveAll(newNames.stream().map(Hashtag::of).toList()));
+        } catch (DataIntegrityViolationException e) {
+            for (String name : newNames) {
+                try {
+                    transaction.executeWithoutResult(status -> hashtagRepository.save(Hashtag.of(name)));
+                } catch (DataIntegrityViolationException duplicate) {
+                    log.debug("다른 요청이 먼저 만든 해시태그를 사용합니다 - hashtag: {}", name);
+                }
+            }
+        }
+    }
+
+    /**
+     * 이름에 해당하는 해시태그를 찾는다. 보통은 {@link #createHashtags} 로 미리 만들어 둔 해시태그를 읽기만 한다.
+     * 그래도 없는 해시태그는 지금 트랜잭션에서 만드므로, 같은 이름을 다른 요청이 동시에 만들면 유니크 제약 위반으로 실패할 수 있다.
+     */
+    public Set<Hashtag> findOrCreateHashtags(Set<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Hashtag> hashtags = new LinkedHashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
+        List<String> newNames = newNamesOf(hashtagNames, hashtags);
+        if (!newNames.isEmpty()) {
+            hashtags.addAll(hashtagRepository.saveAll(newNames.stream().map(Hashtag::of).toList()));
+        }
+        return hashtags;
+    }
+
+    private static List<String> newNamesOf(Set<String> hashtagNames, Collection<Hashtag> existingHashtags) {
+        Set<String> existingNames = existingHashtags.stream().map(Hashtag::getHashtagName).collect(Collectors.toSet());
+        return hashtagNames.stream()
+                .filter(name -> !existingNames.contains(name))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Hashtag> getHashtagsOfArticle(Long articleId) {
+        return new HashSet<>(hashtagRepository.findByArticleId(articleId));
+    }
+
+    public void increaseArticleCount(Collection<Hashtag> hashtags) {
+        changeArticleCount(hashtags, 1);
+    }
+
+    public void decreaseArticleCount(Collection<Hashtag> hashtags) {
+        changeArticleCount(hashtags, -1);
+    }
+
+    /**
+     * 여러 게시글을 한 번에 저장할 때 사용한다. 늘어난 게시글 수가 같은 해시태그끼리 묶어서 한 번씩만 갱신한다.
+     */
+    public void increaseArticleCounts(Map<Hashtag, Long> articleCounts) {
+        articleCounts.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+                .forEach((delta, hashtags) -> changeArticleCount(hashtags, delta));
+    }
+
+    /**
+     * 게시글이 달린 해시태그 이름을 이름 순으로 리턴한다. 해시태그 카탈로그가 로딩되어 있으면 DB 를 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<String> getHashtagNames() {
+        return hashtagCatalog.getHashtagNames()
+                .orElseGet(hashtagRepository::findAllHashtagNames);
+    }
+
+    private void changeArticleCount(Collection<Hashtag> hashtags, long delta) {
+        if (hashtags.isEmpty()) {
+            return;
+        }
+        hashtagRepository.updateArticleCount(hashtags.stream().map(Hashtag::getId).toList(), delta);
+        eventPublisher.publishEvent(new HashtagCountEvent(hashtags.stream().map(Hashtag::getHashtagName).toList(), delta));
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.study.projectboard.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 목록 내용 쿼리와 COUNT 쿼리를 동시에 실행하는 {@link ConcurrentPageQuery} 설정.
+ *
+ * @param threads         쿼리를 실행할 스레드 수. 요청 하나가 두 개까지 쓴다.
+ * @param queueCapacity   스레드가 모두 바쁠 때 기다릴 수 있는 쿼리 수. 넘으면 내용은 요청 스레드에서 실행하고 COUNT 는 건너뛴다.
+ * @param contentTimeout  내용 쿼리를 기다릴 시간. 넘으면 실패한다.
+ * @param countTimeout    COUNT 쿼리를 기다릴 시간(두 쿼리를 맡긴 때부터). 넘으면 전체 개수 없이 다음 페이지 여부만 돌려준다.
+ *                        두 시간은 초 단위로 내림해서(최소 1초) 각 쿼리 트랜잭션의 제한 시간으로도 쓴다.
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.page-query")
+public record PageQueryProperties(
+        @DefaultValue("8") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("5s") Duration contentTimeout,
+        @DefaultValue("500ms") Duration countTimeout
+) {
+
+    public PageQueryProperties {
+        if (threads < 1 || queueCapacity < 0 || contentTimeout.isNegative() || countTimeout.isNegative()) {
+            throw new IllegalArgumentException("board.page-query 설정이 올바르지 않습니다 - threads: %d, queueCapacity: %d, contentTimeout: %s, countTimeout: %s"
+                    .formatted(threads, queueCapacity, contentTimeout, countTimeout));
+        }
+    }
+
+}
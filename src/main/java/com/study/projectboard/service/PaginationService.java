@@ -9,10 +9,12 @@ import java.util.stream.IntStream;
 public class PaginationService {
 
     private static final int BAR_LENGTH = 5;
+    // 이 페이지 번호 이후로는 OFFSET 대신 커서(키셋) 페이지네이션으로 넘어간다.
+    private static final int OFFSET_PAGE_LIMIT = 100;
 
     public List<Integer> getPaginationBarNumbers(int currentPageNumber, int totalPages) {
         int startNumber = Math.max(currentPageNumber - (BAR_LENGTH / 2), 0);
-        int endNumber = Math.min(startNumber + BAR_LENGTH, totalPages);
+        int endNumber = Math.min(startNumber + BAR_LENGTH, Math.min(totalPages, OFFSET_PAGE_LIMIT));
         return IntStream.range(startNumber, endNumber).boxed().toList();
     }
 
@@ -20,6 +22,10 @@ public class PaginationService {
         return BAR_LENGTH;
     }
 
+    public int offsetPageLimit() {
+        return OFFSET_PAGE_LIMIT;
+    }
+
 
 
 
@@ -0,0 +1,65 @@
+package com.study.projectboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.study.projectboard.datasource.ReadWriteRoutingDataSource;
+import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.repository.UserAccountRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 회원 캐시(userId → 회원 정보).
+ * <p>
+ * 로그인한 요청마다 {@code UserDetailsService} 가 회원을 조회하고, 글을 쓸 때 서비스가 같은 회원을 한 번 더 조회하던 것을 하나로 모은다.
+ * 지금은 애플리케이션에서 회원 정보를 바꾸는 곳이 없으므로, DB 에서 바뀐 회원은 쓰고 나서 {@link #EXPIRE_AFTER_WRITE} 가 지나 만료된 뒤에 반영된다.
+ * 회원 정보를 바꾸는 기능이 생기면 커밋 이후에 {@link #evict} 를 불러야 한다.
+ * 없는 회원은 캐시하지 않는다.
+ */
+@Component
+public class UserAccountCache {
+
+    static final String CACHE_NAME = "user.account";
+    private static final long MAX_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+
+    private final UserAccountRepository userAccountRepository;
+    private final Cache<String, UserAccountDto> cache;
+
+    public UserAccountCache(UserAccountRepository userAccountRepository, MeterRegistry meterRegistry) {
+        this.userAccountRepository = userAccountRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(EXPIRE_AFTER_WRITE)
+                .recordStats()
+                .build();
+        // 캐시 적중 한 번이 user_account 조회 한 번을 아낀 것이다
+        FunctionCounter.builder("board.user.account.queries.saved", cache, c -> c.stats().hitCount())
+                .description("회원 캐시 덕분에 하지 않은 user_account 조회 수")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 회원 정보를 리턴한다. 캐시에 없으면 원본 DB 에서 불러와서 넣는다.
+     */
+    public Optional<UserAccountDto> get(String userId) {
+        return Optional.ofNullable(cache.get(userId, key -> ReadWriteRoutingDataSource.readFromPrimary(() -> userAccountRepository.findByUserId(key)
+                .map(UserAccountDto::from)
+                .orElse(null))));
+    }
+
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.study.projectboard.service.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 부하 테스트용 데이터 생성량. {@code datagen} 프로파일에서만 쓰인다.
+ *
+ * @param users         만들 회원 수
+ * @param articles      만들 게시글 수
+ * @param comments      만들 댓글 수. 게시글마다 Zipf 분포로 나눠 단다.
+ * @param zipfExponent  작성자, 해시태그, 댓글이 달릴 게시글을 뽑을 때 쓰는 Zipf 지수
+ * @param seed          난수 시드. 같은 시드면 같은 데이터가 만들어진다.
+ * @param batchSize     insert 한 번에 묶어 보낼 행 수
+ */
+@ConstructorBinding
+@ConfigurationProperties("board.datagen")
+public record DataGeneratorProperties(
+        @DefaultValue("10000") int users,
+        @DefaultValue("1000000") int articles,
+        @DefaultValue("3000000") long comments,
+        @DefaultValue("1.1") double zipfExponent,
+        @DefaultValue("42") long seed,
+        @DefaultValue("1000") int batchSize
+) {
+
+    public DataGeneratorProperties {
+        if (users < 1 || articles < 0 || comments < 0 || (articles == 0 && comments > 0) || batchSize < 1) {
+            throw new IllegalArgumentException("board.datagen 설정이 올바르지 않습니다 - users: %d, articles: %d, comments: %d, batchSize: %d"
+                    .formatted(users, articles, comments, batchSize));
+        }
+    }
+
+}
@@ -0,0 +1,261 @@
+package com.study.projectboard.service.datagen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트용으로 운영 규모의 회원, 게시글, 댓글을 만든다. {@code datagen} 프로파일로 띄우면 시작할 때 한 번 돈다.
+ * <p>
+ * JPA 를 거치지 않고 {@link JdbcTemplate#batchUpdate} 로 {@link DataGeneratorProperties#batchSize()} 행씩 넣는다.
+ * 그래서 게시글 100만 건 이상도 힙 사용량이 일정하다. 배치마다 커밋되므로, 중간에 멈추면 그 전까지의 행은 남는다.
+ * <p>
+ * 게시글, 댓글, 회원, 해시태그 id 는 {@code id_generator} 에서 필요한 만큼 한 번에 예약하고 직접 채운다.
+ * 그래서 생성이 끝난 뒤 애플리케이션이 저장하는 엔티티와 id 가 겹치지 않는다.
+ * 작성자, 해시태그, 댓글이 달릴 게시글은 Zipf 분포로 뽑아서, 소수의 회원/태그/게시글에 몰리는 실제 분포를 흉내낸다.
+ */
+@Slf4j
+@Profile("datagen")
+@Component
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    static final String CREATED_BY = "datagen";
+    static final String PASSWORD = "{noop}asdf1234";
+
+    private static final Duration ARTICLE_SPAN = Duration.ofDays(3 * 365); // 게시글 작성일을 고르게 펼칠 기간
+    private static final long COMMENT_DELAY_SECONDS = Duration.ofDays(7).toSeconds(); // 게시글 작성 후 댓글이 달리기까지 최대 시간
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataGeneratorProperties properties;
+
+    @Override
+    public void run(String... args) {
+        generate();
+    }
+
+    public void generate() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Random random = new Random(properties.seed());
+        SyntheticText text = new SyntheticText(random, properties.zipfExponent());
+        log.info("테스트 데이터 생성 시작 - {}", properties);
+
+        long firstUserId = reserveIds("user_account", properties.users());
+        long firstArticleId = reserveIds("article", properties.articles());
+        long firstCommentId = reserveIds("article_comment", properties.comments());
+
+        ZipfSampler authorSampler = new ZipfSampler(properties.users(), properties.zipfExponent());
+        insertUsers(firstUserId, now);
+        insertArticles(firstUserId, firstArticleId, authorSampler, text, random, now);
+        insertComments(firstUserId, firstArticleId, firstCommentId, authorSampler, text, random, now);
+
+        log.info("테스트 데이터 생성 완료 - users: {}, articles: {}, comments: {}, {} ms",
+                properties.users(), properties.articles(), properties.comments(), elapsedMillis(startedAt));
+    }
+
+    /**
+     * {@code id_generator} 에서 {@code count} 개의 id 를 한 번에 가져가고 첫 id 를 리턴한다.
+     * 테이블에 이미 들어 있는 최대 id 보다 뒤에서 시작한다. 시퀀스 이름은 테이블 이름과 같다.
+     */
+    private long reserveIds(String table, long count) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        List<Long> nextVal = jdbcTemplate.queryForList("select next_val from id_generator where sequence_name = ?", Long.class, table);
+        long firstId = Math.max(maxId + 1, nextVal.isEmpty() ? 1 : nextVal.get(0));
+        if (nextVal.isEmpty()) {
+            jdbcTemplate.update("insert into id_generator (sequence_name, next_val) values (?, ?)", table, firstId + count);
+        } else {
+            jdbcTemplate.update("update id_generator set next_val = ? where sequence_name = ?", firstId + count, table);
+        }
+        return firstId;
+    }
+
+    private void insertUsers(long firstUserId, LocalDateTime now) {
+        String sql = "insert into user_account (id, user_id, user_password, nickname, email, memo, created_at, created_by, modified_at, modified_by) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp createdAt = Timestamp.valueOf(now.minus(ARTICLE_SPAN));
+        BatchWriter users = new BatchWriter("user_account", sql);
+        for (long id = firstUserId; id < firstUserId + properties.users(); id++) {
+            String userId = userId(id);
+            users.add(id, userId, PASSWORD, "회원" + id, userId + "@mail.com", null, createdAt, CREATED_BY, createdAt, CREATED_BY);
+        }
+        users.flush();
+    }
+
+    private void insertArticles(long firstUserId, long firstArticleId, ZipfSampler authorSampler, SyntheticText text, Random random, LocalDateTime now) {
+        Map<String, Long> hashtagIds = findOrCreateHashtags(now);
+        Map<String, Long> articleCounts = new HashMap<>();
+        String sql = "insert into article (id, user_account_id, title, content, hashtag, created_at, created_by, modified_at, modified_by) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        BatchWriter articles = new BatchWriter("article", sql);
+        BatchWriter articleHashtags = new BatchWriter("article_hashtag", "insert into article_hashtag (article_id, hashtag_id) values (?, ?)");
+
+        for (int index = 0; index < properties.articles(); index++) {
+            long id = firstArticleId + index;
+            long userAccountId = firstUserId + authorSampler.sample(random);
+            List<String> hashtagNames = text.hashtagNames();
+            Timestamp createdAt = Timestamp.valueOf(articleCreatedAt(index, now));
+            articles.add(id, userAccountId, text.title(), text.content(hashtagNames),
+                    hashtagNames.isEmpty() ? null : "#" + hashtagNames.get(0),
+                    createdAt, userId(userAccountId), createdAt, userId(userAccountId));
+            for (String name : hashtagNames) {
+                articleHashtags.add(id, hashtagIds.get(name));
+                articleCounts.merge(name, 1L, Long::sum);
+            }
+            // 연결 테이블은 외래키 때문에 게시글이 먼저 들어가 있어야 한다
+            if (articles.isFull()) {
+                articles.flush();
+                articleHashtags.flush();
+            }
+        }
+        articles.flush();
+        articleHashtags.flush();
+
+        jdbcTemplate.batchUpdate("update hashtag set article_count = article_count + ? where id = ?",
+                articleCounts.entrySet().stream()
+                        .map(entry -> new Object[]{entry.getValue(), hashtagIds.get(entry.getKey())})
+                        .toList());
+    }
+
+    private Map<String, Long> findOrCreateHashtags(LocalDateTime now) {
+        List<String> names = SyntheticText.HASHTAG_NAMES;
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        String selectSql = "select id, hashtag_name from hashtag where hashtag_name in (" + placeholders + ")";
+
+        Map<String, Long> hashtagIds = new HashMap<>();
+        jdbcTemplate.query(selectSql, rs -> {
+            hashtagIds.put(rs.getString("hashtag_name"), rs.getLong("id"));
+        }, names.toArray());
+        Timestamp createdAt = Timestamp.valueOf(now);
+        List<String> newNames = names.stream()
+                .filter(name -> !hashtagIds.containsKey(name))
+                .toList();
+        if (!newNames.isEmpty()) {
+            long firstHashtagId = reserveIds("hashtag", newNames.size());
+            List<Object[]> newHashtags = new ArrayList<>(newNames.size());
+            for (int i = 0; i < newNames.size(); i++) {
+                newHashtags.add(new Object[]{firstHashtagId + i, newNames.get(i), createdAt, CREATED_BY, createdAt, CREATED_BY});
+            }
+            jdbcTemplate.batchUpdate("insert into hashtag (id, hashtag_name, article_count, created_at, created_by, modified_at, modified_by) "
+                    + "values (?, ?, 0, ?, ?, ?, ?)", newHashtags);
+            jdbcTemplate.query(selectSql, rs -> {
+                hashtagIds.put(rs.getString("hashtag_name"), rs.getLong("id"));
+            }, names.toArray());
+        }
+        return hashtagIds;
+    }
+
+    private void insertComments(long firstUserId, long firstArticleId, long firstCommentId, ZipfSampler authorSampler,
+                                SyntheticText text, Random random, LocalDateTime now) {
+        if (properties.comments() == 0) {
+            return;
+        }
+        int articleCount = properties.articles();
+        ZipfSampler articleSampler = new ZipfSampler(articleCount, properties.zipfExponent());
+        long stride = stride(articleCount);
+        String sql = "insert into article_comment (id, article_id, user_account_id, content, created_at, created_by, modified_at, modified_by) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+        BatchWriter comments = new BatchWriter("article_comment", sql);
+
+        for (long id = firstCommentId; id < firstCommentId + properties.comments(); id++) {
+            // 인기 순위를 게시글 위치로 흩뿌려서, 댓글이 많은 게시글이 최신 글이나 오래된 글에 몰리지 않게 한다
+            int articleIndex = (int) (articleSampler.sample(random) * stride % articleCount);
+            long userAccountId = firstUserId + authorSampler.sample(random);
+            LocalDateTime commentedAt = articleCreatedAt(articleIndex, now).plusSeconds((long) (random.nextDouble() * COMMENT_DELAY_SECONDS));
+            Timestamp createdAt = Timestamp.valueOf(commentedAt.isAfter(now) ? now : commentedAt);
+            comments.add(id, firstArticleId + articleIndex, userAccountId, text.comment(),
+                    createdAt, userId(userAccountId), createdAt, userId(userAccountId));
+            if (comments.isFull()) {
+                comments.flush();
+            }
+        }
+        comments.flush();
+    }
+
+    // 게시글 작성일은 id 순서대로 ARTICLE_SPAN 기간에 고르게 펼친다
+    private LocalDateTime articleCreatedAt(int index, LocalDateTime now) {
+        long offsetSeconds = ARTICLE_SPAN.toSeconds() * index / Math.max(properties.articles(), 1);
+        return now.minus(ARTICLE_SPAN).plusSeconds(offsetSeconds);
+    }
+
+    // 게시글 수와 서로소인 보폭. 순위에 곱해서 나머지를 구하면 순위와 게시글 위치가 일대일로 대응한다.
+    private static long stride(int articleCount) {
+        long stride = 1_000_003L;
+        while (gcd(stride, articleCount) != 1) {
+            stride += 2;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    static String userId(long id) {
+        return "user" + id;
+    }
+
+    private static long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 행을 모아 두었다가 한 번의 batch insert 로 보내고, 테이블별 진행 상황을 남긴다.
+     */
+    private class BatchWriter {
+
+        private static final long LOG_INTERVAL = 100_000;
+
+        private final String table;
+        private final String sql;
+        private final List<Object[]> rows;
+        private final long startedAt = System.nanoTime();
+        private long written;
+
+        BatchWriter(String table, String sql) {
+            this.table = table;
+            this.sql = sql;
+            this.rows = new ArrayList<>(properties.batchSize());
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+        }
+
+        boolean isFull() {
+            return rows.size() >= properties.batchSize();
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            long before = written;
+            written += rows.size();
+            rows.clear();
+            if (before / LOG_INTERVAL != written / LOG_INTERVAL) {
+                long elapsedMillis = elapsedMillis(startedAt);
+                log.info("테스트 데이터 생성 진행 - {}: {} 행, {} ms ({} rows/s)",
+                        table, written, elapsedMillis, written * 1000 / Math.max(elapsedMillis, 1));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.study.projectboard.service.datagen;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 실제 게시판과 비슷한 길이와 구성의 제목, 본문, 해시태그를 만든다.
+ * 문장은 한국어와 영어를 7:3 정도로 섞고, 해시태그는 정해진 어휘에서 Zipf 분포로 뽑아 인기 태그에 몰리게 한다.
+ * 해시태그 이름은 이미 정규화된 형태(소문자, '#' 없음)라서 {@code HashtagService#parseHashtagNames} 결과와 같다.
+ */
+class SyntheticText {
+
+    static final List<String> HASHTAG_NAMES = List.of(
+            "java", "spring", "jpa", "일상", "개발", "질문", "mysql", "취업", "공부", "여행",
+            "맛집", "springboot", "querydsl", "회고", "kotlin", "javascript", "react", "docker", "aws", "리뷰",
+            "독서", "운동", "코딩테스트", "알고리즘", "linux", "git", "redis", "kafka", "테스트", "리팩토링",
+            "면접", "이직", "사이드프로젝트", "스터디", "python", "gradle", "security", "thymeleaf", "h2", "카페",
+            "영화", "음악", "게임", "사진", "강아지", "고양이", "주말", "출근", "퇴근", "야근",
+            "성능", "튜닝", "캐시", "인덱스", "트랜잭션", "배포", "모니터링", "k8s", "nginx", "oauth"
+    );
+
+    private static final String[] KOREAN_WORDS = {
+            "오늘", "어제", "프로젝트", "코드", "서버", "데이터베이스", "쿼리", "화면", "회원", "게시글",
+            "댓글", "검색", "설정", "버전", "문제", "해결", "방법", "경험", "공유", "정리",
+            "처음", "다시", "조금", "정말", "생각보다", "빠르게", "천천히", "결국", "그래서", "하지만",
+            "테스트를", "배포를", "리뷰를", "공부를", "고민을", "질문을", "답변을", "기록을", "시간이", "성능이"
+    };
+    private static final String[] KOREAN_ENDINGS = {
+            "했습니다", "해봤어요", "같아요", "됐습니다", "남겨요", "궁금합니다", "좋았어요", "어렵네요", "필요해요", "끝났습니다"
+    };
+    private static final String[] ENGLISH_WORDS = {
+            "the", "a", "this", "that", "we", "it", "service", "request", "response", "query",
+            "index", "cache", "thread", "latency", "memory", "build", "deploy", "review", "issue", "fix",
+            "works", "fails", "returns", "takes", "needs", "looks", "seems", "really", "finally", "quickly",
+            "after", "before", "with", "without", "under", "load", "today", "again", "slow", "fast"
+    };
+
+    private final Random random;
+    private final ZipfSampler hashtagSampler;
+
+    SyntheticText(Random random, double zipfExponent) {
+        this.random = random;
+        this.hashtagSampler = new ZipfSampler(HASHTAG_NAMES.size(), zipfExponent);
+    }
+
+    String title() {
+        String sentence = sentence(2 + random.nextInt(6));
+        return sentence.substring(0, sentence.length() - 1);
+    }
+
+    /**
+     * 문단 1~5개짜리 본문. 해시태그가 둘 이상이면 첫 번째를 뺀 나머지는 본문 끝에 '#이름' 으로 붙인다.
+     */
+    String content(List<String> hashtagNames) {
+        StringBuilder content = new StringBuilder();
+        int paragraphs = 1 + random.nextInt(5);
+        for (int p = 0; p < paragraphs; p++) {
+            if (p > 0) {
+                content.append('\n');
+            }
+            int sentences = 1 + random.nextInt(4);
+            for (int s = 0; s < sentences; s++) {
+                if (s > 0) {
+                    content.append(' ');
+                }
+                content.append(sentence(4 + random.nextInt(10)));
+            }
+        }
+        for (String name : hashtagNames.subList(Math.min(1, hashtagNames.size()), hashtagNames.size())) {
+            content.append(" #").append(name);
+        }
+        return content.toString();
+    }
+
+    /**
+     * 게시글 하나에 달 해시태그 이름 0~3개. 중복은 없다.
+     */
+    List<String> hashtagNames() {
+        int count = random.nextInt(10) < 2 ? 0 : 1 + random.nextInt(3);
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            names.add(HASHTAG_NAMES.get(hashtagSampler.sample(random)));
+        }
+        return new ArrayList<>(names);
+    }
+
+    String comment() {
+        return sentence(3 + random.nextInt(15));
+    }
+
+    private String sentence(int words) {
+        StringBuilder sentence = new StringBuilder();
+        boolean korean = random.nextInt(10) < 7;
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            if (korean) {
+                sentence.append(i == words - 1 ? pick(KOREAN_ENDINGS) : pick(KOREAN_WORDS));
+            } else {
+                String word = pick(ENGLISH_WORDS);
+                sentence.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+            }
+        }
+        return sentence.append('.').toString();
+    }
+
+    private String pick(String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+
+}
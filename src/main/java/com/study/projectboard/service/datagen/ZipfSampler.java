@@ -0,0 +1,43 @@
+package com.study.projectboard.service.datagen;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 0 부터 {@code size - 1} 까지의 순위를 Zipf 분포(P(k) ∝ 1 / (k + 1)^s)로 뽑는다.
+ * 누적 분포를 미리 만들어 두고 이진 탐색하므로, 한 번 뽑는 데 O(log n) 이다.
+ */
+class ZipfSampler {
+
+    private final double[] cdf;
+
+    /**
+     * @param size     순위 개수
+     * @param exponent 지수 s. 클수록 앞 순위에 몰린다. 0 이면 균등 분포.
+     */
+    ZipfSampler(int size, double exponent) {
+        if (size < 1 || exponent < 0) {
+            throw new IllegalArgumentException("size 는 1 이상, exponent 는 0 이상이어야 합니다 - size: " + size + ", exponent: " + exponent);
+        }
+        this.cdf = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cdf[rank] /= sum;
+        }
+        cdf[size - 1] = 1.0;
+    }
+
+    int sample(Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    int size() {
+        return cdf.length;
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.study.projectboard.service.search;
+
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.event.ArticleEvent;
+import com.study.projectboard.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 검색 인덱스. 본문은 단어 단위 BM25 역색인, 제목/유저 ID/닉네임은 부분 문자열(n-gram) 색인을 사용한다.
+ * 애플리케이션이 뜨면 백그라운드에서 전체 게시글로 인덱스를 만들고, 이후에는 게시글 이벤트로 커밋된 변경만 반영한다.
+ * 인덱스가 준비되기 전({@link #isReady()} 가 false)에는 DB 검색을 사용해야 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Indexes indexes = new Indexes();
+    private List<ArticleEvent> pendingEvents; // 재색인 중에 들어온 이벤트. 새 인덱스로 교체하기 전에 다시 반영한다.
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 부분 문자열 검색(제목/유저 ID/닉네임)을 할 수 있는 검색어인지 확인한다. 한 글자 검색어는 색인하지 않는다.
+     */
+    public static boolean isInfixSearchable(String keyword) {
+        return NgramIndex.isSearchable(keyword);
+    }
+
+    /**
+     * 본문 검색을 할 수 있는 검색어인지 확인한다. 단어가 하나도 나오지 않는 검색어(문장 부호만 있는 경우 등)는 색인으로 찾을 수 없다.
+     */
+    public static boolean isContentSearchable(String keyword) {
+        return !Tokenizer.tokenize(keyword).isEmpty();
+    }
+
+    public SearchHits searchTitle(String keyword, int offset, int limit) {
+        return read(() -> indexes.title.search(keyword, offset, limit));
+    }
+
+    public SearchHits searchUserId(String keyword, int offset, int limit) {
+        return read(() -> indexes.author.searchUserId(keyword, offset, limit));
+    }
+
+    public SearchHits searchNickname(String keyword, int offset, int limit) {
+        return read(() -> indexes.author.searchNickname(keyword, offset, limit));
+    }
+
+    public SearchHits searchContent(String keyword, int offset, int limit) {
+        List<String> terms = Tokenizer.tokenize(keyword);
+        return read(() -> indexes.content.search(terms, offset, limit));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                log.warn("게시글 검색 인덱스를 이미 만들고 있습니다.");
+                return;
+            }
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Indexes newIndexes = new Indexes();
+        try {
+            long startedAt = System.currentTimeMillis();
+            long lastId = 0L;
+            List<Article> batch;
+            do {
+                batch = articleRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+                for (Article article : batch) {
+                    newIndexes.put(
+                            article.getId(),
+                            article.getTitle(),
+                            article.getContent(),
+                            article.getUserAccount().getId(),
+                            article.getUserAccount().getUserId(),
+                            article.getUserAccount().getNickname()
+                    );
+                    lastId = article.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                pendingEvents.forEach(newIndexes::apply);
+                indexes = newIndexes;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("게시글 검색 인덱스 생성 완료 - articles: {}, elapsed: {}ms", newIndexes.content.liveCount(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.warn("게시글 검색 인덱스 생성 실패, DB 검색을 계속 사용합니다 - {}", e.getLocalizedMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            indexes.apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private SearchHits read(Supplier<SearchHits> search) {
+        lock.readLock().lock();
+        try {
+            return search.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    // 함께 만들고 함께 교체되는 색인 묶음
+    private static class Indexes {
+        private final NgramIndex title = new NgramIndex();
+        private final AuthorIndex author = new AuthorIndex();
+        private final InvertedIndex content = new InvertedIndex();
+
+        void put(long articleId, String titleText, String contentText, long authorId, String userIdText, String nicknameText) {
+            title.put(articleId, titleText);
+            author.put(articleId, authorId, userIdText, nicknameText);
+            content.put(articleId, Tokenizer.tokenize(contentText));
+        }
+
+        void remove(long articleId) {
+            title.remove(articleId);
+            author.remove(articleId);
+            content.remove(articleId);
+        }
+
+        void apply(ArticleEvent event) {
+            switch (event.type()) {
+                case CREATED, UPDATED -> {
+                    ArticleDto article = event.article();
+                    put(
+                            event.articleId(),
+                            article.title(),
+                            article.content(),
+                            article.userAccountDto().id(),
+                            article.userAccountDto().userId(),
+                            article.userAccountDto().nickname()
+                    );
+                }
+                case DELETED -> remove(event.articleId());
+            }
+        }
+    }
+
+}
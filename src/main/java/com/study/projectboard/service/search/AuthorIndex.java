@@ -0,0 +1,126 @@
+package com.study.projectboard.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작성자(유저 ID, 닉네임) 부분 문자열 색인.
+ * <p>
+ * 작성자마다 유저 ID 와 닉네임을 한 번만 n-gram 색인하고, 작성자별 게시글 id 목록을 따로 들고 있다가 검색할 때 펼친다.
+ * 그래서 색인 크기가 게시글 수가 아니라 작성자 수를 따라가고, 글을 많이 쓴 작성자도 한 명분만 차지한다.
+ * 결과는 {@link NgramIndex} 처럼 최신 id 순이다. 스레드 안전하지 않으므로, 사용하는 쪽에서 동기화해야 한다.
+ */
+class AuthorIndex {
+
+    private final NgramIndex userIds = new NgramIndex();
+    private final NgramIndex nicknames = new NgramIndex();
+    private final Map<Long, ArticleIds> articlesByAuthor = new HashMap<>();
+    private final Map<Long, Long> authorOfArticle = new HashMap<>();
+
+    void put(long articleId, long authorId, String userId, String nickname) {
+        Long previousAuthor = authorOfArticle.get(articleId);
+        if (previousAuthor == null || previousAuthor != authorId) {
+            remove(articleId);
+            articlesByAuthor.computeIfAbsent(authorId, key -> new ArticleIds()).add(articleId);
+            authorOfArticle.put(articleId, authorId);
+        }
+        // 유저 ID 나 닉네임이 바뀐 경우에만 다시 색인한다
+        if (!userIds.contains(authorId, userId)) {
+            userIds.put(authorId, userId);
+        }
+        if (!nicknames.contains(authorId, nickname)) {
+            nicknames.put(authorId, nickname);
+        }
+    }
+
+    void remove(long articleId) {
+        Long authorId = authorOfArticle.remove(articleId);
+        if (authorId == null) {
+            return;
+        }
+        ArticleIds articleIds = articlesByAuthor.get(authorId);
+        articleIds.remove(articleId);
+        if (articleIds.isEmpty()) {
+            articlesByAuthor.remove(authorId);
+            userIds.remove(authorId);
+            nicknames.remove(authorId);
+        }
+    }
+
+    SearchHits searchUserId(String keyword, int offset, int limit) {
+        return expand(userIds.search(keyword, 0, Integer.MAX_VALUE), offset, limit);
+    }
+
+    SearchHits searchNickname(String keyword, int offset, int limit) {
+        return expand(nicknames.search(keyword, 0, Integer.MAX_VALUE), offset, limit);
+    }
+
+    // 찾은 작성자들의 게시글 id 를 모아 최신 id 순으로 한 페이지만 돌려준다
+    private SearchHits expand(SearchHits authors, int offset, int limit) {
+        if (authors.articleIds().isEmpty()) {
+            return SearchHits.empty();
+        }
+        int total = 0;
+        for (Long authorId : authors.articleIds()) {
+            total += articlesByAuthor.get(authorId).size();
+        }
+        long[] hits = new long[total];
+        int hitCount = 0;
+        for (Long authorId : authors.articleIds()) {
+            hitCount = articlesByAuthor.get(authorId).copyTo(hits, hitCount);
+        }
+
+        Arrays.sort(hits);
+        List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, hitCount - offset)));
+        for (int i = hitCount - 1 - offset; i >= 0 && page.size() < limit; i--) {
+            page.add(hits[i]);
+        }
+        return new SearchHits(page, hitCount);
+    }
+
+    // 작성자 한 명의 게시글 id. 새 글은 대부분 가장 큰 id 로 들어오므로 정렬된 원시 배열 끝에 붙인다.
+    private static class ArticleIds {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long articleId) {
+            int index = size == 0 || ids[size - 1] < articleId ? size : Arrays.binarySearch(ids, 0, size, articleId);
+            if (index >= 0 && index < size) {
+                return;
+            }
+            int insertAt = index >= 0 ? index : -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = articleId;
+            size++;
+        }
+
+        void remove(long articleId) {
+            int index = Arrays.binarySearch(ids, 0, size, articleId);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int copyTo(long[] target, int from) {
+            System.arraycopy(ids, 0, target, from, size);
+            return from + size;
+        }
+    }
+
+}
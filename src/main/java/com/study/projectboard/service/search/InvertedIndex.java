@@ -0,0 +1,185 @@
+package com.study.projectboard.service.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * BM25 로 순위를 매기는 역색인.
+ * 게시글은 추가된 순서대로 내부 문서 번호(ordinal)를 받고, 삭제는 표시만 해 두었다가 일정 수 이상 쌓이면 압축한다.
+ * 스레드 안전하지 않으므로, 사용하는 쪽에서 동기화해야 한다.
+ */
+class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int COMPACT_THRESHOLD = 1_024;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] articleIds = new long[1_024];
+    private int[] lengths = new int[1_024];
+    private int size;
+    private int liveCount;
+    private long liveLength;
+
+    void put(long articleId, List<String> tokens) {
+        remove(articleId);
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        int ordinal = nextOrdinal();
+        articleIds[ordinal] = articleId;
+        lengths[ordinal] = tokens.size();
+        ordinals.put(articleId, ordinal);
+        liveCount++;
+        liveLength += tokens.size();
+
+        Map<String, Integer> termFreqs = new HashMap<>();
+        tokens.forEach(token -> termFreqs.merge(token, 1, Integer::sum));
+        termFreqs.forEach((term, freq) -> postings.computeIfAbsent(term, key -> new PostingList()).add(ordinal, freq));
+    }
+
+    boolean remove(long articleId) {
+        Integer ordinal = ordinals.remove(articleId);
+        if (ordinal == null) {
+            return false;
+        }
+
+        deleted.set(ordinal);
+        liveCount--;
+        liveLength -= lengths[ordinal];
+        int deletedCount = deleted.cardinality();
+        if (deletedCount >= COMPACT_THRESHOLD && deletedCount > liveCount) {
+            compact();
+        }
+        return true;
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    /**
+     * 모든 검색어를 포함하는 게시글을 BM25 점수 순(같으면 최신 id 순)으로 찾는다.
+     */
+    SearchHits search(List<String> terms, int offset, int limit) {
+        List<PostingList> lists = new LinkedHashSet<>(terms).stream()
+                .map(postings::get)
+                .toList();
+        if (lists.isEmpty() || lists.contains(null) || liveCount == 0) {
+            return SearchHits.empty();
+        }
+
+        PostingList[] sorted = lists.stream()
+                .sorted(Comparator.comparingInt(PostingList::size))
+                .toArray(PostingList[]::new);
+        double[] idfs = Arrays.stream(sorted).mapToDouble(this::idf).toArray();
+        double averageLength = (double) liveLength / liveCount;
+
+        PostingList smallest = sorted[0];
+        int[] cursors = new int[sorted.length];
+        int[] hitDocs = new int[smallest.size()];
+        double[] scores = new double[smallest.size()];
+        int hitCount = 0;
+
+        candidates:
+        for (int i = 0; i < smallest.size(); i++) {
+            int doc = smallest.doc(i);
+            if (deleted.get(doc)) {
+                continue;
+            }
+
+            double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            double score = idfs[0] * bm25(smallest.freq(i), norm);
+            for (int j = 1; j < sorted.length; j++) {
+                PostingList list = sorted[j];
+                while (cursors[j] < list.size() && list.doc(cursors[j]) < doc) {
+                    cursors[j]++;
+                }
+                if (cursors[j] == list.size() || list.doc(cursors[j]) != doc) {
+                    continue candidates;
+                }
+                score += idfs[j] * bm25(list.freq(cursors[j]), norm);
+            }
+
+            hitDocs[hitCount] = doc;
+            scores[hitCount] = score;
+            hitCount++;
+        }
+
+        int[] docs = hitDocs;
+        List<Long> page = IntStream.range(0, hitCount)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(index -> scores[index]).reversed()
+                        .thenComparing(Comparator.<Integer>comparingLong(index -> articleIds[docs[index]]).reversed()))
+                .skip(offset)
+                .limit(limit)
+                .map(index -> articleIds[docs[index]])
+                .toList();
+
+        return new SearchHits(page, hitCount);
+    }
+
+    private double idf(PostingList list) {
+        double documentFrequency = Math.min(list.size(), liveCount);
+        return Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static double bm25(int freq, double norm) {
+        return freq * (K1 + 1) / (freq + norm);
+    }
+
+    private int nextOrdinal() {
+        if (size == articleIds.length) {
+            int capacity = articleIds.length << 1;
+            articleIds = Arrays.copyOf(articleIds, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        return size++;
+    }
+
+    // 삭제 표시된 문서를 빼고 문서 번호를 다시 매긴다. 순서는 유지되므로 포스팅 리스트는 여전히 정렬되어 있다.
+    private void compact() {
+        int[] remap = new int[size];
+        long[] compactedIds = new long[Math.max(liveCount * 2, 1_024)];
+        int[] compactedLengths = new int[compactedIds.length];
+        int next = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+                continue;
+            }
+            remap[ordinal] = next;
+            compactedIds[next] = articleIds[ordinal];
+            compactedLengths[next] = lengths[ordinal];
+            ordinals.put(articleIds[ordinal], next);
+            next++;
+        }
+
+        postings.replaceAll((term, list) -> {
+            PostingList compacted = new PostingList();
+            for (int i = 0; i < list.size(); i++) {
+                int doc = remap[list.doc(i)];
+                if (doc >= 0) {
+                    compacted.add(doc, list.freq(i));
+                }
+            }
+            return compacted;
+        });
+        postings.values().removeIf(list -> list.size() == 0);
+
+        articleIds = compactedIds;
+        lengths = compactedLengths;
+        size = next;
+        deleted.clear();
+    }
+
+}
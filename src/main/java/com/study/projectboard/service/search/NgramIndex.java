@@ -0,0 +1,240 @@
+package com.study.projectboard.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부분 문자열(infix) 검색용 bigram/trigram 색인. {@code LIKE '%keyword%'} 를 대신한다.
+ * <p>
+ * 문자열은 NFC 로 정규화해서 한글 자모가 음절 하나로 합쳐지게 하고, 라틴 문자는 소문자로 바꾼다.
+ * 그 뒤 코드 포인트(한글은 음절) 단위로 2글자, 3글자 조각을 색인한다.
+ * 검색어가 2~3글자면 해당 조각의 포스팅 리스트가 곧 결과이고, 더 길면 trigram 교집합 후 원문으로 한 번 더 확인한다.
+ * 스레드 안전하지 않으므로, 사용하는 쪽에서 동기화해야 한다.
+ */
+class NgramIndex {
+
+    static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_GRAM_LENGTH = 3;
+    private static final int COMPACT_THRESHOLD = 1_024;
+
+    private final Map<Long, DocList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] articleIds = new long[1_024];
+    private String[] texts = new String[1_024];
+    private int size;
+    private int liveCount;
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isSearchable(String keyword) {
+        String normalized = normalize(keyword);
+        return normalized.codePointCount(0, normalized.length()) >= MIN_QUERY_LENGTH;
+    }
+
+    void put(long articleId, String text) {
+        remove(articleId);
+        String normalized = normalize(text);
+        int[] codePoints = normalized.codePoints().toArray();
+        if (codePoints.length < MIN_QUERY_LENGTH) {
+            return;
+        }
+
+        int ordinal = nextOrdinal();
+        articleIds[ordinal] = articleId;
+        texts[ordinal] = normalized;
+        ordinals.put(articleId, ordinal);
+        liveCount++;
+
+        Set<Long> grams = new HashSet<>();
+        for (int length = MIN_QUERY_LENGTH; length <= MAX_GRAM_LENGTH; length++) {
+            for (int start = 0; start + length <= codePoints.length; start++) {
+                grams.add(gramKey(codePoints, start, length));
+            }
+        }
+        grams.forEach(gram -> postings.computeIfAbsent(gram, key -> new DocList()).add(ordinal));
+    }
+
+    boolean remove(long articleId) {
+        Integer ordinal = ordinals.remove(articleId);
+        if (ordinal == null) {
+            return false;
+        }
+
+        deleted.set(ordinal);
+        texts[ordinal] = null;
+        liveCount--;
+        int deletedCount = deleted.cardinality();
+        if (deletedCount >= COMPACT_THRESHOLD && deletedCount > liveCount) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * 해당 id 에 같은 문자열이 이미 색인돼 있는지 본다. 정규화한 뒤 비교한다.
+     */
+    boolean contains(long articleId, String text) {
+        Integer ordinal = ordinals.get(articleId);
+        return ordinal != null && texts[ordinal].equals(normalize(text));
+    }
+
+    int liveCount() {
+        return liveCount;
+    }
+
+    /**
+     * 검색어를 포함하는 게시글을 최신 id 순으로 찾는다. 검색어가 {@link #MIN_QUERY_LENGTH} 보다 짧으면 결과가 없다.
+     */
+    SearchHits search(String keyword, int offset, int limit) {
+        String query = normalize(keyword);
+        int[] codePoints = query.codePoints().toArray();
+        if (codePoints.length < MIN_QUERY_LENGTH || liveCount == 0) {
+            return SearchHits.empty();
+        }
+
+        int length = Math.min(codePoints.length, MAX_GRAM_LENGTH);
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int start = 0; start + length <= codePoints.length; start++) {
+            grams.add(gramKey(codePoints, start, length));
+        }
+        DocList[] lists = new DocList[grams.size()];
+        int index = 0;
+        for (Long gram : grams) {
+            DocList list = postings.get(gram);
+            if (list == null) {
+                return SearchHits.empty();
+            }
+            lists[index++] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(DocList::size));
+
+        // trigram 이 모두 있어도 순서가 다를 수 있으므로, 3글자보다 긴 검색어는 원문으로 확인한다
+        boolean verify = codePoints.length > MAX_GRAM_LENGTH;
+        DocList smallest = lists[0];
+        int[] cursors = new int[lists.length];
+        long[] hits = new long[smallest.size()];
+        int hitCount = 0;
+
+        candidates:
+        for (int i = 0; i < smallest.size(); i++) {
+            int doc = smallest.doc(i);
+            if (deleted.get(doc)) {
+                continue;
+            }
+            for (int j = 1; j < lists.length; j++) {
+                DocList list = lists[j];
+                while (cursors[j] < list.size() && list.doc(cursors[j]) < doc) {
+                    cursors[j]++;
+                }
+                if (cursors[j] == list.size() || list.doc(cursors[j]) != doc) {
+                    continue candidates;
+                }
+            }
+            if (verify && !texts[doc].contains(query)) {
+                continue;
+            }
+            hits[hitCount++] = articleIds[doc];
+        }
+
+        Arrays.sort(hits, 0, hitCount);
+        List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, hitCount - offset)));
+        for (int i = hitCount - 1 - offset; i >= 0 && page.size() < limit; i--) {
+            page.add(hits[i]);
+        }
+
+        return new SearchHits(page, hitCount);
+    }
+
+    // 코드 포인트는 21비트 안에 들어가므로, 최대 3글자를 long 하나로 묶는다. 0 과 구분하기 위해 1을 더한다.
+    private static long gramKey(int[] codePoints, int start, int length) {
+        long key = 0;
+        for (int i = start; i < start + length; i++) {
+            key = (key << 21) | (codePoints[i] + 1);
+        }
+        return key;
+    }
+
+    private int nextOrdinal() {
+        if (size == articleIds.length) {
+            int capacity = articleIds.length << 1;
+            articleIds = Arrays.copyOf(articleIds, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+        }
+        return size++;
+    }
+
+    // 삭제 표시된 문서를 빼고 문서 번호를 다시 매긴다. 순서는 유지되므로 포스팅 리스트는 여전히 정렬되어 있다.
+    private void compact() {
+        int[] remap = new int[size];
+        long[] compactedIds = new long[Math.max(liveCount * 2, 1_024)];
+        String[] compactedTexts = new String[compactedIds.length];
+        int next = 0;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (deleted.get(ordinal)) {
+                remap[ordinal] = -1;
+                continue;
+            }
+            remap[ordinal] = next;
+            compactedIds[next] = articleIds[ordinal];
+            compactedTexts[next] = texts[ordinal];
+            ordinals.put(articleIds[ordinal], next);
+            next++;
+        }
+
+        postings.replaceAll((gram, list) -> {
+            DocList compacted = new DocList();
+            for (int i = 0; i < list.size(); i++) {
+                int doc = remap[list.doc(i)];
+                if (doc >= 0) {
+                    compacted.add(doc);
+                }
+            }
+            return compacted;
+        });
+        postings.values().removeIf(list -> list.size() == 0);
+
+        articleIds = compactedIds;
+        texts = compactedTexts;
+        size = next;
+        deleted.clear();
+    }
+
+
+    // 빈도가 필요 없으므로 문서 번호만 저장하는 포스팅 리스트
+    private static class DocList {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length + (docs.length >> 1) + 1);
+            }
+            docs[size++] = doc;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int doc(int index) {
+            return docs[index];
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.study.projectboard.service.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 중 요청한 페이지에 해당하는 게시글 id 와, 전체 결과 수
+ */
+public record SearchHits(List<Long> articleIds, long totalHits) {
+
+    public static SearchHits empty() {
+        return new SearchHits(List.of(), 0);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.study.projectboard.service.trending;
+
+import java.util.Arrays;
+
+/**
+ * 고정된 메모리로 항목별 빈도를 근사하는 count-min sketch.
+ * 추정값은 실제 빈도보다 작지 않으며, 폭(width)이 넓을수록 과대 추정이 줄어든다.
+ * 스레드 안전하지 않으므로, 사용하는 쪽에서 동기화해야 한다.
+ */
+class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final int[] counts;
+
+    /**
+     * @param depth 해시 함수 개수
+     * @param width 행마다의 카운터 개수. 2의 거듭제곱이어야 한다.
+     */
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("depth 는 1 이상, width 는 2의 거듭제곱이어야 합니다 - depth: " + depth + ", width: " + width);
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counts = new int[depth * width];
+    }
+
+    void add(String item, int count) {
+        int h1 = mix(item.hashCode());
+        int h2 = mix(h1 ^ 0x9e3779b9) | 1;
+        for (int row = 0; row < depth; row++) {
+            int index = row * (mask + 1) + ((h1 + row * h2) & mask);
+            int updated = counts[index] + count;
+            counts[index] = updated < 0 ? Integer.MAX_VALUE : updated;
+        }
+    }
+
+    int estimate(String item) {
+        int h1 = mix(item.hashCode());
+        int h2 = mix(h1 ^ 0x9e3779b9) | 1;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[row * (mask + 1) + ((h1 + row * h2) & mask)]);
+        }
+        return estimate;
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    // String.hashCode 의 하위 비트 편향을 줄이기 위한 murmur3 finalizer
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+}
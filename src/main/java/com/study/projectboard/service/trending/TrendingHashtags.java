@@ -0,0 +1,164 @@
+package com.study.projectboard.service.trending;
+
+import com.study.projectboard.event.ArticleEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 많이 쓰이고 검색된 해시태그(heavy hitters).
+ * <p>
+ * 5분 단위 시간 버킷마다 count-min sketch 를 두고, 최근 1시간(12개 버킷)의 빈도를 오래된 버킷일수록 낮은 가중치로 더해 점수를 낸다.
+ * 점수가 높은 후보만 최소 힙에 유지하므로, 해시태그 종류가 아무리 많아도 메모리는 고정되어 있다.
+ * 조회는 미리 정렬해 둔 스냅샷을 돌려주므로 잠금 없이 상수 시간에 끝난다.
+ * 새 게시글의 해시태그는 커밋 이후에 받는 {@link ArticleEvent} 로 기록하므로, 롤백된 저장은 세지 않는다.
+ */
+@Component
+public class TrendingHashtags {
+
+    static final long BUCKET_MILLIS = 5 * 60 * 1000L;
+    static final int BUCKETS = 12;
+    private static final double DECAY = 0.8; // 버킷 하나만큼 오래될 때마다 곱하는 가중치
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 2_048;
+    private static final int CANDIDATES = 50;
+
+    private final LongSupplier clock;
+    private final CountMinSketch[] sketches = new CountMinSketch[BUCKETS];
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score));
+    private final Map<String, Candidate> candidates = new HashMap<>();
+    private long currentBucket;
+    private volatile List<String> ranking = List.of(); // 점수 내림차순 해시태그 이름
+
+    public TrendingHashtags() {
+        this(System::currentTimeMillis);
+    }
+
+    TrendingHashtags(LongSupplier clock) {
+        this.clock = clock;
+        for (int i = 0; i < BUCKETS; i++) {
+            sketches[i] = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        }
+        this.currentBucket = clock.getAsLong() / BUCKET_MILLIS;
+    }
+
+    /**
+     * 새 게시글에 달린 해시태그를 기록한다.
+     */
+    public void recordArticle(Collection<String> hashtagNames) {
+        hashtagNames.forEach(this::record);
+    }
+
+    @TransactionalEventListener
+    public void onArticleEvent(ArticleEvent event) {
+        if (event.type() == ArticleEvent.Type.CREATED) {
+            recordArticle(event.hashtagNames());
+        }
+    }
+
+    /**
+     * 결과가 있었던 해시태그 검색을 기록한다.
+     */
+    public void recordSearch(String hashtagName) {
+        record(hashtagName);
+    }
+
+    /**
+     * 지금 뜨는 해시태그 이름을 점수 순으로 최대 {@code limit} 개 리턴한다.
+     */
+    public List<String> getTopHashtagNames(int limit) {
+        List<String> snapshot = ranking;
+        return snapshot.size() <= limit ? snapshot : snapshot.subList(0, limit);
+    }
+
+    /**
+     * 기록이 없어도 시간이 지나면 순위가 바뀌도록, 버킷을 주기적으로 넘긴다.
+     */
+    @Scheduled(fixedDelay = BUCKET_MILLIS)
+    public synchronized void tick() {
+        rotate();
+    }
+
+    private synchronized void record(String hashtagName) {
+        if (hashtagName == null || hashtagName.isBlank()) {
+            return;
+        }
+        rotate();
+        sketches[bucketIndex(currentBucket)].add(hashtagName, 1);
+
+        double score = score(hashtagName);
+        Candidate existing = candidates.remove(hashtagName);
+        if (existing != null) {
+            heap.remove(existing);
+        } else if (heap.size() >= CANDIDATES) {
+            if (heap.peek().score() >= score) {
+                return;
+            }
+            candidates.remove(heap.poll().hashtagName());
+        }
+        Candidate candidate = new Candidate(hashtagName, score);
+        heap.offer(candidate);
+        candidates.put(hashtagName, candidate);
+        publishRanking();
+    }
+
+    // 현재 시각의 버킷까지 넘기면서 지나간 버킷을 비우고, 후보 점수를 다시 계산한다
+    private void rotate() {
+        long bucket = clock.getAsLong() / BUCKET_MILLIS;
+        if (bucket <= currentBucket) {
+            return;
+        }
+        long steps = Math.min(bucket - currentBucket, BUCKETS);
+        for (long step = 1; step <= steps; step++) {
+            sketches[bucketIndex(currentBucket + step)].clear();
+        }
+        currentBucket = bucket;
+
+        List<String> names = List.copyOf(candidates.keySet());
+        heap.clear();
+        candidates.clear();
+        for (String name : names) {
+            double score = score(name);
+            if (score > 0) {
+                Candidate candidate = new Candidate(name, score);
+                heap.offer(candidate);
+                candidates.put(name, candidate);
+            }
+        }
+        publishRanking();
+    }
+
+    private double score(String hashtagName) {
+        double score = 0;
+        double weight = 1;
+        for (int age = 0; age < BUCKETS; age++) {
+            score += sketches[bucketIndex(currentBucket - age)].estimate(hashtagName) * weight;
+            weight *= DECAY;
+        }
+        return score;
+    }
+
+    private void publishRanking() {
+        ranking = heap.stream()
+                .sorted(Comparator.comparingDouble(Candidate::score).reversed().thenComparing(Candidate::hashtagName))
+                .map(Candidate::hashtagName)
+                .toList();
+    }
+
+    private static int bucketIndex(long bucket) {
+        return (int) Math.floorMod(bucket, (long) BUCKETS);
+    }
+
+
+    private record Candidate(String hashtagName, double score) {
+    }
+
+}
@@ -0,0 +1,84 @@
+// 게시글 상세 페이지 "댓글 더 보기": 다음 댓글 페이지를 불러와 댓글 목록 끝에 붙인다.
+document.addEventListener('DOMContentLoaded', () => {
+    const button = document.getElementById('more-comments');
+    const list = document.getElementById('article-comment');
+    if (!button || !list) {
+        return;
+    }
+
+    button.addEventListener('click', async () => {
+        button.disabled = true;
+        const params = new URLSearchParams({
+            articleId: button.dataset.articleId,
+            cursor: button.dataset.nextCursor
+        });
+
+        const response = await fetch('/comments?' + params, {headers: {Accept: 'application/json'}});
+        if (!response.ok) {
+            button.disabled = false;
+            return;
+        }
+
+        const page = await response.json();
+        page.articleComments.forEach(comment => list.appendChild(commentItem(comment, button.dataset)));
+        if (page.nextCursor) {
+            button.dataset.nextCursor = page.nextCursor;
+            button.disabled = false;
+        } else {
+            button.remove();
+        }
+    });
+});
+
+// 서버에서 그린 댓글과 같은 모양. 내가 쓴 댓글에만 삭제 버튼을 붙인다.
+function commentItem(comment, dataset) {
+    const createdAt = comment.createdAt.substring(0, 19).replace('T', ' ');
+
+    const body = document.createElement('div');
+    body.className = 'col-md-10 col-lg-9';
+    const nickname = document.createElement('strong');
+    nickname.textContent = comment.nickname;
+    const time = document.createElement('time');
+    time.dateTime = comment.createdAt;
+    time.textContent = createdAt;
+    const small = document.createElement('small');
+    small.appendChild(time);
+    const content = document.createElement('p');
+    content.textContent = comment.content;
+    body.append(nickname, ' ', small, content);
+
+    const row = document.createElement('div');
+    row.className = 'row';
+    row.appendChild(body);
+
+    const item = document.createElement('li');
+    if (comment.userId !== dataset.loginId) {
+        item.appendChild(row);
+        return item;
+    }
+
+    const buttonColumn = document.createElement('div');
+    buttonColumn.className = 'col-2 mb-3 align-self-center';
+    const deleteButton = document.createElement('button');
+    deleteButton.type = 'submit';
+    deleteButton.className = 'btn btn-outline-danger';
+    deleteButton.textContent = '삭제';
+    buttonColumn.appendChild(deleteButton);
+    row.appendChild(buttonColumn);
+
+    const form = document.createElement('form');
+    form.className = 'comment-form';
+    form.method = 'post';
+    form.action = '/comments/' + comment.id + '/delete';
+    form.append(hiddenInput('articleId', dataset.articleId), hiddenInput(dataset.csrfParameter, dataset.csrfToken), row);
+    item.appendChild(form);
+    return item;
+}
+
+function hiddenInput(name, value) {
+    const input = document.createElement('input');
+    input.type = 'hidden';
+    input.name = name;
+    input.value = value;
+    return input;
+}
@@ -0,0 +1,90 @@
+package com.study.projectboard.benchmark;
+
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.ArticleComment;
+import com.study.projectboard.repository.ArticleCommentRepository;
+import com.study.projectboard.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 10만 건을 한 건씩 insert 할 때와 JDBC 배치로 insert 할 때를 비교한다.
+ * 한 건씩 보내는 경우는 세션의 배치 크기를 1로 낮춰서 IDENTITY id 를 쓰던 때처럼 만든다.
+ * <p>
+ * {@code ./gradlew benchmark -Dbenchmark.comments=100000}
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("벤치마크 - 댓글 일괄 insert (한 건씩 vs JDBC 배치)")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ArticleCommentBatchInsertBenchmarkTest {
+
+    private static final int COMMENTS = Integer.getInteger("benchmark.comments", 100_000);
+    private static final int FLUSH_SIZE = 1_000;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+    private final EntityManager entityManager;
+
+    @Autowired
+    ArticleCommentBatchInsertBenchmarkTest(ArticleRepository articleRepository, ArticleCommentRepository articleCommentRepository, EntityManager entityManager) {
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+        this.entityManager = entityManager;
+    }
+
+    @DisplayName("댓글 10만 건을 한 건씩, 배치로 insert 한다")
+    @Test
+    void givenManyComments_whenInserting_thenComparesRowByRowAndBatch() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        double rowByRowMillis = insertComments(1);
+        long rowByRowStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        double batchMillis = insertComments(null);
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        log.info("{} comments - row by row: {} ms ({} statements), batch: {} ms ({} statements)",
+                COMMENTS, String.format("%.1f", rowByRowMillis), rowByRowStatements, String.format("%.1f", batchMillis), batchStatements);
+        assertThat(batchStatements).isLessThan(rowByRowStatements);
+    }
+
+    // jdbcBatchSize 가 null 이면 hibernate.jdbc.batch_size 설정을 따른다
+    private double insertComments(Integer jdbcBatchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+        Long articleId = articleRepository.findById(1L).orElseThrow().getId();
+
+        long start = System.nanoTime();
+        for (int offset = 0; offset < COMMENTS; offset += FLUSH_SIZE) {
+            Article article = articleRepository.getReferenceById(articleId);
+            List<ArticleComment> articleComments = new ArrayList<>(FLUSH_SIZE);
+            for (int i = offset; i < Math.min(offset + FLUSH_SIZE, COMMENTS); i++) {
+                articleComments.add(ArticleComment.of(article, article.getUserAccount(), "benchmark comment " + i));
+            }
+            articleCommentRepository.saveAll(articleComments);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        session.setJdbcBatchSize(null);
+        return elapsed / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.study.projectboard.benchmark;
+
+import com.study.projectboard.dto.ArticleCursor;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.service.datagen.DataGeneratorProperties;
+import com.study.projectboard.service.datagen.SyntheticDataGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OFFSET 페이지네이션과 키셋(커서) 페이지네이션의 조회 시간을 비교한다.
+ * datagen 프로파일로 띄우므로 {@link SyntheticDataGenerator} 가 시작할 때 게시글을 채운다.
+ * <p>
+ * {@code ./gradlew benchmark -Dbenchmark.articles=1000010 -Dbenchmark.iterations=20}
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("벤치마크 - 게시글 페이지네이션 (OFFSET vs 키셋)")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("datagen")
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+@Import(SyntheticDataGenerator.class)
+@DataJpaTest
+class ArticlePaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int[] PAGE_NUMBERS = {1, 1_000, 100_000};
+    private static final int ARTICLES = Integer.getInteger("benchmark.articles", PAGE_NUMBERS[PAGE_NUMBERS.length - 1] * PAGE_SIZE + PAGE_SIZE);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20);
+    private static final int WARMUP = 3;
+
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void dataVolumes(DynamicPropertyRegistry registry) {
+        registry.add("board.datagen.users", () -> Math.max(ARTICLES / 100, 1));
+        registry.add("board.datagen.articles", () -> ARTICLES);
+        registry.add("board.datagen.comments", () -> 0);
+    }
+
+    @Autowired
+    ArticlePaginationBenchmarkTest(ArticleRepository articleRepository, EntityManager entityManager, DataSource dataSource) {
+        this.articleRepository = articleRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @DisplayName("1, 1,000, 100,000 페이지를 OFFSET 방식과 키셋 방식으로 조회한다")
+    @Test
+    void givenLargeBoard_whenReadingDeepPages_thenComparesOffsetAndKeyset() {
+        Sort.Order order = ArticleCursor.DEFAULT_ORDER;
+
+        for (int pageNumber : PAGE_NUMBERS) {
+            if ((long) pageNumber * PAGE_SIZE > ARTICLES) {
+                log.info("page {} skipped - not enough articles ({})", pageNumber, ARTICLES);
+                continue;
+            }
+            PageRequest pageable = PageRequest.of(pageNumber - 1, PAGE_SIZE, Sort.by(order));
+            ArticleCursor cursor = cursorBefore(pageable);
+
+            double offsetMillis = measure(() -> articleRepository.findAll(pageable).getContent());
+            double keysetMillis = measure(() -> articleRepository.findByKeyset(null, null, order, cursor, PAGE_SIZE + 1));
+
+            log.info("page {} - offset(+count): {} ms, keyset: {} ms",
+                    pageNumber, String.format("%.3f", offsetMillis), String.format("%.3f", keysetMillis));
+            assertThat(articleRepository.findByKeyset(null, null, order, cursor, PAGE_SIZE)).hasSize(PAGE_SIZE);
+        }
+    }
+
+    // 이전 페이지 마지막 행을 가리키는 커서. 준비 단계이므로 측정에는 포함하지 않는다.
+    private ArticleCursor cursorBefore(PageRequest pageable) {
+        if (pageable.getOffset() == 0) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject(
+                "select created_at, id from article order by created_at desc, id desc limit 1 offset ?",
+                (rs, rowNum) -> ArticleCursor.of(
+                        "createdAt",
+                        Sort.Direction.DESC,
+                        rs.getTimestamp("created_at").toLocalDateTime().toString(),
+                        rs.getLong("id"),
+                        false
+                ),
+                pageable.getOffset() - 1
+        );
+    }
+
+    // 중앙값(ms)
+    private double measure(Supplier<List<?>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+            entityManager.clear();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            elapsed[i] = System.nanoTime() - start;
+            entityManager.clear();
+        }
+        Arrays.sort(elapsed);
+        return elapsed[ITERATIONS / 2] / 1_000_000.0;
+    }
+
+}
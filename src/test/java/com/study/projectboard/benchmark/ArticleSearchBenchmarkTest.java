@@ -0,0 +1,434 @@
+package com.study.projectboard.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.projectboard.config.PageQueryConfig;
+import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.dto.ArticleListDto;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.repository.JpaRepositoryTest;
+import com.study.projectboard.service.ArticleCommentService;
+import com.study.projectboard.service.ArticleCountCache;
+import com.study.projectboard.service.ArticleDetailCache;
+import com.study.projectboard.service.ArticleService;
+import com.study.projectboard.service.HashtagCatalog;
+import com.study.projectboard.service.HashtagService;
+import com.study.projectboard.service.UserAccountCache;
+import com.study.projectboard.service.datagen.DataGeneratorProperties;
+import com.study.projectboard.service.datagen.SyntheticDataGenerator;
+import com.study.projectboard.service.search.ArticleSearchIndex;
+import com.study.projectboard.service.trending.TrendingHashtags;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 종류(제목/본문/유저 ID/닉네임/해시태그)마다 목록 화면이 부르는 {@link ArticleService#searchArticleSlice} 가 데이터가 늘어날 때 어떻게 느려지는지 잰다.
+ * <p>
+ * MySQL 모드 H2 에 게시글을 {@code benchmark.sizes} 단계까지 차례로 채운다.
+ * 데이터는 {@link SyntheticDataGenerator} 가 {@code datagen} 프로파일의 {@link DataGeneratorProperties} 비율대로 만든다.
+ * 단계마다 검색 종류 × 검색어 선택도 × 정렬 × 페이지 깊이 조합을 실행한다.
+ * common 은 흔한 어미/단어/해시태그와 모든 회원, rare 는 드문 단어 조합/해시태그와 글을 가장 적게 쓴 회원이다. 실제로 찾은 게시글 수는 결과에 남는다.
+ * 실행은 DB 검색과 검색 인덱스로 한 번씩 한다. 검색 인덱스는 {@link SearchIndexConfig} 의 빈을 켜고 끄는 것으로 바꾼다.
+ * 개수 캐시도 실제 빈을 쓰므로, 같은 검색어를 반복하면 운영처럼 캐시된 개수로 내용만 조회한다.
+ * 조합마다 p50/p99 지연 시간과 읽은 행 수를 남긴다. 읽은 행 수는 실행된 SQL 을 H2 {@code EXPLAIN ANALYZE} 로 다시 돌려서 나온 scanCount 의 합이다.
+ * 결과는 {@code build/benchmark-results/article-search-<시각>.json} 에 저장하므로 실행끼리 비교할 수 있다.
+ * <p>
+ * {@code ./gradlew benchmark --tests '*ArticleSearchBenchmarkTest' -Dbenchmark.sizes=10000,100000,1000000 -Pbenchmark.heap=6g}
+ * <br>
+ * 검색 종류만 골라 돌리려면 {@code -Dbenchmark.searchTypes=TITLE,HASHTAG}
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("벤치마크 - 검색 종류별 게시글 검색")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("datagen")
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ArticleService.class, ArticleCommentService.class, HashtagService.class, ArticleCountCache.class, JpaRepositoryTest.TestJpaConfig.class, PageQueryConfig.class,
+        ArticleSearchBenchmarkTest.QueryCaptureConfig.class, ArticleSearchBenchmarkTest.SearchIndexConfig.class})
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:search-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+class ArticleSearchBenchmarkTest {
+
+    private static final List<Integer> SIZES = Arrays.stream(System.getProperty("benchmark.sizes", "10000,100000").split(","))
+            .map(String::strip)
+            .map(Integer::valueOf)
+            .toList();
+    private static final Set<SearchType> SEARCH_TYPES = Arrays.stream(System.getProperty("benchmark.searchTypes", "TITLE,CONTENT,ID,NICKNAME,HASHTAG").split(","))
+            .map(String::strip)
+            .map(SearchType::valueOf)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(SearchType.class)));
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 30);
+    private static final int WARMUP = 3;
+    private static final int PAGE_SIZE = 10;
+    private static final int[] PAGE_NUMBERS = {0, 100, 5_000};
+    private static final List<Sort> SORTS = List.of(
+            Sort.by(Sort.Direction.DESC, "createdAt"),
+            Sort.by(Sort.Direction.ASC, "title")
+    );
+
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    // SyntheticText 의 어휘 기준. 회원 ID/닉네임의 rare 검색어는 단계마다 글을 가장 적게 쓴 회원으로 정한다.
+    private static final List<Keyword> KEYWORDS = List.of(
+            new Keyword(SearchType.TITLE, "common", "니다"),
+            new Keyword(SearchType.TITLE, "rare", "결국 다시"),
+            new Keyword(SearchType.CONTENT, "common", "오늘"),
+            new Keyword(SearchType.CONTENT, "rare", "oauth"),
+            new Keyword(SearchType.ID, "common", "user"),
+            new Keyword(SearchType.NICKNAME, "common", "회원"),
+            new Keyword(SearchType.HASHTAG, "common", "java"),
+            new Keyword(SearchType.HASHTAG, "rare", "oauth")
+    );
+
+    @MockBean private HashtagCatalog hashtagCatalog;
+    @MockBean private TrendingHashtags trendingHashtags;
+    @MockBean private ArticleDetailCache articleDetailCache;
+    @MockBean private UserAccountCache userAccountCache;
+
+    private final ArticleService articleService;
+    private final SwitchableSearchIndex searchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataGeneratorProperties datagen;
+    private final LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    private final List<Result> results = new ArrayList<>();
+
+    @Autowired
+    ArticleSearchBenchmarkTest(ArticleService articleService, SwitchableSearchIndex searchIndex, DataSource dataSource, DataGeneratorProperties datagen) {
+        this.articleService = articleService;
+        this.searchIndex = searchIndex;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.datagen = datagen;
+    }
+
+    @DisplayName("게시글 수를 늘려 가며 검색 종류, 선택도, 정렬, 페이지 깊이별 지연 시간과 읽은 행 수를 잰다")
+    @Test
+    void givenGrowingBoard_whenSearchingBySearchType_thenRecordsLatencyAndRowsExamined() throws IOException {
+        for (int size : SIZES) {
+            seedUpTo(size);
+            rebuildSearchIndex(size);
+
+            for (Keyword keyword : keywords()) {
+                if (!SEARCH_TYPES.contains(keyword.searchType())) {
+                    continue;
+                }
+                for (Sort sort : SORTS) {
+                    for (int pageNumber : PAGE_NUMBERS) {
+                        PageRequest pageable = PageRequest.of(pageNumber, PAGE_SIZE, sort);
+                        searchIndex.setEnabled(false);
+                        results.add(measure(size, "db", keyword, pageable));
+                        if (isIndexed(keyword, sort)) {
+                            searchIndex.setEnabled(true);
+                            results.add(measure(size, "index", keyword, pageable));
+                        }
+                    }
+                }
+            }
+        }
+
+        Path output = writeResults();
+        log.info("search benchmark finished - results: {}, output: {}", results.size(), output.toAbsolutePath());
+        assertThat(results).isNotEmpty();
+    }
+
+    private Result measure(int size, String path, Keyword keyword, PageRequest pageable) {
+        Supplier<Slice<ArticleListDto>> search = () -> articleService.searchArticleSlice(keyword.searchType(), keyword.keyword(), pageable);
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        Slice<ArticleListDto> page = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            page = search.get();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+
+        Sort.Order order = pageable.getSort().iterator().next();
+        Result result = new Result(
+                size,
+                path,
+                keyword.searchType(),
+                keyword.selectivity(),
+                keyword.keyword(),
+                order.getProperty() + "," + order.getDirection().name().toLowerCase(Locale.ROOT),
+                pageable.getPageNumber(),
+                page instanceof Page<ArticleListDto> counted ? counted.getTotalElements() : -1, // DB 검색은 개수 없이 Slice 로 돌려주므로 -1
+                page.getNumberOfElements(),
+                millis(percentile(elapsed, 50)),
+                millis(percentile(elapsed, 99)),
+                rowsExamined(search)
+        );
+        log.info("{}", result);
+        return result;
+    }
+
+    // 검색 한 번에 나간 SQL 을 모아서 EXPLAIN ANALYZE 로 다시 실행하고, 테이블마다 읽은 행 수(scanCount)를 더한다
+    private long rowsExamined(Supplier<?> search) {
+        List<String> statements = QueryCaptureConfig.capture(search);
+        long rows = 0;
+        try {
+            for (String sql : statements) {
+                String plan = jdbcTemplate.queryForObject("explain analyze " + sql, String.class);
+                Matcher matcher = SCAN_COUNT.matcher(plan == null ? "" : plan);
+                while (matcher.find()) {
+                    rows += Long.parseLong(matcher.group(1));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("실행 계획을 가져오지 못했습니다 - {}", e.getLocalizedMessage());
+            return -1;
+        }
+        return rows;
+    }
+
+    // ArticleService 와 같은 기준. n-gram 색인은 최신순 정렬에만 쓰인다.
+    private static boolean isIndexed(Keyword keyword, Sort sort) {
+        return switch (keyword.searchType()) {
+            case TITLE, ID, NICKNAME -> ArticleSearchIndex.isInfixSearchable(keyword.keyword())
+                    && sort.stream().allMatch(order -> order.isDescending() && order.getProperty().equals("createdAt"));
+            case CONTENT -> ArticleSearchIndex.isContentSearchable(keyword.keyword());
+            case HASHTAG -> false;
+        };
+    }
+
+    // 데이터는 JDBC 로 넣어서 게시글 이벤트가 없으므로, 단계마다 게시글을 다 넣은 뒤 새로 만든다
+    private void rebuildSearchIndex(int size) {
+        long start = System.nanoTime();
+        searchIndex.rebuild();
+        log.info("search index built - articles: {}, {} ms", size, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // 게시글을 size 개까지 채운다. 앞 단계에서 만든 데이터는 그대로 두고, 모자란 게시글과 그 비율만큼의 회원만 더 만든다.
+    private void seedUpTo(int size) {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from article", Long.class);
+        int missing = size - (existing == null ? 0 : existing.intValue());
+        if (missing <= 0) {
+            return;
+        }
+        int users = (int) Math.max(1, (long) datagen.users() * missing / Math.max(datagen.articles(), 1));
+        DataGeneratorProperties step = new DataGeneratorProperties(users, missing, 0, datagen.zipfExponent(), datagen.seed() + size, datagen.batchSize());
+        new SyntheticDataGenerator(jdbcTemplate, step).generate();
+        log.info("benchmark articles seeded - total: {}", size);
+    }
+
+    // 가장 나중에 만든 회원은 Zipf 순위가 가장 낮아 글이 가장 적다. id 가 가장 커서 다른 회원 ID/닉네임에 포함되지도 않는다.
+    private List<Keyword> keywords() {
+        Map<String, Object> rareAuthor = jdbcTemplate.queryForMap(
+                "select user_id, nickname from user_account where id = (select max(id) from user_account)");
+        List<Keyword> keywords = new ArrayList<>(KEYWORDS);
+        keywords.add(new Keyword(SearchType.ID, "rare", (String) rareAuthor.get("user_id")));
+        keywords.add(new Keyword(SearchType.NICKNAME, "rare", (String) rareAuthor.get("nickname")));
+        return keywords;
+    }
+
+    private Path writeResults() throws IOException {
+        Path output = Path.of(System.getProperty("benchmark.output",
+                "build/benchmark-results/article-search-" + startedAt.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("benchmark", "article-search");
+        report.put("startedAt", startedAt.toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("database", "h2 (MODE=MySQL)");
+        report.put("warmup", WARMUP);
+        report.put("iterations", ITERATIONS);
+        report.put("pageSize", PAGE_SIZE);
+        report.put("results", results);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+        return output;
+    }
+
+    // nearest-rank 백분위수
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    record Keyword(SearchType searchType, String selectivity, String keyword) {}
+
+    record Result(
+            int articles,
+            String path, // db: 리포지토리 LIKE/조인 검색, index: 검색 인덱스에서 id 를 찾은 뒤 불러오기
+            SearchType searchType,
+            String selectivity,
+            String keyword,
+            String sort,
+            int page,
+            long matched,
+            int returned,
+            double p50Millis,
+            double p99Millis,
+            long rowsExamined
+    ) {}
+
+    /**
+     * 서비스에 주입되는 검색 인덱스. 꺼 두면 준비되지 않은 인덱스처럼 보여서 서비스가 DB 검색을 한다.
+     */
+    @TestConfiguration
+    static class SearchIndexConfig {
+
+        @Bean
+        SwitchableSearchIndex articleSearchIndex(ArticleRepository articleRepository) {
+            return new SwitchableSearchIndex(articleRepository);
+        }
+    }
+
+    static class SwitchableSearchIndex extends ArticleSearchIndex {
+
+        private volatile boolean enabled;
+
+        SwitchableSearchIndex(ArticleRepository articleRepository) {
+            super(articleRepository);
+        }
+
+        void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean isReady() {
+            return enabled && super.isReady();
+        }
+    }
+
+    /**
+     * 데이터소스를 datasource-proxy 로 감싼다. {@link #capture} 로 감싼 동안 실행된 SQL 을, 바인딩된 값을 채운 문장으로 모은다.
+     * 내용과 COUNT 쿼리가 {@link com.study.projectboard.service.ConcurrentPageQuery} 의 스레드에서 돌기 때문에 스레드와 상관없이 모은다.
+     */
+    @TestConfiguration
+    static class QueryCaptureConfig {
+
+        private static volatile List<String> captured;
+
+        static List<String> capture(Supplier<?> action) {
+            List<String> statements = Collections.synchronizedList(new ArrayList<>());
+            captured = statements;
+            try {
+                action.get();
+            } finally {
+                captured = null;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Bean
+        static BeanPostProcessor queryCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("search-benchmark")
+                            .afterQuery((executionInfo, queryInfoList) -> {
+                                List<String> statements = captured;
+                                if (statements == null) {
+                                    return;
+                                }
+                                for (QueryInfo queryInfo : queryInfoList) {
+                                    if (queryInfo.getParametersList().isEmpty()) {
+                                        statements.add(queryInfo.getQuery());
+                                    }
+                                    for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+                                        statements.add(inline(queryInfo.getQuery(), parameters));
+                                    }
+                                }
+                            })
+                            .build();
+                }
+            };
+        }
+
+        // '?' 자리에 바인딩된 값을 리터럴로 채운다. 검색 쿼리에 쓰이는 문자열, 숫자, 날짜만 다룬다.
+        private static String inline(String sql, List<ParameterSetOperation> parameters) {
+            List<Object> values = parameters.stream()
+                    .sorted(Comparator.comparingInt(parameter -> ((Number) parameter.getArgs()[0]).intValue()))
+                    .map(parameter -> "setNull".equals(parameter.getMethod().getName()) ? null : parameter.getArgs()[1])
+                    .toList();
+            StringBuilder inlined = new StringBuilder(sql.length());
+            int next = 0;
+            for (char c : sql.toCharArray()) {
+                if (c == '?' && next < values.size()) {
+                    inlined.append(literal(values.get(next++)));
+                } else {
+                    inlined.append(c);
+                }
+            }
+            return inlined.toString();
+        }
+
+        private static String literal(Object value) {
+            if (value == null) {
+                return "null";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+
+    }
+
+}
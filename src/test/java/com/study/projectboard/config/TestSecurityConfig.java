@@ -1,7 +1,7 @@
 package com.study.projectboard.config;
 
-import com.study.projectboard.domain.UserAccount;
-import com.study.projectboard.repository.UserAccountRepository;
+import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.service.UserAccountCache;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.event.annotation.BeforeTestMethod;
@@ -15,11 +15,11 @@ import static org.mockito.BDDMockito.given;
 public class TestSecurityConfig {
 
     @MockBean
-    private UserAccountRepository userAccountRepository;
+    private UserAccountCache userAccountCache;
 
     @BeforeTestMethod
     public void securitySetup() {
-        given(userAccountRepository.findByUserId(anyString())).willReturn(Optional.of(UserAccount.of(
+        given(userAccountCache.get(anyString())).willReturn(Optional.of(UserAccountDto.of(
                 "heechanTest",
                 "pw",
                 "heechanshin@hanwha.com",
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.projectboard.config.SecurityConfig;
 import com.study.projectboard.config.TestSecurityConfig;
 import com.study.projectboard.dto.ArticleCommentDto;
+import com.study.projectboard.dto.CursorSlice;
+import com.study.projectboard.dto.UserAccountDto;
 import com.study.projectboard.dto.request.ArticleCommentRequest;
 import com.study.projectboard.service.ArticleCommentService;
 import com.study.projectboard.service.ArticleService;
@@ -15,17 +17,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -87,4 +94,32 @@ public class ArticleCommentControllerTest {
 
         then(articleCommentService).should().deleteArticleComment(articleCommentId, userId);
     }
+
+    @WithUserDetails(value = "heechanTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api][GET] 댓글 페이지 - 정상 호출")
+    @Test
+    void givenCursor_whenRequestingArticleComments_thenReturnsCommentPage() throws Exception {
+        // given
+        long articleId = 1L;
+        String cursor = "cursor-token";
+        ArticleCommentDto comment = ArticleCommentDto.of(2L, articleId,
+                UserAccountDto.of("heechanTest", "pw", "heechan@mail.com", "heechan", "memo"),
+                "comment", LocalDateTime.of(2022, 1, 1, 0, 0), "heechanTest", null, null);
+        given(articleCommentService.searchArticleComments(articleId, cursor, ArticleCommentService.COMMENT_PAGE_SIZE))
+                .willReturn(new CursorSlice<>(List.of(comment), PageRequest.of(0, ArticleCommentService.COMMENT_PAGE_SIZE), "next-cursor", null));
+
+        // when & then
+        mvc.perform(
+                        get("/comments")
+                                .queryParam("articleId", String.valueOf(articleId))
+                                .queryParam("cursor", cursor)
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.articleComments[0].id").value(2))
+                .andExpect(jsonPath("$.articleComments[0].nickname").value("heechan"))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+
+        then(articleCommentService).should().searchArticleComments(articleId, cursor, ArticleCommentService.COMMENT_PAGE_SIZE);
+    }
 }
@@ -2,13 +2,19 @@ package com.study.projectboard.controller;
 
 import com.study.projectboard.config.SecurityConfig;
 import com.study.projectboard.config.TestSecurityConfig;
+import com.study.projectboard.domain.constant.ArticleFileFormat;
 import com.study.projectboard.domain.constant.FormStatus;
 import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.dto.ArticleCursor;
 import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.dto.ArticleImportResult;
+import com.study.projectboard.dto.ArticleListDto;
 import com.study.projectboard.dto.ArticleWithCommentsDto;
+import com.study.projectboard.dto.CursorSlice;
 import com.study.projectboard.dto.UserAccountDto;
 import com.study.projectboard.dto.request.ArticleRequest;
 import com.study.projectboard.response.ArticleResponse;
+import com.study.projectboard.service.ArticleImportService;
 import com.study.projectboard.service.ArticleService;
 import com.study.projectboard.service.PaginationService;
 import com.study.projectboard.util.FormDataEncoder;
@@ -22,6 +28,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.TestExecutionEvent;
@@ -31,6 +38,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -51,6 +59,8 @@ class ArticleControllerTest {
     private ArticleService articleService;
     @MockBean
     private PaginationService paginationService;
+    @MockBean
+    private ArticleImportService articleImportService;
 
     @Autowired
     ArticleControllerTest(MockMvc mockMvc, FormDataEncoder formDataEncoder) {
@@ -63,8 +73,8 @@ class ArticleControllerTest {
     @Test
     void givenWhenThen() throws Exception {
 
-        given(articleService.searchArticles(eq(null), eq(null), any(Pageable.class)))
-                .willReturn(Page.empty());
+        given(articleService.searchArticleSlice(eq(null), eq(null), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of()));
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
 
@@ -75,7 +85,8 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attributeExists("paginationBarNumbers"));
 
-        then(articleService).should().searchArticles(eq(null), eq(null), any(Pageable.class));
+        then(articleService).should().searchArticleSlice(eq(null), eq(null), any(Pageable.class));
+        then(articleService).should().getCachedArticleCount(null, null);
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
@@ -86,8 +97,8 @@ class ArticleControllerTest {
         SearchType searchType = SearchType.TITLE;
         String searchValue = "title";
 
-        given(articleService.searchArticles(eq(searchType), eq(searchValue), any(Pageable.class)))
-                .willReturn(Page.empty());
+        given(articleService.searchArticleSlice(eq(searchType), eq(searchValue), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of()));
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
 
         mockMvc.perform(
@@ -102,10 +113,67 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("searchTypes"));
 
 
-        then(articleService).should().searchArticles(eq(searchType), eq(searchValue), any(Pageable.class));
+        then(articleService).should().searchArticleSlice(eq(searchType), eq(searchValue), any(Pageable.class));
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 캐시된 전체 개수로 페이징 바를 만든다")
+    @Test
+    void givenCachedTotalCount_whenRequestingArticlesView_thenUsesCachedTotalPages() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt")));
+        List<Integer> barNumbers = List.of(0, 1, 2, 3, 4);
+        given(articleService.searchArticleSlice(null, null, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, true));
+        given(articleService.getCachedArticleCount(null, null)).willReturn(OptionalLong.of(123L));
+        given(paginationService.getPaginationBarNumbers(0, 13)).willReturn(barNumbers);
+
+        // when & then
+        mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attribute("paginationBarNumbers", barNumbers));
+
+        then(articleService).should().searchArticleSlice(null, null, pageable);
+        then(articleService).should(never()).searchArticles(any(), any(), any(Pageable.class));
+        then(paginationService).should().getPaginationBarNumbers(0, 13);
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서가 지원하지 않는 정렬이 앞에 있으면, 지원하는 첫 정렬로 다음 커서를 만든다")
+    @Test
+    void givenUnsupportedFirstSort_whenRequestingArticlesView_thenBuildsCursorOnFirstSupportedOrder() throws Exception {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.asc("unsupported"), Sort.Order.asc("title")));
+        ArticleListDto article = ArticleListDto.of(1L, "title", "#java", LocalDateTime.of(2024, 1, 1, 0, 0), "uno", "Uno");
+        given(articleService.searchArticleSlice(null, null, pageable)).willReturn(new SliceImpl<>(List.of(article), pageable, true));
+        given(articleService.getCachedArticleCount(null, null)).willReturn(OptionalLong.empty());
+
+        // when & then
+        mockMvc.perform(get("/articles").queryParam("sort", "unsupported,asc", "title,asc"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("nextCursor", ArticleCursor.from(article, Sort.Order.asc("title"), false).encode()));
+    }
+
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 커서와 함께 호출")
+    @Test
+    void givenCursor_whenRequestingArticlesView_thenReturnsCursorSlice() throws Exception {
+        // given
+        String cursor = "cursor-token";
+        given(articleService.searchArticlesByCursor(eq(null), eq(null), eq(cursor), any(Pageable.class)))
+                .willReturn(new CursorSlice<>(List.of(), PageRequest.of(0, 10), null, null));
+
+        // when & then
+        mockMvc.perform(get("/articles").queryParam("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"))
+                .andExpect(model().attribute("cursorMode", true))
+                .andExpect(model().attribute("paginationBarNumbers", List.of()));
+
+        then(articleService).should().searchArticlesByCursor(eq(null), eq(null), eq(cursor), any(Pageable.class));
+        then(paginationService).shouldHaveNoInteractions();
+    }
+
     @WithMockUser
     @DisplayName("[view][GET] 게시글 페이지 - 정상 호출, 인증된 사용자")
     @Test
@@ -154,7 +222,7 @@ class ArticleControllerTest {
 
         Pageable pageable = PageRequest.of(pageNumber, pageSize, Sort.by(Sort.Order.desc(sortName)));
         List<Integer> barNumbers = List.of(1, 2, 3, 4, 5);
-        given(articleService.searchArticles(null, null, pageable)).willReturn(Page.empty());
+        given(articleService.searchArticleSlice(null, null, pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
         given(paginationService.getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages()))
                 .willReturn(barNumbers);
 
@@ -171,7 +239,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("articles"))
                 .andExpect(model().attribute("paginationBarNumbers", barNumbers));
 
-        then(articleService).should().searchArticles(null, null, pageable);
+        then(articleService).should().searchArticleSlice(null, null, pageable);
         then(paginationService).should().getPaginationBarNumbers(pageable.getPageNumber(), Page.empty().getTotalPages());
     }
 
@@ -210,10 +278,12 @@ class ArticleControllerTest {
     void getSearchHashtagBar() throws Exception {
 
         List<String> hashtags = List.of("#java", "#spring", "#boot");
+        List<String> trendingHashtags = List.of("#spring");
 
         given(articleService.searchArticlesViaHashtag(eq(null), any(Pageable.class))).willReturn(Page.empty());
         given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(1, 2, 3, 4, 5));
         given(articleService.getHashtags()).willReturn(hashtags);
+        given(articleService.getTrendingHashtags()).willReturn(trendingHashtags);
 
         mockMvc.perform(get("/articles/search-hashtag"))
                 .andExpect(status().isOk())
@@ -221,11 +291,13 @@ class ArticleControllerTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
                 .andExpect(model().attribute("articles", Page.empty()))
                 .andExpect(model().attribute("hashtags", hashtags))
+                .andExpect(model().attribute("trendingHashtags", trendingHashtags))
                 .andExpect(model().attributeExists("paginationBarNumbers"))
                 .andExpect(model().attribute("searchType", SearchType.HASHTAG));
 
         then(articleService).should().searchArticlesViaHashtag(eq(null), any(Pageable.class));
         then(articleService).should().getHashtags();
+        then(articleService).should().getTrendingHashtags();
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
 
     }
@@ -380,6 +452,48 @@ class ArticleControllerTest {
         then(articleService).should().deleteArticle(articleId, userId);
     }
 
+    @WithUserDetails(value = "heechanTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api][POST] 게시글 가져오기 (NDJSON) - 정상 호출")
+    @Test
+    void givenNdjsonArticles_whenImporting_thenReturnsImportResult() throws Exception {
+        // Given
+        String body = """
+                {"title": "title1", "content": "content1", "hashtag": "#java"}
+                {"title": "title2", "content": "content2"}
+                """;
+        given(articleImportService.importArticles(any(), eq(ArticleFileFormat.NDJSON), eq("heechanTest")))
+                .willReturn(ArticleImportResult.of(2, 0, 1, 10, null));
+
+        // When & Then
+        mockMvc.perform(
+                        post("/articles/import")
+                                .contentType("application/x-ndjson")
+                                .content(body)
+                                .with(csrf())
+                )
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rowsPerSecond").value(200));
+        then(articleImportService).should().importArticles(any(), eq(ArticleFileFormat.NDJSON), eq("heechanTest"));
+    }
+
+    @WithUserDetails(value = "heechanTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api][POST] 게시글 가져오기 - 지원하지 않는 형식이면 415")
+    @Test
+    void givenUnsupportedContentType_whenImporting_thenReturnsUnsupportedMediaType() throws Exception {
+        // When & Then
+        mockMvc.perform(
+                        post("/articles/import")
+                                .contentType(MediaType.APPLICATION_XML)
+                                .content("<articles/>")
+                                .with(csrf())
+                )
+                .andExpect(status().isUnsupportedMediaType());
+        then(articleImportService).shouldHaveNoInteractions();
+    }
+
 
     private ArticleWithCommentsDto createArticleWithCommentsDto() {
         return ArticleWithCommentsDto.of(
@@ -0,0 +1,98 @@
+package com.study.projectboard.controller;
+
+import com.study.projectboard.config.TestSecurityConfig;
+import com.study.projectboard.service.ArticleExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("View 컨트롤러 - 게시판 내보내기")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(controllers = ArticleExportController.class, properties = {
+        "board.admin.user-ids=heechanTest",
+        "board.admin.max-concurrent-exports=1"
+})
+class ArticleExportControllerTest {
+
+    private final MockMvc mockMvc;
+
+    @MockBean
+    private ArticleExportService articleExportService;
+
+    @Autowired
+    ArticleExportControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @WithUserDetails(value = "heechanTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api][GET] 게시판 내보내기 (NDJSON) - 관리자가 호출하면 정상 호출")
+    @Test
+    void givenAdmin_whenExporting_thenWritesNdjsonToResponse() throws Exception {
+        // Given
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("{\"type\":\"article\",\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(articleExportService).exportAll(any());
+
+        // When & Then
+        mockMvc.perform(get("/admin/articles/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"board.ndjson\""))
+                .andExpect(content().string("{\"type\":\"article\",\"id\":1}\n"));
+        then(articleExportService).should().exportAll(any());
+    }
+
+    @WithUserDetails(value = "heechanTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api][GET] 게시판 내보내기 - 이미 최대 개수만큼 돌고 있으면 429")
+    @Test
+    void givenRunningExport_whenExportingAgain_thenReturnsTooManyRequests() throws Exception {
+        // Given
+        willAnswer(invocation -> {
+            mockMvc.perform(get("/admin/articles/export"))
+                    .andExpect(status().isTooManyRequests());
+            return null;
+        }).given(articleExportService).exportAll(any());
+
+        // When & Then
+        mockMvc.perform(get("/admin/articles/export"))
+                .andExpect(status().isOk());
+        then(articleExportService).should(times(1)).exportAll(any());
+    }
+
+    @WithMockUser
+    @DisplayName("[api][GET] 게시판 내보내기 - 관리자가 아니면 403")
+    @Test
+    void givenRegularUser_whenExporting_thenReturnsForbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/admin/articles/export"))
+                .andExpect(status().isForbidden());
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("[api][GET] 게시판 내보내기 - 인증 없이 호출하면 로그인 페이지로 이동")
+    @Test
+    void givenNoAuthentication_whenExporting_thenRedirectsToLogin() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/admin/articles/export"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+        then(articleExportService).shouldHaveNoInteractions();
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.study.projectboard.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("데이터소스 - 읽기/쓰기 분리")
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primaryDatabase;
+    private EmbeddedDatabase replicaDatabase;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReadWriteRoutingDataSource sut;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primaryDatabase = database("primary");
+        replicaDatabase = database("replica");
+        ReplicaProperties properties = new ReplicaProperties(List.of(), Duration.ofSeconds(1), Duration.ofMinutes(1), "select lag_seconds from replica_lag");
+        replicaLagMonitor = new ReplicaLagMonitor(List.of(new ReplicaPool("replica-0", replicaDatabase)), properties);
+        replicaLagMonitor.checkLag();
+        sut = new ReadWriteRoutingDataSource(primaryDatabase, replicaLagMonitor.replicas(), properties.stickiness());
+
+        jdbcTemplate = new JdbcTemplate(sut);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(sut);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        sut.close();
+        primaryDatabase.shutdown();
+        replicaDatabase.shutdown();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션과 트랜잭션 밖은 원본으로 보낸다.")
+    @Test
+    void givenTransactions_whenQuerying_thenRoutesReadOnlyToReplica() {
+        // given
+
+        // when & then
+        assertThat(readOnlyTransaction.execute(status -> serverName())).isEqualTo("replica");
+        assertThat(writeTransaction.execute(status -> serverName())).isEqualTo("primary");
+        assertThat(serverName()).isEqualTo("primary");
+    }
+
+    @DisplayName("복제 지연이 허용치를 넘으면, 읽기 전용 트랜잭션도 원본으로 보낸다.")
+    @Test
+    void givenLaggingReplica_whenQueryingReadOnly_thenFallsBackToPrimary() {
+        // given
+        new JdbcTemplate(replicaDatabase).update("update replica_lag set lag_seconds = 5");
+        replicaLagMonitor.checkLag();
+
+        // when
+        String server = readOnlyTransaction.execute(status -> serverName());
+
+        // then
+        assertThat(server).isEqualTo("primary");
+    }
+
+    @DisplayName("쓰기 트랜잭션을 커밋한 회원의 읽기는, 잠깐 동안 원본으로 보낸다.")
+    @Test
+    void givenUserWhoJustWrote_whenQueryingReadOnly_thenRoutesOnlyThatUserToPrimary() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("uno", null, "ROLE_USER"));
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("update server set name = name"));
+
+        // when
+        String writerServer = readOnlyTransaction.execute(status -> serverName());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("other", null, "ROLE_USER"));
+        String otherServer = readOnlyTransaction.execute(status -> serverName());
+
+        // then
+        assertThat(writerServer).isEqualTo("primary");
+        assertThat(otherServer).isEqualTo("replica");
+    }
+
+    @DisplayName("원본에서 읽도록 감싼 읽기 전용 트랜잭션은, 원본으로 보낸다.")
+    @Test
+    void givenReadFromPrimary_whenQueryingReadOnly_thenRoutesToPrimary() {
+        // given
+
+        // when
+        String server = ReadWriteRoutingDataSource.readFromPrimary(() -> readOnlyTransaction.execute(status -> serverName()));
+
+        // then
+        assertThat(server).isEqualTo("primary");
+        assertThat(ReadWriteRoutingDataSource.isReadingFromPrimary()).isFalse();
+        assertThat(readOnlyTransaction.execute(status -> serverName())).isEqualTo("replica");
+    }
+
+    private String serverName() {
+        return jdbcTemplate.queryForObject("select name from server", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table server (name varchar(20))");
+        jdbcTemplate.update("insert into server values (?)", name);
+        jdbcTemplate.execute("create table replica_lag (lag_seconds int)");
+        jdbcTemplate.update("insert into replica_lag values (0)");
+        return database;
+    }
+
+}
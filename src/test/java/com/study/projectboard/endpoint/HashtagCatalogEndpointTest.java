@@ -0,0 +1,70 @@
+package com.study.projectboard.endpoint;
+
+import com.study.projectboard.config.TestSecurityConfig;
+import com.study.projectboard.service.HashtagCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementContextAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.web.servlet.ServletManagementContextAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.then;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("관리 엔드포인트 - 해시태그 카탈로그")
+@Import({TestSecurityConfig.class, HashtagCatalogEndpoint.class})
+@ImportAutoConfiguration({
+        EndpointAutoConfiguration.class,
+        WebEndpointAutoConfiguration.class,
+        ManagementContextAutoConfiguration.class,
+        ServletManagementContextAutoConfiguration.class
+})
+@WebMvcTest(properties = {
+        "board.admin.user-ids=heechanTest",
+        "management.endpoints.web.exposure.include=hashtagcatalog"
+})
+class HashtagCatalogEndpointTest {
+
+    private final MockMvc mockMvc;
+
+    @MockBean
+    private HashtagCatalog hashtagCatalog;
+
+    @Autowired
+    HashtagCatalogEndpointTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @WithUserDetails(value = "heechanTest", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[api][POST] 해시태그 카탈로그 재로딩 - 관리자가 호출하면 정상 호출")
+    @Test
+    void givenAdmin_whenRebuildingCatalog_thenRebuilds() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/actuator/hashtagcatalog").with(csrf()))
+                .andExpect(status().isOk());
+        then(hashtagCatalog).should().rebuild();
+    }
+
+    @WithMockUser
+    @DisplayName("[api][POST] 해시태그 카탈로그 재로딩 - 관리자가 아니면 403")
+    @Test
+    void givenRegularUser_whenRebuildingCatalog_thenReturnsForbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/actuator/hashtagcatalog").with(csrf()))
+                .andExpect(status().isForbidden());
+        then(hashtagCatalog).shouldHaveNoInteractions();
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.study.projectboard.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 애플리케이션을 임의 포트로 띄우고, 가상 사용자 여러 명이 목록/검색/상세/댓글 작성/로그인 요청을 섞어 보낸다.
+ * 엔드포인트별 처리량과 꼬리 지연 시간을 보고한다.
+ * <p>
+ * datagen 프로파일로 띄우므로 {@code SyntheticDataGenerator} 가 시작할 때 MySQL 모드 H2 에 데이터를 채운다.
+ * 검색 인덱스와 캐시도 그 데이터로 만들어진다.
+ * 가상 사용자는 전체 목표 처리량({@code loadtest.rate})을 나눠 맡아 일정한 간격으로 요청을 보낸다(열린 모델).
+ * 지연 시간은 HdrHistogram 에 예정 시각 기준으로 기록해서 coordinated omission 을 보정한다 ({@link VirtualUser} 참고).
+ * 결과는 로그와 {@code build/loadtest-results/board-<시각>.json} 에 남긴다.
+ * <p>
+ * {@code ./gradlew loadTest -Dloadtest.users=100 -Dloadtest.rate=500 -Dloadtest.duration=60 -Dloadtest.articles=1000000 -Pbenchmark.heap=6g}
+ */
+@Slf4j
+@Tag("loadtest")
+@DisplayName("부하 테스트 - 게시판 혼합 요청")
+@ActiveProfiles("datagen")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.study.projectboard=info",
+        "logging.level.org.springframework.web.servlet=info",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info"
+})
+class BoardLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 50);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200); // 전체 목표 처리량 (요청/초)
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration", 30);
+    private static final String PASSWORD = "asdf1234"; // SyntheticDataGenerator 가 만든 회원의 비밀번호
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    @DynamicPropertySource
+    static void dataVolumes(DynamicPropertyRegistry registry) {
+        registry.add("board.datagen.users", () -> Math.max(USERS, Integer.getInteger("loadtest.accounts", 1_000)));
+        registry.add("board.datagen.articles", () -> Integer.getInteger("loadtest.articles", 100_000));
+        registry.add("board.datagen.comments", () -> Integer.getInteger("loadtest.comments", 300_000));
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("가상 사용자들이 요청을 섞어 보내면, 엔드포인트별 처리량과 꼬리 지연 시간을 보고한다")
+    @Test
+    void givenVirtualUsers_whenSendingMixedRequests_thenReportsThroughputAndTailLatency() throws Exception {
+        // given
+        List<String> userIds = jdbcTemplate.queryForList(
+                "select user_id from user_account where created_by = 'datagen' order by id limit ?", String.class, USERS);
+        Long firstArticleId = jdbcTemplate.queryForObject("select min(id) from article", Long.class);
+        Long lastArticleId = jdbcTemplate.queryForObject("select max(id) from article", Long.class);
+        long startNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(2); // 가상 사용자들이 로그인할 시간
+        VirtualUser.Plan plan = new VirtualUser.Plan(
+                URI.create("http://localhost:" + port),
+                firstArticleId,
+                lastArticleId,
+                startNanos,
+                startNanos + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS),
+                startNanos + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS + DURATION_SECONDS),
+                TimeUnit.SECONDS.toNanos(1) * USERS / RATE
+        );
+        List<VirtualUser> virtualUsers = IntStream.range(0, USERS)
+                .mapToObj(i -> new VirtualUser(plan, userIds.get(i % userIds.size()), PASSWORD, i))
+                .toList();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        virtualUsers.forEach(executor::execute);
+        executor.shutdown();
+        boolean finished = executor.awaitTermination(WARMUP_SECONDS + DURATION_SECONDS + 120L, TimeUnit.SECONDS);
+
+        // then
+        List<EndpointReport> reports = report(virtualUsers);
+        log.info("load test - users: {}, target rate: {} req/s, duration: {} s (warmup {} s), articles: {}",
+                USERS, RATE, DURATION_SECONDS, WARMUP_SECONDS, lastArticleId - firstArticleId + 1);
+        reports.forEach(report -> log.info("{}", report.format()));
+        Path output = writeReport(reports, lastArticleId - firstArticleId + 1);
+        log.info("load test report - {}", output.toAbsolutePath());
+
+        assertThat(finished).isTrue();
+        assertThat(reports).allSatisfy(report -> assertThat(report.requests()).isPositive());
+    }
+
+    // 가상 사용자별 히스토그램을 엔드포인트마다 합친다. 마지막 줄은 전체 합계다.
+    private List<EndpointReport> report(List<VirtualUser> virtualUsers) {
+        List<EndpointReport> reports = new ArrayList<>();
+        Histogram totalLatency = VirtualUser.newHistogram();
+        Histogram totalServiceTime = VirtualUser.newHistogram();
+        long totalErrors = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram latency = VirtualUser.newHistogram();
+            Histogram serviceTime = VirtualUser.newHistogram();
+            long errors = 0;
+            for (VirtualUser virtualUser : virtualUsers) {
+                latency.add(virtualUser.latency(endpoint));
+                serviceTime.add(virtualUser.serviceTime(endpoint));
+                errors += virtualUser.errors(endpoint);
+            }
+            reports.add(EndpointReport.of(endpoint.getDescription(), latency, serviceTime, errors));
+            totalLatency.add(latency);
+            totalServiceTime.add(serviceTime);
+            totalErrors += errors;
+        }
+        reports.add(EndpointReport.of("ALL", totalLatency, totalServiceTime, totalErrors));
+        return reports;
+    }
+
+    private Path writeReport(List<EndpointReport> reports, long articles) throws IOException {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Path output = Path.of(System.getProperty("loadtest.output",
+                "build/loadtest-results/board-" + now.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+        Files.createDirectories(output.toAbsolutePath().getParent());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("loadTest", "board-mixed");
+        report.put("finishedAt", now.toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("virtualUsers", USERS);
+        report.put("targetRate", RATE);
+        report.put("warmupSeconds", WARMUP_SECONDS);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("articles", articles);
+        report.put("endpoints", reports);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+        return output;
+    }
+
+    /**
+     * 엔드포인트 하나의 결과. 지연 시간은 예정 시각 기준(보정), serviceTimeP99Millis 는 보낸 시각 기준(보정 전)이다.
+     */
+    record EndpointReport(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            double serviceTimeP99Millis
+    ) {
+
+        static EndpointReport of(String endpoint, Histogram latency, Histogram serviceTime, long errors) {
+            return new EndpointReport(
+                    endpoint,
+                    latency.getTotalCount(),
+                    errors,
+                    Math.round(latency.getTotalCount() * 10.0 / DURATION_SECONDS) / 10.0,
+                    millis(latency.getValueAtPercentile(PERCENTILES[0])),
+                    millis(latency.getValueAtPercentile(PERCENTILES[1])),
+                    millis(latency.getValueAtPercentile(PERCENTILES[2])),
+                    millis(latency.getValueAtPercentile(PERCENTILES[3])),
+                    millis(latency.getMaxValue()),
+                    millis(serviceTime.getValueAtPercentile(99))
+            );
+        }
+
+        String format() {
+            return "%-30s %8d req %6d err %9.1f req/s | p50 %8.2f p90 %8.2f p99 %8.2f p99.9 %8.2f max %8.2f ms | service p99 %8.2f ms"
+                    .formatted(endpoint, requests, errors, throughputPerSecond, p50Millis, p90Millis, p99Millis, p999Millis, maxMillis, serviceTimeP99Millis);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.study.projectboard.loadtest;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 부하 테스트에서 가상 사용자가 보내는 요청 종류와 비중
+ */
+enum Endpoint {
+    LIST("GET /articles", 35),
+    SEARCH("GET /articles?searchType=..", 25),
+    DETAIL("GET /articles/{articleId}", 30),
+    COMMENT("POST /comments/new", 8),
+    LOGIN("POST /login", 2);
+
+    private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(endpoint -> endpoint.weight).sum();
+
+    @Getter
+    private final String description;
+    private final int weight;
+
+    Endpoint(String description, int weight) {
+        this.description = description;
+        this.weight = weight;
+    }
+
+    static Endpoint pick(Random random) {
+        int value = random.nextInt(TOTAL_WEIGHT);
+        for (Endpoint endpoint : values()) {
+            value -= endpoint.weight;
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+        throw new IllegalStateException("가중치 합이 맞지 않습니다.");
+    }
+}
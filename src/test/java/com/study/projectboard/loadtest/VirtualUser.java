@@ -0,0 +1,252 @@
+package com.study.projectboard.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트의 가상 사용자 한 명. 자기 세션(쿠키)으로 로그인한 뒤, {@link Plan#intervalNanos()} 간격으로 요청을 하나씩 보낸다.
+ * <p>
+ * 지연 시간은 요청을 실제로 보낸 시각이 아니라 보내기로 예정된 시각부터 잰다.
+ * 앞 요청이 늦어 다음 요청이 밀리면 밀린 시간도 지연 시간에 들어간다.
+ * 그래서 응답을 기다리는 동안 요청을 보내지 않는 닫힌 루프 부하 도구가 빠뜨리는 대기 시간(coordinated omission)이 보정된다.
+ * 보정하지 않은 값(보낸 시각부터 응답까지)은 {@link #serviceTime(Endpoint)} 에 따로 남긴다.
+ */
+@Slf4j
+class VirtualUser implements Runnable {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"[^>]*value=\"([^\"]+)\"");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int LIST_PAGES = 10;
+    private static final String[][] SEARCHES = {
+            {"TITLE", "서버"},
+            {"TITLE", "query"},
+            {"CONTENT", "성능이"},
+            {"CONTENT", "cache"},
+            {"ID", "user12"},
+            {"NICKNAME", "회원3"},
+            {"HASHTAG", "java"}
+    };
+    private static final String[] HASHTAGS = {"java", "spring", "일상", "개발"};
+
+    private final Plan plan;
+    private final String userId;
+    private final String password;
+    private final Random random;
+    private final HttpClient httpClient;
+    private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Histogram> serviceTimes = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Long> errors = new EnumMap<>(Endpoint.class);
+
+    private String csrfToken; // 마지막으로 받은 화면의 CSRF 토큰. 로그인하면 바뀌므로 비운다.
+
+    /**
+     * @param baseUri         애플리케이션 주소
+     * @param firstArticleId  상세 조회, 댓글 작성에 쓸 게시글 id 범위
+     * @param lastArticleId   상세 조회, 댓글 작성에 쓸 게시글 id 범위
+     * @param startNanos      첫 요청 예정 시각 ({@link System#nanoTime()} 기준)
+     * @param measureFromNanos 이 시각 이후로 예정된 요청부터 기록한다 (워밍업 제외)
+     * @param endNanos        이 시각 이후로는 요청을 예정하지 않는다
+     * @param intervalNanos   가상 사용자 한 명의 요청 간격
+     */
+    record Plan(
+            URI baseUri,
+            long firstArticleId,
+            long lastArticleId,
+            long startNanos,
+            long measureFromNanos,
+            long endNanos,
+            long intervalNanos
+    ) {}
+
+    VirtualUser(Plan plan, String userId, String password, long seed) {
+        this.plan = plan;
+        this.userId = userId;
+        this.password = password;
+        this.random = new Random(seed);
+        this.httpClient = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, newHistogram());
+            serviceTimes.put(endpoint, newHistogram());
+            errors.put(endpoint, 0L);
+        }
+    }
+
+    static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    Histogram latency(Endpoint endpoint) {
+        return latencies.get(endpoint);
+    }
+
+    Histogram serviceTime(Endpoint endpoint) {
+        return serviceTimes.get(endpoint);
+    }
+
+    long errors(Endpoint endpoint) {
+        return errors.get(endpoint);
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (!login()) {
+                log.warn("가상 사용자 로그인 실패 - userId: {}", userId);
+                return;
+            }
+
+            // 가상 사용자마다 첫 요청 시각을 흩뜨려서 요청이 한꺼번에 몰리지 않게 한다
+            long intendedAt = plan.startNanos() + (long) (random.nextDouble() * plan.intervalNanos());
+            while (intendedAt < plan.endNanos()) {
+                waitUntil(intendedAt);
+                Endpoint endpoint = nextEndpoint();
+                long sentAt = System.nanoTime();
+                boolean succeeded;
+                try {
+                    succeeded = execute(endpoint);
+                } catch (IOException e) {
+                    succeeded = false;
+                }
+                long completedAt = System.nanoTime();
+                if (intendedAt >= plan.measureFromNanos()) {
+                    record(endpoint, completedAt - intendedAt, completedAt - sentAt, succeeded);
+                }
+                intendedAt += plan.intervalNanos();
+            }
+        } catch (IOException e) {
+            log.warn("가상 사용자 종료 - userId: {}, {}", userId, e.getLocalizedMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 로그인 직후라 CSRF 토큰이 없으면, 댓글 대신 상세 화면을 열어 토큰을 받는다
+    private Endpoint nextEndpoint() {
+        Endpoint endpoint = Endpoint.pick(random);
+        return endpoint == Endpoint.COMMENT && csrfToken == null ? Endpoint.DETAIL : endpoint;
+    }
+
+    private boolean execute(Endpoint endpoint) throws IOException, InterruptedException {
+        return switch (endpoint) {
+            case LIST -> get("/articles?page=" + random.nextInt(LIST_PAGES)).statusCode() == 200;
+            case SEARCH -> search().statusCode() == 200;
+            case DETAIL -> get("/articles/" + randomArticleId()).statusCode() == 200;
+            case COMMENT -> comment();
+            case LOGIN -> login();
+        };
+    }
+
+    private HttpResponse<String> search() throws IOException, InterruptedException {
+        String[] search = SEARCHES[random.nextInt(SEARCHES.length)];
+        if (search[0].equals("HASHTAG")) {
+            return get("/articles/search-hashtag?searchValue=" + encode(HASHTAGS[random.nextInt(HASHTAGS.length)]));
+        }
+        return get("/articles?searchType=" + search[0] + "&searchValue=" + encode(search[1]));
+    }
+
+    private boolean comment() throws IOException, InterruptedException {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("articleId", String.valueOf(randomArticleId()));
+        form.put("content", "부하 테스트 댓글 - " + userId);
+        HttpResponse<String> response = postForm("/comments/new", form);
+        return response.statusCode() == 302 && location(response).contains("/articles/");
+    }
+
+    private boolean login() throws IOException, InterruptedException {
+        get("/login");
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("username", userId);
+        form.put("password", password);
+        HttpResponse<String> response = postForm("/login", form);
+        csrfToken = null;
+        return response.statusCode() == 302 && !location(response).contains("error");
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(plan.baseUri().resolve(pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_TOKEN.matcher(response.body());
+        if (matcher.find()) {
+            csrfToken = matcher.group(1);
+        }
+        return response;
+    }
+
+    private HttpResponse<String> postForm(String path, Map<String, String> form) throws IOException, InterruptedException {
+        if (csrfToken != null) {
+            form.put("_csrf", csrfToken);
+        }
+        String body = form.entrySet().stream()
+                .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&"));
+        HttpRequest request = HttpRequest.newBuilder(plan.baseUri().resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private long randomArticleId() {
+        return plan.firstArticleId() + (long) (random.nextDouble() * (plan.lastArticleId() - plan.firstArticleId() + 1));
+    }
+
+    private void record(Endpoint endpoint, long latencyNanos, long serviceTimeNanos, boolean succeeded) {
+        latencies.get(endpoint).recordValue(toMicros(latencyNanos));
+        serviceTimes.get(endpoint).recordValue(toMicros(serviceTimeNanos));
+        if (!succeeded) {
+            errors.merge(endpoint, 1L, Long::sum);
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static void waitUntil(long nanoTime) throws InterruptedException {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private static String location(HttpResponse<?> response) {
+        return response.headers().firstValue("Location").orElse("");
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.study.projectboard.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("지표 - JDBC 문장 점검")
+@ExtendWith(OutputCaptureExtension.class)
+class JdbcInspectorTest {
+
+    private final JdbcInspector sut = new JdbcInspector(new JdbcInspectionProperties(true, 3, 3, 1.0, 10, false));
+
+    @AfterEach
+    void tearDown() {
+        JdbcUsage.stop();
+        JdbcUsage.stop();
+    }
+
+    @DisplayName("바인드 개수만 다른 select 는, 같은 모양으로 세고 insert 는 문장 수에만 센다.")
+    @Test
+    void givenSelectsDifferingOnlyInBindCount_whenInspecting_thenCountsThemAsSameShape() {
+        // given
+        JdbcUsage usage = JdbcUsage.start();
+
+        // when
+        sut.afterStatement("conn1", "select * from article where id in (?, ?, ?)");
+        sut.afterStatement("conn1", "select *  from article\n where id in (?)");
+        sut.afterStatement("conn1", "insert into article (title, id) values (?, ?)");
+
+        // then
+        assertThat(usage.statements()).isEqualTo(3);
+        assertThat(usage.repeatedSelects(2)).containsExactly(entry("select * from article where id in (?)", 2));
+    }
+
+    @DisplayName("구간 안에서 구간을 다시 열면, 안쪽에서 센 문장을 바깥 구간에도 더하고 닫으면 바깥 구간으로 돌아간다.")
+    @Test
+    void givenNestedUsage_whenInspecting_thenAddsToOuterUsage() {
+        // given
+        JdbcUsage outer = JdbcUsage.start();
+        JdbcUsage inner = JdbcUsage.start();
+
+        // when
+        sut.afterStatement("conn1", "select * from article where id=?");
+        JdbcUsage.stop();
+        sut.afterStatement("conn1", "select * from article where id=?");
+
+        // then
+        assertThat(inner.statements()).isEqualTo(1);
+        assertThat(outer.statements()).isEqualTo(2);
+        assertThat(JdbcUsage.current()).containsSame(outer);
+    }
+
+    @DisplayName("트랜잭션 하나에서 같은 select 가 문턱만큼 되풀이되면, 호출 위치와 함께 한 번만 경고한다.")
+    @Test
+    void givenRepeatedSelectsInTransaction_whenInspecting_thenWarnsOnceWithCallSite(CapturedOutput output) {
+        // given
+        sut.beginTransaction("conn1");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            sut.afterStatement("conn1", "select * from user_account where id=?");
+        }
+        sut.endTransaction("conn1");
+
+        // then
+        assertThat(output.getOut()).containsOnlyOnce("N+1 의심 - 트랜잭션 하나에서 같은 select 를 3번 실행했습니다");
+        assertThat(output.getOut()).containsOnlyOnce("JDBC 문장 수 초과 - 트랜잭션 하나에서 3개를 넘었습니다");
+        assertThat(output.getOut()).contains("JdbcInspectorTest.givenRepeatedSelectsInTransaction_whenInspecting_thenWarnsOnceWithCallSite");
+    }
+
+}
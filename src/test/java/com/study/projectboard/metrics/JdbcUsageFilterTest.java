@@ -0,0 +1,66 @@
+package com.study.projectboard.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지표 - 요청별 JDBC 사용량")
+class JdbcUsageFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JdbcUsageFilter sut = new JdbcUsageFilter(meterRegistry, true);
+
+    @DisplayName("요청을 처리하면, 그동안 센 JDBC 문장 수와 행 수를 URI 패턴별로 기록하고 집계를 끈다.")
+    @Test
+    void givenRequest_whenFiltering_thenRecordsStatementsAndRowsByUriPattern() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/1");
+
+        // when
+        sut.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/articles/{articleId}");
+            JdbcUsage usage = JdbcUsage.current().orElseThrow();
+            usage.addStatement("select * from article where id=?");
+            usage.addStatement("select * from article where id=?");
+            for (int i = 0; i < 21; i++) {
+                usage.addRow();
+            }
+        });
+
+        // then
+        DistributionSummary statements = meterRegistry.get("board.request.jdbc.statements")
+                .tag("method", "GET")
+                .tag("uri", "/articles/{articleId}")
+                .summary();
+        DistributionSummary rows = meterRegistry.get("board.request.jdbc.rows")
+                .tag("uri", "/articles/{articleId}")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(2);
+        assertThat(rows.totalAmount()).isEqualTo(21);
+        assertThat(JdbcUsage.current()).isEmpty();
+    }
+
+    @DisplayName("행 수를 세지 않도록 설정했으면, 문장 수만 기록한다.")
+    @Test
+    void givenRowCountingDisabled_whenFiltering_thenRecordsStatementsOnly() throws Exception {
+        // given
+        JdbcUsageFilter statementsOnly = new JdbcUsageFilter(meterRegistry, false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles");
+
+        // when
+        statementsOnly.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                JdbcUsage.current().orElseThrow().addStatement("select * from article"));
+
+        // then
+        assertThat(meterRegistry.get("board.request.jdbc.statements").summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.find("board.request.jdbc.rows").summary()).isNull();
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.study.projectboard.metrics;
+
+import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.service.ArticleService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("지표 - 서비스 메소드 타이머")
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceMetricsAspect sut;
+
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private MethodSignature signature;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ServiceMetricsAspect(meterRegistry);
+    }
+
+    @DisplayName("검색 메소드를 실행하면, 검색 종류와 검색어 유무를 태그로 단 타이머에 기록한다.")
+    @Test
+    void givenSearchMethod_whenProceeding_thenRecordsTimerTaggedBySearchTypeAndKeyword() throws Throwable {
+        // given
+        givenSignature("searchArticles", new String[]{"searchType", "searchKeyword", "pageable"},
+                new Class<?>[]{SearchType.class, String.class, Pageable.class});
+        given(joinPoint.getArgs()).willReturn(new Object[]{SearchType.NICKNAME, "uno", Pageable.unpaged()});
+        given(joinPoint.proceed()).willReturn("result");
+
+        // when
+        Object result = sut.time(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("class", "ArticleService")
+                .tag("method", "searchArticles")
+                .tag("searchType", "NICKNAME")
+                .tag("keyword", "present")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @DisplayName("검색어 없이 검색하면, keyword 태그가 blank 다.")
+    @Test
+    void givenBlankKeyword_whenProceeding_thenTagsKeywordAsBlank() throws Throwable {
+        // given
+        givenSignature("searchArticleSlice", new String[]{"searchType", "searchKeyword", "pageable"},
+                new Class<?>[]{SearchType.class, String.class, Pageable.class});
+        given(joinPoint.getArgs()).willReturn(new Object[]{null, " ", Pageable.unpaged()});
+
+        // when
+        sut.time(joinPoint);
+
+        // then
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("searchType", "none")
+                .tag("keyword", "blank")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @DisplayName("메소드가 예외를 던지면, 예외 이름을 태그로 달아 기록하고 예외를 그대로 던진다.")
+    @Test
+    void givenFailingMethod_whenProceeding_thenRecordsExceptionTagAndRethrows() throws Throwable {
+        // given
+        givenSignature("getArticle", new String[]{"articleId"}, new Class<?>[]{Long.class});
+        given(joinPoint.getArgs()).willReturn(new Object[]{1L});
+        given(joinPoint.proceed()).willThrow(new EntityNotFoundException());
+
+        // when & then
+        assertThatThrownBy(() -> sut.time(joinPoint)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("method", "getArticle")
+                .tag("searchType", "none")
+                .tag("keyword", "none")
+                .tag("exception", "EntityNotFoundException")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    private void givenSignature(String methodName, String[] parameterNames, Class<?>[] parameterTypes) {
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getDeclaringType()).willReturn(ArticleService.class);
+        given(signature.getName()).willReturn(methodName);
+        given(signature.getParameterNames()).willReturn(parameterNames);
+        given(signature.getParameterTypes()).willReturn(parameterTypes);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.study.projectboard.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("지표 - 느린 쿼리 기록")
+class SlowQueryLogTest {
+
+    private EmbeddedDatabase dataSource;
+    private SlowQueryLog sut;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        new JdbcTemplate(dataSource).execute("create table article (id bigint primary key, title varchar(255))");
+        sut = new SlowQueryLog(new SlowQueryProperties(Duration.ofMillis(100), 2, 10, true, false), Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @DisplayName("문턱 이상 걸린 문장만, 느린 쿼리로 본다.")
+    @Test
+    void givenElapsedTime_whenCheckingSlow_thenComparesWithThreshold() {
+        // given
+
+        // when & then
+        assertThat(sut.isSlow(99)).isFalse();
+        assertThat(sut.isSlow(100)).isTrue();
+    }
+
+    @DisplayName("같은 모양의 느린 쿼리는, 모양별로 횟수/합계/최대 시간을 모으고 실행 계획은 한 번만 뜬다.")
+    @Test
+    void givenSlowQueriesOfSameShape_whenRecording_thenAggregatesAndExplainsOnce() {
+        // given
+        String sql = "select * from article where id in (?, ?)";
+
+        // when
+        sut.record(dataSource, sql, List.of(1L, 2L), 150);
+        sut.record(dataSource, "select * from article where id in (?)", List.of(3L), 300);
+        sut.record(dataSource, "update article set title=? where id=?", List.of("title", 1L), 120);
+
+        // then
+        assertThat(sut.shapes())
+                .extracting(SlowQueryLog.ShapeSummary::shape, SlowQueryLog.ShapeSummary::count, SlowQueryLog.ShapeSummary::totalMillis, SlowQueryLog.ShapeSummary::maxMillis)
+                .containsExactly(
+                        tuple("select * from article where id in (?)", 2L, 450L, 300L),
+                        tuple("update article set title=? where id=?", 1L, 120L, 120L)
+                );
+        assertThat(sut.shapes().get(0).plan()).startsWith("PLAN=").containsIgnoringCase("ARTICLE");
+        assertThat(sut.shapes().get(1).plan()).isNull();
+    }
+
+    @DisplayName("링 버퍼가 차면, 오래된 것부터 밀려나고 최근 것부터 돌려준다. 바인드 값은 타입만 남긴다.")
+    @Test
+    void givenMoreQueriesThanCapacity_whenReadingRecent_thenReturnsNewestFirst() {
+        // given
+        sut.record(dataSource, "select * from article where id=?", List.of(1L), 100);
+        sut.record(dataSource, "select * from article where id=?", List.of(2L), 200);
+        sut.record(dataSource, "select * from article where title=?", List.of("title"), 300);
+
+        // when
+        List<SlowQueryLog.SlowQuery> recent = sut.recent();
+
+        // then
+        assertThat(recent)
+                .extracting(SlowQueryLog.SlowQuery::elapsedMillis, SlowQueryLog.SlowQuery::parameters)
+                .containsExactly(
+                        tuple(300L, List.of("?(String)")),
+                        tuple(200L, List.of("?(Long)"))
+                );
+    }
+
+    @DisplayName("바인드 값을 보여주도록 설정하면, 느린 쿼리에 실제 바인드 값을 남긴다.")
+    @Test
+    void givenIncludeParameters_whenRecording_thenKeepsBindValues() {
+        // given
+        SlowQueryLog sut = new SlowQueryLog(new SlowQueryProperties(Duration.ofMillis(100), 2, 10, false, true), Runnable::run);
+
+        // when
+        sut.record(dataSource, "select * from user_account where user_id=? and age=?", List.of("uno", 20), 100);
+
+        // then
+        assertThat(sut.recent())
+                .extracting(SlowQueryLog.SlowQuery::parameters)
+                .containsExactly(List.of("'uno'", "20"));
+    }
+
+}
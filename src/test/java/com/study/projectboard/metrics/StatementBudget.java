@@ -0,0 +1,36 @@
+package com.study.projectboard.metrics;
+
+import com.study.projectboard.config.JdbcInspectionConfig;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메소드 하나가 실행해도 되는 JDBC 문장 수와 N+1 문턱. 넘으면 테스트를 실패시킨다.
+ * <p>
+ * 테스트 클래스에 붙이면 데이터소스를 감싸는 {@link JdbcInspectionConfig} 를 가져오고 모든 테스트 메소드에 적용한다.
+ * 메소드에 붙이면 클래스에 붙인 값을 그 메소드만 덮어쓴다. 테스트 스레드에서 실행한 문장만 센다.
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Import(JdbcInspectionConfig.class)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    /**
+     * 실행해도 되는 문장 수. 배치는 한 번으로 센다.
+     */
+    int value() default Integer.MAX_VALUE;
+
+    /**
+     * 같은 모양의 select 를 이 횟수 이상 실행하면 N+1 로 보고 실패시킨다.
+     */
+    int nPlusOneThreshold() default 5;
+
+}
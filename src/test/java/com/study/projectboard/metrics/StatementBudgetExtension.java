@@ -0,0 +1,45 @@
+package com.study.projectboard.metrics;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link StatementBudget} 을 검사한다. 테스트 메소드 전후로 {@link JdbcUsage} 구간을 열고 닫은 다음,
+ * 센 문장 수와 되풀이된 select 를 예산과 비교한다.
+ */
+public class StatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StatementBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(JdbcUsage.class, JdbcUsage.start());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        JdbcUsage usage = context.getStore(NAMESPACE).remove(JdbcUsage.class, JdbcUsage.class);
+        JdbcUsage.stop();
+
+        StatementBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), StatementBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), StatementBudget.class))
+                .orElseThrow();
+        Map<String, Integer> repeated = usage.repeatedSelects(budget.nPlusOneThreshold());
+        if (usage.statements() > budget.value()) {
+            throw new AssertionError("JDBC 문장 수 예산 초과 - 예산: %d, 실행: %d".formatted(budget.value(), usage.statements()));
+        }
+        if (!repeated.isEmpty()) {
+            throw new AssertionError("N+1 의심 - 같은 select 를 %d번 이상 실행했습니다\n%s".formatted(
+                    budget.nPlusOneThreshold(),
+                    repeated.entrySet().stream()
+                            .map(entry -> "\t" + entry.getValue() + "회: " + entry.getKey())
+                            .collect(Collectors.joining("\n"))));
+        }
+    }
+
+}
@@ -2,7 +2,15 @@ package com.study.projectboard.repository;
 
 import com.study.projectboard.config.JpaConfig;
 import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.ArticleComment;
+import com.study.projectboard.domain.Hashtag;
 import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.dto.ArticleListDto;
+import com.study.projectboard.dto.ArticleCommentDto;
+import com.study.projectboard.metrics.StatementBudget;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,32 +19,46 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 //@ActiveProfiles("testdb")
 @DisplayName("JPA 연결 테스트")
+@StatementBudget(nPlusOneThreshold = 10)
 @Import(JpaRepositoryTest.TestJpaConfig.class)
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class JpaRepositoryTest {
 
     private final ArticleRepository articleRepository;
     private final ArticleCommentRepository articleCommentRepository;
     private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+    private final EntityManager entityManager;
 
 
     @Autowired
-    public JpaRepositoryTest(ArticleRepository articleRepository, ArticleCommentRepository articleCommentRepository, UserAccountRepository userAccountRepository) {
+    public JpaRepositoryTest(ArticleRepository articleRepository, ArticleCommentRepository articleCommentRepository, UserAccountRepository userAccountRepository, HashtagRepository hashtagRepository, EntityManager entityManager) {
         this.articleRepository = articleRepository;
         this.articleCommentRepository = articleCommentRepository;
         this.userAccountRepository = userAccountRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.entityManager = entityManager;
     }
 
     @DisplayName("select 테스트")
+    @StatementBudget(2) // 게시글 + 작성자(즉시 로딩) 한 번
     @Test
     void givenWhenThen() {
         //given
@@ -102,6 +124,110 @@ class JpaRepositoryTest {
         assertThat(articleCommentRepository.count()).isEqualTo(previousArticleCommentCount - deletedCommentSize);
     }
 
+    @DisplayName("댓글 일괄 insert 배치 테스트")
+    @Test
+    void givenManyArticleComments_whenSavingAll_thenInsertsInBatches() {
+        //given
+        Article article = articleRepository.findById(1L).orElseThrow();
+        List<ArticleComment> articleComments = IntStream.range(0, 100)
+                .mapToObj(i -> ArticleComment.of(article, article.getUserAccount(), "batch comment " + i))
+                .toList();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        articleCommentRepository.saveAll(articleComments);
+        entityManager.flush();
+
+        //then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(100);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10); // id 블록 조회/갱신 + 배치 insert
+        assertThat(articleComments).extracting(ArticleComment::getId).doesNotHaveDuplicates().doesNotContainNull();
+    }
+
+    @DisplayName("해시태그 조인 테스트")
+    @Test
+    void givenHashtagName_whenSearchingByJoin_thenReturnsArticlesAndMaintainedCount() {
+        //given
+        long expectedCount = articleRepository.findAll().stream()
+                .filter(article -> "#pink".equals(article.getHashtag()))
+                .count();
+
+        //when
+        Page<Article> articles = articleRepository.findByHashtags_HashtagName("pink", Pageable.ofSize(200));
+        Hashtag hashtag = hashtagRepository.findByHashtagName("pink").orElseThrow();
+
+        //then
+        assertThat(articles.getTotalElements()).isEqualTo(expectedCount).isPositive();
+        assertThat(hashtag.getArticleCount()).isEqualTo(expectedCount);
+        assertThat(hashtagRepository.findAllHashtagNames()).contains("pink").isSorted();
+        assertThat(hashtagRepository.findByArticleId(articles.getContent().get(0).getId()))
+                .extracting(Hashtag::getHashtagName)
+                .containsExactly("pink");
+    }
+
+    @DisplayName("목록 프로젝션 테스트")
+    @Test
+    void givenSearchKeyword_whenSearchingListSlice_thenReturnsSameRowsAsEntityQuery() {
+        //given
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Order.asc("userAccount.userId"), Sort.Order.desc("title"), Sort.Order.asc("id")));
+        List<Article> expected = articleRepository.findByTitleContaining("a", pageable).getContent();
+
+        //when
+        Slice<ArticleListDto> articles = articleRepository.findListSlice(SearchType.TITLE, "a", pageable);
+
+        //then
+        assertThat(articles.hasNext()).isTrue();
+        assertThat(articles.getContent())
+                .extracting(ArticleListDto::id, ArticleListDto::title, ArticleListDto::hashtag, ArticleListDto::nickname)
+                .containsExactlyElementsOf(expected.stream()
+                        .map(article -> tuple(article.getId(), article.getTitle(), article.getHashtag(), article.getUserAccount().getNickname()))
+                        .toList());
+        assertThat(articleRepository.findListByIdIn(List.of(1L, 2L)))
+                .extracting(ArticleListDto::id)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @DisplayName("게시글 상세 조회 쿼리 수 테스트")
+    @Test
+    void givenArticleWithComments_whenLoadingDetail_thenRunsFixedNumberOfStatements() {
+        //given
+        Long articleId = articleCommentRepository.findAll().get(0).getArticle().getId();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Article article = articleRepository.findWithUserAccountById(articleId).orElseThrow();
+        List<ArticleCommentDto> articleComments = articleCommentRepository
+                .findByArticle_IdOrderByCreatedAtDescIdDesc(articleId, PageRequest.of(0, 20))
+                .stream()
+                .map(ArticleCommentDto::from)
+                .toList();
+
+        //then
+        assertThat(article.getUserAccount().getUserId()).isNotNull();
+        assertThat(articleComments)
+                .isNotEmpty()
+                .allSatisfy(comment -> assertThat(comment.userAccountDto().userId()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("댓글 키셋 페이지 테스트")
+    @Test
+    void givenCursor_whenSearchingNextCommentPage_thenReturnsOlderComments() {
+        //given
+        Long articleId = articleCommentRepository.findAll().get(0).getArticle().getId();
+        List<ArticleComment> all = articleCommentRepository.findByArticle_IdOrderByCreatedAtDescIdDesc(articleId, PageRequest.of(0, 1_000));
+        ArticleComment last = all.get(0);
+
+        //when
+        List<ArticleComment> next = articleCommentRepository.findByKeyset(articleId, last.getCreatedAt(), last.getId(), PageRequest.of(0, 1_000));
+
+        //then
+        assertThat(next).containsExactlyElementsOf(all.subList(1, all.size()));
+    }
+
     @EnableJpaAuditing
     @TestConfiguration
     public static class TestJpaConfig {
@@ -3,8 +3,11 @@ package com.study.projectboard.service;
 import com.study.projectboard.domain.Article;
 import com.study.projectboard.domain.ArticleComment;
 import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.dto.ArticleCommentCursor;
 import com.study.projectboard.dto.ArticleCommentDto;
+import com.study.projectboard.dto.CursorSlice;
 import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.event.ArticleCommentEvent;
 import com.study.projectboard.repository.ArticleCommentRepository;
 import com.study.projectboard.repository.ArticleRepository;
 import com.study.projectboard.repository.UserAccountRepository;
@@ -14,10 +17,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +39,7 @@ class ArticleCommentServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleCommentRepository articleCommentRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("게시글 ID로 조회하면, 해당하는 댓글 리스트를 반환한다.")
     @Test
@@ -51,6 +59,48 @@ class ArticleCommentServiceTest {
         then(articleCommentRepository).should().findByArticle_Id(articleId);
     }
 
+    @DisplayName("커서 없이 댓글을 조회하면, 최신 댓글 한 페이지와 다음 페이지 커서를 반환한다.")
+    @Test
+    void givenNoCursor_whenSearchingArticleCommentPage_thenReturnsFirstPageWithNextCursor() {
+        // Given
+        Long articleId = 1L;
+        LocalDateTime now = LocalDateTime.of(2022, 1, 1, 0, 0);
+        List<ArticleComment> articleComments = List.of(
+                createArticleComment(3L, now),
+                createArticleComment(2L, now.minusMinutes(1)),
+                createArticleComment(1L, now.minusMinutes(2))
+        );
+        given(articleCommentRepository.findByArticle_IdOrderByCreatedAtDescIdDesc(articleId, PageRequest.of(0, 3)))
+                .willReturn(articleComments);
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchArticleComments(articleId, null, 2);
+
+        // Then
+        assertThat(actual.getContent()).extracting(ArticleCommentDto::id).containsExactly(3L, 2L);
+        assertThat(ArticleCommentCursor.decode(actual.getNextCursor()))
+                .isEqualTo(ArticleCommentCursor.of(now.minusMinutes(1), 2L));
+        then(articleCommentRepository).should().findByArticle_IdOrderByCreatedAtDescIdDesc(articleId, PageRequest.of(0, 3));
+    }
+
+    @DisplayName("커서와 함께 댓글을 조회하면, 커서 다음 댓글을 키셋으로 조회한다.")
+    @Test
+    void givenCursor_whenSearchingArticleCommentPage_thenSeeksAfterCursor() {
+        // Given
+        Long articleId = 1L;
+        ArticleCommentCursor cursor = ArticleCommentCursor.of(LocalDateTime.of(2022, 1, 1, 0, 0), 5L);
+        given(articleCommentRepository.findByKeyset(articleId, cursor.createdAt(), cursor.id(), PageRequest.of(0, 3)))
+                .willReturn(List.of(createArticleComment(4L, cursor.createdAt())));
+
+        // When
+        CursorSlice<ArticleCommentDto> actual = sut.searchArticleComments(articleId, cursor.encode(), 2);
+
+        // Then
+        assertThat(actual.getContent()).extracting(ArticleCommentDto::id).containsExactly(4L);
+        assertThat(actual.getNextCursor()).isNull();
+        then(articleCommentRepository).should().findByKeyset(articleId, cursor.createdAt(), cursor.id(), PageRequest.of(0, 3));
+    }
+
     @DisplayName("댓글 정보를 입력하면, 댓글을 저장한다.")
     @Test
     void givenArticleCommentInfo_whenSavingArticleComment_thenSavesArticleComment() {
@@ -67,6 +117,7 @@ class ArticleCommentServiceTest {
         then(articleRepository).should().getReferenceById(dto.articleId());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().id());
         then(articleCommentRepository).should().save(any(ArticleComment.class));
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(dto.articleId()));
     }
 
     @DisplayName("댓글 저장을 시도했는데 맞는 게시글이 없으면, 경고 로그를 찍고 아무것도 안 한다.")
@@ -125,13 +176,36 @@ class ArticleCommentServiceTest {
         // Given
         Long articleCommentId = 1L;
         String userId = "uno";
-        willDoNothing().given(articleCommentRepository).deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        ArticleComment articleComment = createArticleComment("content");
+        ReflectionTestUtils.setField(articleComment.getArticle(), "id", 2L);
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(articleComment));
+        given(articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId)).willReturn(1L);
+
+        // When
+        sut.deleteArticleComment(articleCommentId, userId);
+
+        // Then
+        then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(eventPublisher).should().publishEvent(ArticleCommentEvent.of(2L));
+    }
+
+    @DisplayName("다른 사람의 댓글 ID를 입력하면, 삭제되지 않고 이벤트도 발행하지 않는다.")
+    @Test
+    void givenOthersArticleCommentId_whenDeletingArticleComment_thenPublishesNothing() {
+        // Given
+        Long articleCommentId = 1L;
+        String userId = "other";
+        ArticleComment articleComment = createArticleComment("content");
+        ReflectionTestUtils.setField(articleComment.getArticle(), "id", 2L);
+        given(articleCommentRepository.findById(articleCommentId)).willReturn(Optional.of(articleComment));
+        given(articleCommentRepository.deleteByIdAndUserAccount_UserId(articleCommentId, userId)).willReturn(0L);
 
         // When
         sut.deleteArticleComment(articleCommentId, userId);
 
         // Then
         then(articleCommentRepository).should().deleteByIdAndUserAccount_UserId(articleCommentId, userId);
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
 
@@ -171,6 +245,13 @@ class ArticleCommentServiceTest {
         );
     }
 
+    private ArticleComment createArticleComment(Long id, LocalDateTime createdAt) {
+        ArticleComment articleComment = createArticleComment("content");
+        ReflectionTestUtils.setField(articleComment, "id", id);
+        ReflectionTestUtils.setField(articleComment, "createdAt", createdAt);
+        return articleComment;
+    }
+
     private UserAccount createUserAccount() {
         return UserAccount.of(
                 "uno",
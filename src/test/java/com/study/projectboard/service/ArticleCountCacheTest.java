@@ -0,0 +1,95 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.event.ArticleEvent;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시글 개수 캐시")
+@ExtendWith(MockitoExtension.class)
+class ArticleCountCacheTest {
+
+    @InjectMocks
+    private ArticleCountCache sut;
+
+    @Mock
+    private ArticleRepository articleRepository;
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @DisplayName("처음 조회하면 비어 있고, 백그라운드 갱신 이후에는 집계된 개수를 반환한다.")
+    @Test
+    void givenNewKey_whenRefreshed_thenReturnsCount() {
+        // given
+        given(articleRepository.countByTitleContaining("title")).willReturn(7L);
+
+        // when
+        OptionalLong beforeRefresh = sut.get(SearchType.TITLE, "title");
+        sut.refresh();
+        OptionalLong afterRefresh = sut.get(SearchType.TITLE, "title");
+
+        // then
+        assertThat(beforeRefresh).isEmpty();
+        assertThat(afterRefresh).hasValue(7L);
+        then(articleRepository).should().countByTitleContaining("title");
+    }
+
+    @DisplayName("검색어가 없으면 전체 개수를 캐시하고, 게시글이 저장되면 바로 증가시킨다.")
+    @Test
+    void givenTotalCount_whenArticleCreated_thenIncrementsWithoutQuery() {
+        // given
+        given(articleRepository.count()).willReturn(123L);
+        sut.get(null, null);
+        sut.refresh();
+
+        // when
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.CREATED, 124L, null));
+
+        // then
+        assertThat(sut.get(SearchType.TITLE, " ")).hasValue(124L);
+        then(articleRepository).should(times(1)).count();
+    }
+
+    @DisplayName("게시글이 삭제되면, 전체 개수만 바로 줄이고 검색어별 개수는 다시 집계하지 않는다.")
+    @Test
+    void givenCachedCounts_whenArticleDeleted_thenDecrementsTotalOnly() {
+        // given
+        given(articleRepository.count()).willReturn(123L);
+        given(hashtagRepository.findByHashtagName("java")).willReturn(Optional.of(createHashtag(1L)));
+        sut.get(null, null);
+        sut.get(SearchType.HASHTAG, "java");
+        sut.refresh();
+
+        // when
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.DELETED, 1L, null));
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.UPDATED, 2L, null));
+        sut.refresh();
+
+        // then
+        assertThat(sut.get(null, null)).hasValue(122L);
+        assertThat(sut.get(SearchType.HASHTAG, "java")).hasValue(1L);
+        then(articleRepository).should(times(1)).count();
+        then(hashtagRepository).should(times(1)).findByHashtagName("java");
+    }
+
+    private Hashtag createHashtag(long articleCount) {
+        Hashtag hashtag = Hashtag.of("java");
+        ReflectionTestUtils.setField(hashtag, "articleCount", articleCount);
+        return hashtag;
+    }
+
+}
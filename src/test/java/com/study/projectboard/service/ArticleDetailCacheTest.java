@@ -0,0 +1,96 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.dto.ArticleWithCommentsDto;
+import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.event.ArticleCommentEvent;
+import com.study.projectboard.event.ArticleEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비지니스 로직 - 게시글 상세 캐시")
+class ArticleDetailCacheTest {
+
+    private ArticleDetailCache sut;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ArticleDetailCache(meterRegistry);
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("같은 게시글을 다시 조회하면, 불러오지 않고 캐시된 게시글을 반환한다.")
+    @Test
+    void givenCachedArticle_whenGettingAgain_thenReturnsCachedWithoutLoading() {
+        // when
+        ArticleWithCommentsDto first = sut.get(1L, loader());
+        ArticleWithCommentsDto second = sut.get(1L, loader());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ArticleDetailCache.CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ArticleDetailCache.CACHE_NAME).tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.article.detail.load").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.article.detail.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @DisplayName("게시글 수정/삭제, 댓글 변경 이벤트를 받으면, 해당 게시글을 다시 불러온다.")
+    @Test
+    void givenChangeEvents_whenGettingAgain_thenReloadsArticle() {
+        // given
+        sut.get(1L, loader());
+        sut.get(2L, loader());
+        sut.get(3L, loader());
+
+        // when
+        sut.onArticleEvent(ArticleEvent.deleted(1L));
+        sut.onArticleCommentEvent(ArticleCommentEvent.of(2L));
+        sut.onArticleEvent(ArticleEvent.created(createArticleDto(3L)));
+        sut.get(1L, loader());
+        sut.get(2L, loader());
+        sut.get(3L, loader());
+
+        // then: 생성 이벤트로는 지우지 않으므로 3번 게시글만 캐시에서 나온다
+        assertThat(loadCount).hasValue(5);
+    }
+
+    @DisplayName("불러오다가 예외가 나면, 그대로 던지고 캐시에 남기지 않는다.")
+    @Test
+    void givenFailingLoader_whenGetting_thenThrowsAndDoesNotCache() {
+        // when & then
+        assertThatThrownBy(() -> sut.get(1L, articleId -> {
+            throw new EntityNotFoundException("게시글이 없습니다 - articleId: " + articleId);
+        })).isInstanceOf(EntityNotFoundException.class);
+        assertThat(sut.estimatedSize()).isZero();
+    }
+
+    private Function<Long, ArticleWithCommentsDto> loader() {
+        return articleId -> {
+            loadCount.incrementAndGet();
+            return ArticleWithCommentsDto.of(articleId, createUserAccountDto(), Set.of(), "title", "content", "#java", null, null, null, null);
+        };
+    }
+
+    private ArticleDto createArticleDto(Long articleId) {
+        return ArticleDto.of(articleId, createUserAccountDto(), "title", "content", "#java", null, null, null, null);
+    }
+
+    private UserAccountDto createUserAccountDto() {
+        return UserAccountDto.of("uno", "password", "uno@mail.com", "Uno", null);
+    }
+
+}
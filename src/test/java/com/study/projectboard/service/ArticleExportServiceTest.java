@@ -0,0 +1,70 @@
+package com.study.projectboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.projectboard.repository.ArticleCommentRepository;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.repository.JpaRepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 게시판 내보내기")
+@Import({ArticleExportService.class, JpaRepositoryTest.TestJpaConfig.class})
+@DataJpaTest
+class ArticleExportServiceTest {
+
+    private final ArticleExportService sut;
+    private final ArticleRepository articleRepository;
+    private final ArticleCommentRepository articleCommentRepository;
+
+    @Autowired
+    ArticleExportServiceTest(ArticleExportService sut, ArticleRepository articleRepository, ArticleCommentRepository articleCommentRepository) {
+        this.sut = sut;
+        this.articleRepository = articleRepository;
+        this.articleCommentRepository = articleCommentRepository;
+    }
+
+    @DisplayName("게시판을 내보내면, 게시글을 id 순으로 쓴 다음 댓글을 한 줄에 하나씩 쓴다.")
+    @Test
+    void givenBoard_whenExporting_thenWritesArticlesThenCommentsAsNdjson() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        sut.exportAll(out);
+
+        // then
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        long articleCount = articleRepository.count();
+        assertThat(lines).hasSize((int) (articleCount + articleCommentRepository.count()));
+        assertThat(lines.subList(0, (int) articleCount))
+                .allSatisfy(line -> assertThat(line.get("type").asText()).isEqualTo("article"))
+                .extracting(line -> line.get("id").asLong())
+                .isSorted();
+        assertThat(lines.get(0).get("userId").asText()).isEqualTo("uno");
+        assertThat(lines.get(0).get("content").asText()).contains("\n");
+        assertThat(lines.get(0).get("createdAt").asText()).matches("\\d{4}-\\d{2}-\\d{2}T.*");
+        assertThat(lines.subList((int) articleCount, lines.size()))
+                .allSatisfy(line -> {
+                    assertThat(line.get("type").asText()).isEqualTo("comment");
+                    assertThat(line.get("articleId").asLong()).isPositive();
+                });
+    }
+
+}
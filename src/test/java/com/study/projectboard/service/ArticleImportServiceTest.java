@@ -0,0 +1,194 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.domain.constant.ArticleFileFormat;
+import com.study.projectboard.dto.ArticleImportResult;
+import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.event.ArticleEvent;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 게시글 가져오기")
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    private ArticleImportService sut;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private UserAccountCache userAccountCache;
+    @Mock private HashtagService hashtagService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private EntityManager entityManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ArticleImportService(articleRepository, userAccountRepository, userAccountCache, hashtagService,
+                eventPublisher, entityManager, transactionManager, meterRegistry);
+    }
+
+    @DisplayName("NDJSON 을 가져오면, 올바른 행만 한 배치로 저장하고 해시태그 게시글 수를 늘린다.")
+    @Test
+    void givenNdjsonRows_whenImporting_thenSavesValidRowsInBatch() {
+        // given
+        Hashtag java = Hashtag.of("java");
+        givenImporter();
+        given(hashtagService.parseHashtagNames("#java", "content1")).willReturn(Set.of("java"));
+        given(hashtagService.parseHashtagNames("#java", "content2")).willReturn(Set.of("java"));
+        given(hashtagService.findOrCreateHashtags(Set.of("java"))).willReturn(Set.of(java));
+        InputStream body = stream("""
+                {"title": "title1", "content": "content1", "hashtag": "#java"}
+                {"title": "", "content": "제목 없는 글"}
+                {"title": "title2", "content": "content2", "hashtag": "#java", "legacyId": 7}
+                """);
+
+        // when
+        ArticleImportResult result = sut.importArticles(body, ArticleFileFormat.NDJSON, "uno");
+
+        // then
+        assertThat(result.completed()).isTrue();
+        assertThat(result).extracting(ArticleImportResult::imported, ArticleImportResult::skipped, ArticleImportResult::batches)
+                .containsExactly(2L, 1L, 1);
+        ArgumentCaptor<List<Article>> articles = ArgumentCaptor.forClass(List.class);
+        then(articleRepository).should().saveAll(articles.capture());
+        assertThat(articles.getValue())
+                .extracting(Article::getTitle)
+                .containsExactly("title1", "title2");
+        assertThat(articles.getValue()).allSatisfy(article -> assertThat(article.getHashtags()).containsExactly(java));
+        then(hashtagService).should().createHashtags(Set.of("java"));
+        then(hashtagService).should().increaseArticleCounts(Map.of(java, 2L));
+        then(entityManager).should().flush();
+        then(entityManager).should().clear();
+        then(eventPublisher).should(times(2)).publishEvent(any(ArticleEvent.class));
+        assertThat(meterRegistry.get("board.article.import.rows").tag("result", "imported").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("board.article.import.batch").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("CSV 를 가져오면, 따옴표로 감싼 여러 줄 본문도 한 게시글로 읽는다.")
+    @Test
+    void givenCsvRowsWithMultilineContent_whenImporting_thenReadsEachRowAsArticle() {
+        // given
+        givenImporter();
+        InputStream body = stream("""
+                title,content,hashtag
+                title1,"첫 줄
+                둘째 줄, 쉼표 포함",
+                title2,content2,#spring
+                """);
+
+        // when
+        ArticleImportResult result = sut.importArticles(body, ArticleFileFormat.CSV, "uno");
+
+        // then
+        assertThat(result.imported()).isEqualTo(2);
+        ArgumentCaptor<List<Article>> articles = ArgumentCaptor.forClass(List.class);
+        then(articleRepository).should().saveAll(articles.capture());
+        assertThat(articles.getValue())
+                .extracting(Article::getContent)
+                .containsExactly("첫 줄\n둘째 줄, 쉼표 포함", "content2");
+    }
+
+    @DisplayName("배치 크기를 넘으면, 배치마다 따로 저장하고 영속성 컨텍스트를 비운다.")
+    @Test
+    void givenMoreRowsThanBatchSize_whenImporting_thenSavesInSeveralBatches() {
+        // given
+        givenImporter();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < ArticleImportService.BATCH_SIZE + 1; i++) {
+            body.append("{\"title\": \"title").append(i).append("\", \"content\": \"content\"}\n");
+        }
+
+        // when
+        ArticleImportResult result = sut.importArticles(stream(body.toString()), ArticleFileFormat.NDJSON, "uno");
+
+        // then
+        assertThat(result.imported()).isEqualTo(ArticleImportService.BATCH_SIZE + 1);
+        assertThat(result.batches()).isEqualTo(2);
+        then(articleRepository).should(times(2)).saveAll(any());
+        then(entityManager).should(times(2)).clear();
+    }
+
+    @DisplayName("형식이 깨진 행을 만나면, 그 전 배치까지만 저장하고 실패 위치를 알려준다.")
+    @Test
+    void givenMalformedRow_whenImporting_thenStopsAndReportsError() {
+        // given
+        givenImporter();
+        InputStream body = stream("""
+                {"title": "title1", "content": "content1"}
+                {"title": "title2", "content":
+                """);
+
+        // when
+        ArticleImportResult result = sut.importArticles(body, ArticleFileFormat.NDJSON, "uno");
+
+        // then
+        assertThat(result.completed()).isFalse();
+        assertThat(result.imported()).isZero();
+        assertThat(result.error()).startsWith("2번째 행에서 가져오기 실패");
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("배치 저장이 실패하면, 그 배치가 걸친 행 범위를 알려준다.")
+    @Test
+    void givenFailingBatch_whenImporting_thenReportsBatchRowRange() {
+        // given
+        givenImporter();
+        given(articleRepository.saveAll(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+        InputStream body = stream("""
+                {"title": "", "content": "제목 없는 글"}
+                {"title": "title2", "content": "content2"}
+                {"title": "title3", "content": "content3"}
+                """);
+
+        // when
+        ArticleImportResult result = sut.importArticles(body, ArticleFileFormat.NDJSON, "uno");
+
+        // then
+        assertThat(result.completed()).isFalse();
+        assertThat(result.imported()).isZero();
+        assertThat(result.error()).startsWith("2~3번째 행 배치 저장 실패");
+        then(transactionManager).should().rollback(any());
+    }
+
+    private void givenImporter() {
+        UserAccount userAccount = UserAccount.of("uno", "password", "uno@mail.com", "Uno", null);
+        ReflectionTestUtils.setField(userAccount, "id", 1L);
+        given(userAccountCache.get("uno")).willReturn(Optional.of(UserAccountDto.from(userAccount)));
+        lenient().when(userAccountRepository.getReferenceById(1L)).thenReturn(userAccount);
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.dto.ArticleCommentDto;
+import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.repository.JpaRepositoryTest;
+import com.study.projectboard.service.search.ArticleSearchIndex;
+import com.study.projectboard.service.trending.TrendingHashtags;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * l2cache 프로파일에서 서비스로 게시글/댓글을 바꾼 뒤에도 2차 캐시가 DB 와 같은 내용을 돌려주는지 확인한다.
+ * 캐시는 커밋할 때 갱신되므로 테스트 트랜잭션 없이 서비스를 부르고, 조회는 매번 새 트랜잭션(새 영속성 컨텍스트)에서 한다.
+ */
+@DisplayName("비지니스 로직 - 2차 캐시 정합성")
+@ActiveProfiles("l2cache")
+@Import({ArticleService.class, ArticleCommentService.class, HashtagService.class, JpaRepositoryTest.TestJpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DataJpaTest
+class ArticleSecondLevelCacheTest {
+
+    @MockBean private HashtagCatalog hashtagCatalog;
+    @MockBean private ArticleCountCache articleCountCache;
+    @MockBean private ArticleSearchIndex articleSearchIndex;
+    @MockBean private TrendingHashtags trendingHashtags;
+    @MockBean private ArticleDetailCache articleDetailCache;
+    @MockBean private UserAccountCache userAccountCache;
+    @MockBean private ConcurrentPageQuery concurrentPageQuery;
+
+    private final ArticleService articleService;
+    private final ArticleCommentService articleCommentService;
+    private final ArticleRepository articleRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @Autowired
+    ArticleSecondLevelCacheTest(ArticleService articleService, ArticleCommentService articleCommentService, ArticleRepository articleRepository, EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+        this.articleService = articleService;
+        this.articleCommentService = articleCommentService;
+        this.articleRepository = articleRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @DisplayName("게시글을 수정하면, 캐시에서 수정된 게시글을 SQL 없이 읽는다.")
+    @Test
+    void givenCachedArticle_whenUpdatingArticle_thenReadsUpdatedArticleFromCache() {
+        // given
+        Long articleId = 1L;
+        Article cached = findArticle(articleId).orElseThrow();
+        assertThat(entityManagerFactory.getCache().contains(Article.class, articleId)).isTrue();
+
+        // when
+        articleService.updateArticle(articleId, ArticleDto.of(articleId, UserAccountDto.from(cached.getUserAccount()),
+                "캐시 수정 제목", "캐시 수정 본문", "#java", LocalDateTime.now(), "uno", LocalDateTime.now(), "uno"));
+        statistics.clear();
+        Article updated = findArticle(articleId).orElseThrow();
+
+        // then
+        assertThat(updated)
+                .hasFieldOrPropertyWithValue("title", "캐시 수정 제목")
+                .hasFieldOrPropertyWithValue("content", "캐시 수정 본문");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("게시글을 삭제하면, 캐시에서도 지워진다.")
+    @Test
+    void givenCachedArticle_whenDeletingArticle_thenEvictsArticle() {
+        // given
+        Long articleId = 2L;
+        Article cached = findArticle(articleId).orElseThrow();
+        assertThat(entityManagerFactory.getCache().contains(Article.class, articleId)).isTrue();
+
+        // when
+        articleService.deleteArticle(articleId, cached.getUserAccount().getUserId());
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(Article.class, articleId)).isFalse();
+        assertThat(findArticle(articleId)).isEmpty();
+    }
+
+    @DisplayName("댓글을 쓰면, 캐시된 게시글의 댓글 컬렉션이 지워져 새 댓글까지 읽는다.")
+    @Test
+    void givenCachedArticleComments_whenSavingArticleComment_thenReadsNewComment() {
+        // given
+        Long articleId = 3L;
+        int cachedCommentCount = countArticleComments(articleId);
+        assertThat(countArticleComments(articleId)).isEqualTo(cachedCommentCount);
+        assertThat(statistics.getCollectionStatistics(Article.class.getName() + ".articleComments").getCacheHitCount()).isPositive();
+        UserAccountDto userAccountDto = transactionTemplate.execute(status ->
+                UserAccountDto.from(articleRepository.findById(articleId).orElseThrow().getUserAccount()));
+
+        // when
+        articleCommentService.saveArticleComment(ArticleCommentDto.of(articleId, userAccountDto, "캐시 정합성 댓글"));
+
+        // then
+        assertThat(countArticleComments(articleId)).isEqualTo(cachedCommentCount + 1);
+    }
+
+    private Optional<Article> findArticle(Long articleId) {
+        return transactionTemplate.execute(status -> articleRepository.findById(articleId)
+                .map(article -> {
+                    article.getUserAccount().getUserId();
+                    return article;
+                }));
+    }
+
+    private int countArticleComments(Long articleId) {
+        return transactionTemplate.execute(status -> articleRepository.findById(articleId).orElseThrow().getArticleComments().size());
+    }
+
+}
@@ -1,32 +1,55 @@
 package com.study.projectboard.service;
 
 import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.Hashtag;
 import com.study.projectboard.domain.UserAccount;
 import com.study.projectboard.domain.constant.SearchType;
+import com.study.projectboard.dto.ArticleCursor;
 import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.dto.ArticleListDto;
 import com.study.projectboard.dto.ArticleWithCommentsDto;
+import com.study.projectboard.dto.CursorSlice;
 import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.event.ArticleEvent;
 import com.study.projectboard.repository.ArticleRepository;
 import com.study.projectboard.repository.UserAccountRepository;
+import com.study.projectboard.service.search.ArticleSearchIndex;
+import com.study.projectboard.service.search.SearchHits;
+import com.study.projectboard.service.trending.TrendingHashtags;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 @DisplayName("비지니스 로직 - 게시글")
@@ -40,35 +63,270 @@ class ArticleServiceTest {
     private ArticleRepository articleRepository;
     @Mock
     private UserAccountRepository userAccountRepository;
+    @Mock
+    private ArticleCountCache articleCountCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ArticleSearchIndex articleSearchIndex;
+    @Mock
+    private HashtagService hashtagService;
+    @Mock
+    private TrendingHashtags trendingHashtags;
+    @Mock
+    private ArticleCommentService articleCommentService;
+    @Mock
+    private ArticleDetailCache articleDetailCache;
+    @Mock
+    private UserAccountCache userAccountCache;
+    @Spy
+    private ConcurrentPageQuery concurrentPageQuery = new ConcurrentPageQuery(Runnable::run, TransactionOperations.withoutTransaction(), TransactionOperations.withoutTransaction(),
+            new PageQueryProperties(1, 0, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @DisplayName("검색어 없이 게시글을 검색하면, 전체 게시글 페이지를 반환한다.")
     @Test
     void noSearchKeyword() {
 
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+        given(articleRepository.findSliceBy(pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(articleRepository.count()).willReturn(0L);
 
-        Page<ArticleDto> articles = sut.searchArticles(null, null, pageable);
+        Slice<ArticleDto> articles = sut.searchArticles(null, null, pageable);
 
         assertThat(articles).isEmpty();
-        then(articleRepository).should().findAll(pageable);
+        assertThat(articles).isEqualTo(Page.empty(pageable));
+        then(articleRepository).should().findSliceBy(pageable);
+        then(articleRepository).should().count();
     }
 
-    @DisplayName("검색어와 함께 게시글을 검색하면, 게시글 페이지를 반환한다.")
+    @DisplayName("검색어와 함께 게시글을 검색하면, 내용과 전체 개수를 따로 조회해서 게시글 페이지를 반환한다.")
     @Test
     void withSearchKeyword() {
         // given
         SearchType searchType = SearchType.TITLE;
         String searchKeyword = "title";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+        given(articleRepository.findSliceByTitleContaining(searchKeyword, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticle()), pageable, true));
+        given(articleRepository.countByTitleContaining(searchKeyword)).willReturn(41L);
 
         // when
-        Page<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
+        Slice<ArticleDto> articles = sut.searchArticles(searchType, searchKeyword, pageable);
 
         // then
-        assertThat(articles).isEmpty();
-        then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        assertThat(articles).isInstanceOfSatisfying(Page.class, page -> {
+            assertThat(page.getTotalElements()).isEqualTo(41);
+            assertThat(page.getTotalPages()).isEqualTo(3);
+        });
+        assertThat(articles.getContent()).hasSize(1);
+        then(articleRepository).should().findSliceByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).should().countByTitleContaining(searchKeyword);
+    }
+
+    @DisplayName("검색 인덱스가 준비되어 있으면, 본문 검색은 인덱스의 관련도 순서대로 게시글 페이지를 반환한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingContent_thenReturnsArticlesInRelevanceOrder() {
+        // given
+        String searchKeyword = "spring";
+        Pageable pageable = PageRequest.of(1, 2);
+        given(articleSearchIndex.isReady()).willReturn(true);
+        given(articleSearchIndex.searchContent(searchKeyword, 2, 2)).willReturn(new SearchHits(List.of(3L, 1L), 5));
+        given(articleRepository.findAllById(List.of(3L, 1L))).willReturn(List.of(createArticle(1L), createArticle(3L)));
+
+        // when
+        Slice<ArticleDto> articles = sut.searchArticles(SearchType.CONTENT, searchKeyword, pageable);
+
+        // then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(3L, 1L);
+        assertThat(articles).isInstanceOfSatisfying(Page.class, page -> assertThat(page.getTotalElements()).isEqualTo(5));
+        then(articleRepository).should(never()).findSliceByContentContaining(any(), any());
+    }
+
+    @DisplayName("검색 인덱스가 준비되어 있으면, 닉네임 검색은 n-gram 색인 결과로 게시글 페이지를 반환한다.")
+    @Test
+    void givenReadySearchIndex_whenSearchingNickname_thenReturnsArticlesFromNgramIndex() {
+        // given
+        String searchKeyword = "우노";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.isReady()).willReturn(true);
+        given(articleSearchIndex.searchNickname(searchKeyword, 0, 20)).willReturn(new SearchHits(List.of(2L), 1));
+        given(articleRepository.findAllById(List.of(2L))).willReturn(List.of(createArticle(2L)));
+
+        // when
+        Slice<ArticleDto> articles = sut.searchArticles(SearchType.NICKNAME, searchKeyword, pageable);
+
+        // then
+        assertThat(articles.getContent()).extracting(ArticleDto::id).containsExactly(2L);
+        then(articleRepository).should(never()).findSliceByUserAccount_NicknameContaining(any(), any());
+    }
+
+    @DisplayName("검색 인덱스가 준비되어 있어도, 단어가 없는 본문 검색어는 DB 에서 검색한다.")
+    @Test
+    void givenKeywordWithoutTerms_whenSearchingContent_thenFallsBackToRepository() {
+        // given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.isReady()).willReturn(true);
+        given(articleRepository.findSliceByContentContaining("!!!", pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(articleRepository.countByContentContaining("!!!")).willReturn(0L);
+
+        // when
+        sut.searchArticles(SearchType.CONTENT, "!!!", pageable);
+
+        // then
+        then(articleRepository).should().findSliceByContentContaining("!!!", pageable);
+        then(articleSearchIndex).should(never()).searchContent(any(), anyInt(), anyInt());
+    }
+
+    @DisplayName("검색 인덱스가 준비되어 있어도, 최신순이 아닌 정렬로 제목 검색하면 DB 에서 정렬해서 검색한다.")
+    @Test
+    void givenNonDefaultSort_whenSearchingTitle_thenFallsBackToRepository() {
+        // given
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Order.asc("title")));
+        given(articleSearchIndex.isReady()).willReturn(true);
+        given(articleRepository.findSliceByTitleContaining("스프링", pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(articleRepository.countByTitleContaining("스프링")).willReturn(0L);
+
+        // when
+        sut.searchArticles(SearchType.TITLE, "스프링", pageable);
+
+        // then
+        then(articleRepository).should().findSliceByTitleContaining("스프링", pageable);
+        then(articleSearchIndex).should(never()).searchTitle(any(), anyInt(), anyInt());
+    }
+
+    @DisplayName("검색 인덱스가 준비되어 있어도, 한 글자 제목 검색은 DB 에서 검색한다.")
+    @Test
+    void givenSingleCharacterKeyword_whenSearchingTitle_thenFallsBackToRepository() {
+        // given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.isReady()).willReturn(true);
+        given(articleRepository.findSliceByTitleContaining("글", pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(articleRepository.countByTitleContaining("글")).willReturn(0L);
+
+        // when
+        sut.searchArticles(SearchType.TITLE, "글", pageable);
+
+        // then
+        then(articleRepository).should().findSliceByTitleContaining("글", pageable);
+        then(articleSearchIndex).should(never()).searchTitle(any(), anyInt(), anyInt());
+    }
+
+    @DisplayName("개수가 캐시된 검색어로 게시글을 슬라이스로 검색하면, COUNT 쿼리 없이 게시글 슬라이스를 반환한다.")
+    @Test
+    void givenCachedCount_whenSearchingArticleSlice_thenReturnsSliceWithoutCount() {
+        // given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = "uno";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleCountCache.get(searchType, searchKeyword)).willReturn(OptionalLong.of(30L));
+        given(articleRepository.findListSlice(searchType, searchKeyword, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleListDto(1L)), pageable, true));
+
+        // when
+        Slice<ArticleListDto> articles = sut.searchArticleSlice(searchType, searchKeyword, pageable);
+
+        // then
+        assertThat(articles).hasSize(1);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleRepository).should().findListSlice(searchType, searchKeyword, pageable);
+        then(articleCountCache).should(never()).count(any(), any());
+        then(transactionManager).should().getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @DisplayName("개수가 캐시되지 않은 검색어로 게시글을 슬라이스로 검색하면, COUNT 를 함께 실행해서 캐시에 넣고 슬라이스를 반환한다.")
+    @Test
+    void givenUncachedCount_whenSearchingArticleSlice_thenCountsConcurrentlyAndCachesCount() {
+        // given
+        SearchType searchType = SearchType.NICKNAME;
+        String searchKeyword = "uno";
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleCountCache.get(searchType, searchKeyword)).willReturn(OptionalLong.empty());
+        given(articleRepository.findListSlice(searchType, searchKeyword, pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticleListDto(1L)), pageable, true));
+        given(articleCountCache.count(searchType, searchKeyword)).willReturn(30L);
+
+        // when
+        Slice<ArticleListDto> articles = sut.searchArticleSlice(searchType, searchKeyword, pageable);
+
+        // then
+        assertThat(articles).isNotInstanceOf(Page.class).hasSize(1);
+        assertThat(articles.hasNext()).isTrue();
+        then(articleCountCache).should().count(searchType, searchKeyword);
+        then(articleCountCache).should().put(searchType, searchKeyword, 30L);
+    }
+
+    @DisplayName("검색 인덱스로 게시글을 슬라이스로 검색하면, 목록 컬럼만 조회해서 인덱스 순서대로 반환한다.")
+    @Test
+    void givenReadyIndex_whenSearchingArticleSlice_thenLoadsListRowsInIndexOrder() {
+        // given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleSearchIndex.isReady()).willReturn(true);
+        given(articleSearchIndex.searchContent("스프링", 0, 20)).willReturn(new SearchHits(List.of(2L, 1L), 2));
+        given(articleRepository.findListByIdIn(List.of(2L, 1L))).willReturn(List.of(createArticleListDto(1L), createArticleListDto(2L)));
+
+        // when
+        Slice<ArticleListDto> articles = sut.searchArticleSlice(SearchType.CONTENT, "스프링", pageable);
+
+        // then
+        assertThat(articles.getContent()).extracting(ArticleListDto::id).containsExactly(2L, 1L);
+        then(articleRepository).should(never()).findAllById(any());
+        then(transactionManager).should().getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @DisplayName("검색 결과 개수를 조회하면, 캐시된 개수를 반환한다.")
+    @Test
+    void givenSearchParameters_whenGettingCachedArticleCount_thenReturnsCachedCount() {
+        // given
+        given(articleCountCache.get(SearchType.TITLE, "title")).willReturn(OptionalLong.of(3L));
+
+        // when
+        OptionalLong count = sut.getCachedArticleCount(SearchType.TITLE, "title");
+
+        // then
+        assertThat(count).hasValue(3L);
+        then(articleRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("커서 없이 커서 검색을 하면, 첫 페이지와 다음 페이지 커서를 반환한다.")
+    @Test
+    void givenNoCursor_whenSearchingArticlesByCursor_thenReturnsFirstSliceWithNextCursor() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt")));
+        List<ArticleListDto> articles = LongStream.rangeClosed(1, 11).mapToObj(this::createArticleListDto).toList();
+        given(articleRepository.findByKeyset(null, null, Sort.Order.desc("createdAt"), null, 11)).willReturn(articles);
+
+        // when
+        CursorSlice<ArticleListDto> slice = sut.searchArticlesByCursor(null, null, null, pageable);
+
+        // then
+        assertThat(slice.getContent()).hasSize(10);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.decode(slice.getNextCursor()))
+                .hasFieldOrPropertyWithValue("id", 10L)
+                .hasFieldOrPropertyWithValue("backward", false);
+        then(articleRepository).should().findByKeyset(null, null, Sort.Order.desc("createdAt"), null, 11);
+    }
+
+    @DisplayName("이전 페이지 커서로 검색하면, 뒤집어 조회한 결과를 원래 순서로 돌려 반환한다.")
+    @Test
+    void givenBackwardCursor_whenSearchingArticlesByCursor_thenReturnsSliceInDisplayOrder() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        ArticleCursor cursor = ArticleCursor.of("title", Sort.Direction.ASC, "title", 5L, true);
+        List<ArticleListDto> articles = List.of(createArticleListDto(4L), createArticleListDto(3L));
+        given(articleRepository.findByKeyset(SearchType.TITLE, "title", cursor.order(), cursor, 3)).willReturn(articles);
+
+        // when
+        CursorSlice<ArticleListDto> slice = sut.searchArticlesByCursor(SearchType.TITLE, "title", cursor.encode(), pageable);
+
+        // then
+        assertThat(slice.getContent()).extracting(ArticleListDto::id).containsExactly(3L, 4L);
+        assertThat(slice.hasPrevious()).isFalse();
+        assertThat(ArticleCursor.decode(slice.getNextCursor())).hasFieldOrPropertyWithValue("id", 4L);
+        then(articleRepository).should().findByKeyset(SearchType.TITLE, "title", cursor.order(), cursor, 3);
     }
 
     @DisplayName("검색어 없이 게시글을 해시태그로 검색하면, 빈 페이지를 반환한다")
@@ -78,7 +336,7 @@ class ArticleServiceTest {
         Pageable pageable = Pageable.ofSize(20);
 
         // when
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
+        Slice<ArticleDto> articles = sut.searchArticlesViaHashtag(null, pageable);
 
         // then
         assertThat(articles).isEmpty();
@@ -90,30 +348,62 @@ class ArticleServiceTest {
     @Test
     void searchingWithSearchKeywordReturnEmptyArticle() {
         // given
-        String hashtag = "#java";
+        String hashtag = "#Java";
         Pageable pageable = Pageable.ofSize(20);
-        given(articleRepository.findByHashtag(hashtag, pageable)).willReturn(Page.empty(pageable));
+        given(articleRepository.findSliceByHashtags_HashtagName("java", pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(articleRepository.countByHashtags_HashtagName("java")).willReturn(0L);
 
 
         // when
-        Page<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
+        Slice<ArticleDto> articles = sut.searchArticlesViaHashtag(hashtag, pageable);
 
         // then
         assertThat(articles).isEmpty();
         assertThat(articles).isEqualTo(Page.empty(pageable));
-        then(articleRepository).should().findByHashtag(hashtag, pageable);
+        then(articleRepository).should().findSliceByHashtags_HashtagName("java", pageable);
+        then(trendingHashtags).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("결과가 있는 해시태그 검색은, 지금 뜨는 해시태그에 기록한다")
+    @Test
+    void givenHashtagWithArticles_whenSearching_thenRecordsTrendingSearch() {
+        // given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleRepository.findSliceByHashtags_HashtagName("java", pageable))
+                .willReturn(new SliceImpl<>(List.of(createArticle()), pageable, false));
+        given(articleRepository.countByHashtags_HashtagName("java")).willReturn(1L);
+
+        // when
+        sut.searchArticlesViaHashtag("#java", pageable);
+
+        // then
+        then(trendingHashtags).should().recordSearch("java");
+    }
+
+    @DisplayName("지금 뜨는 해시태그를 조회하면, '#' 을 붙인 해시태그 이름을 반환한다")
+    @Test
+    void whenGettingTrendingHashtags_thenReturnsHashtags() {
+        // given
+        given(trendingHashtags.getTopHashtagNames(10)).willReturn(List.of("spring", "java"));
+
+        // when
+        List<String> hashtags = sut.getTrendingHashtags();
+
+        // then
+        assertThat(hashtags).containsExactly("#spring", "#java");
     }
 
     @DisplayName("해시태그를 조회하면, 유시크 해시태그 리스트를 반환")
     @Test
     void getAllHashtags() {
-        List<String> expectedHashtags = List.of("#java", "#spring", "#boot");
-        given(articleRepository.findAllDistinctHashtags()).willReturn(expectedHashtags);
+        List<String> expectedHashtags = List.of("#boot", "#java", "#spring");
+        given(hashtagService.getHashtagNames()).willReturn(List.of("boot", "java", "spring"));
 
         List<String> actualHashtags = sut.getHashtags();
 
         assertThat(actualHashtags).isEqualTo(expectedHashtags);
-        then(articleRepository).should().findAllDistinctHashtags();
+        then(hashtagService).should().getHashtagNames();
+        then(articleRepository).shouldHaveNoInteractions();
 
     }
 
@@ -123,7 +413,10 @@ class ArticleServiceTest {
         // Given
         Long articleId = 1L;
         Article article = createArticle();
-        given(articleRepository.findById(articleId)).willReturn(Optional.of(article));
+        givenArticleDetailCacheMiss(articleId);
+        given(articleRepository.findWithUserAccountById(articleId)).willReturn(Optional.of(article));
+        given(articleCommentService.searchArticleComments(articleId, null, ArticleCommentService.COMMENT_PAGE_SIZE))
+                .willReturn(new CursorSlice<>(List.of(), PageRequest.of(0, ArticleCommentService.COMMENT_PAGE_SIZE), "next-cursor", null));
 
         // When
         ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
@@ -132,8 +425,11 @@ class ArticleServiceTest {
         assertThat(dto)
                 .hasFieldOrPropertyWithValue("title", article.getTitle())
                 .hasFieldOrPropertyWithValue("content", article.getContent())
-                .hasFieldOrPropertyWithValue("hashtag", article.getHashtag());
-        then(articleRepository).should().findById(articleId);
+                .hasFieldOrPropertyWithValue("hashtag", article.getHashtag())
+                .hasFieldOrPropertyWithValue("nextCommentCursor", "next-cursor");
+        then(articleRepository).should().findWithUserAccountById(articleId);
+        then(articleCommentService).should().searchArticleComments(articleId, null, ArticleCommentService.COMMENT_PAGE_SIZE);
+        then(transactionManager).should().getTransaction(argThat(TransactionDefinition::isReadOnly));
     }
 
     @DisplayName("댓글 달린 게시글이 없으면, 예외를 던진다.")
@@ -141,7 +437,8 @@ class ArticleServiceTest {
     void givenNonexistentArticleId_whenSearchingArticleWithComments_thenThrowsException() {
         // Given
         Long articleId = 0L;
-        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        givenArticleDetailCacheMiss(articleId);
+        given(articleRepository.findWithUserAccountById(articleId)).willReturn(Optional.empty());
 
         // When
         Throwable t = catchThrowable(() -> sut.getArticleWithComments(articleId));
@@ -150,7 +447,26 @@ class ArticleServiceTest {
         assertThat(t)
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("게시글이 없습니다 - articleId: " + articleId);
-        then(articleRepository).should().findById(articleId);
+        then(articleRepository).should().findWithUserAccountById(articleId);
+        then(articleCommentService).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("캐시된 게시글 상세를 조회하면, DB 를 조회하지 않는다.")
+    @Test
+    void givenCachedArticle_whenSearchingArticleWithComments_thenReturnsCachedArticle() {
+        // Given
+        Long articleId = 1L;
+        ArticleWithCommentsDto cached = ArticleWithCommentsDto.of(articleId, createUserAccountDto(), Set.of(), "title", "content", "#java", null, null, null, null);
+        given(articleDetailCache.get(eq(articleId), any())).willReturn(cached);
+
+        // When
+        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
+
+        // Then
+        assertThat(dto).isSameAs(cached);
+        then(articleRepository).shouldHaveNoInteractions();
+        then(articleCommentService).shouldHaveNoInteractions();
+        then(transactionManager).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글을 조회하면, 게시글을 반환한다.")
@@ -193,14 +509,23 @@ class ArticleServiceTest {
     @Test
     void saveArticleTest() {
         ArticleDto dto = createArticleDto();
-        given(userAccountRepository.findByUserId(dto.userAccountDto().userId()))
-                .willReturn(Optional.of(createUserAccount()));
+        Set<Hashtag> hashtags = Set.of(createHashtag(1L, "java"));
+        given(userAccountCache.get(dto.userAccountDto().userId())).willReturn(Optional.of(dto.userAccountDto()));
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().id())).willReturn(createUserAccount());
+        given(hashtagService.parseHashtagNames(dto.hashtag(), dto.content())).willReturn(Set.of("java"));
+        given(hashtagService.findOrCreateHashtags(Set.of("java"))).willReturn(hashtags);
         given(articleRepository.save(any(Article.class))).willReturn(createArticle());
 
         sut.saveArticle(dto);
 
-        then(userAccountRepository).should().findByUserId(dto.userAccountDto().userId());
-        then(articleRepository).should().save(any(Article.class));
+        then(hashtagService).should().createHashtags(Set.of("java"));
+        then(userAccountRepository).should().getReferenceById(dto.userAccountDto().id());
+        then(userAccountRepository).shouldHaveNoMoreInteractions();
+        then(articleRepository).should().save(argThat((Article article) -> article.getHashtags().equals(hashtags)));
+        then(hashtagService).should().increaseArticleCount(hashtags);
+        then(trendingHashtags).shouldHaveNoInteractions();
+        then(eventPublisher).should().publishEvent(argThat((ArticleEvent event) ->
+                event.type() == ArticleEvent.Type.CREATED && event.hashtagNames().equals(Set.of("java"))));
     }
 
     @DisplayName("게시글의 수정 정보를 입력하면, 게시글을 수정한다.")
@@ -210,8 +535,6 @@ class ArticleServiceTest {
         Article article = createArticle();
         ArticleDto dto = createArticleDto("title", "content", "#java");
         given(articleRepository.getReferenceById(dto.id())).willReturn(article);
-        given(userAccountRepository.findByUserId(dto.userAccountDto().userId()))
-                .willReturn(Optional.of(dto.userAccountDto().toEntity()));
 
         // When
         sut.updateArticle(dto.id(), dto);
@@ -222,8 +545,34 @@ class ArticleServiceTest {
                 .hasFieldOrPropertyWithValue("content", dto.content())
                 .hasFieldOrPropertyWithValue("hashtag", dto.hashtag());
         then(articleRepository).should().getReferenceById(dto.id());
-        then(userAccountRepository).should().findByUserId(dto.userAccountDto().userId());
+        then(userAccountRepository).shouldHaveNoInteractions();
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
     }
+    @DisplayName("작성자가 게시글 해시태그를 바꾸면, 빠진 해시태그와 새로 붙은 해시태그의 게시글 수만 바꾼다.")
+    @Test
+    void givenChangedHashtags_whenUpdatingArticle_thenUpdatesHashtagCounts() {
+        // Given
+        Hashtag java = createHashtag(1L, "java");
+        Hashtag spring = createHashtag(2L, "spring");
+        Hashtag boot = createHashtag(3L, "boot");
+        Article article = createArticle();
+        article.addHashtags(Set.of(java, spring));
+        ArticleDto dto = createArticleDto("title", "#spring #boot 정리", "#spring");
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(hashtagService.parseHashtagNames(dto.hashtag(), dto.content())).willReturn(Set.of("spring", "boot"));
+        given(hashtagService.findOrCreateHashtags(Set.of("spring", "boot"))).willReturn(Set.of(spring, boot));
+
+        // When
+        sut.updateArticle(dto.id(), dto);
+
+        // Then
+        assertThat(article.getHashtags()).containsExactlyInAnyOrder(spring, boot);
+        then(hashtagService).should().createHashtags(Set.of("spring", "boot"));
+        then(hashtagService).should().increaseArticleCount(Set.of(boot));
+        then(hashtagService).should().decreaseArticleCount(Set.of(java));
+        then(eventPublisher).should().publishEvent(any(ArticleEvent.class));
+    }
+
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무 것도 하지 않는다.")
     @Test
     void givenNonexistentArticleInfo_whenUpdatingArticle_thenLogsWarningAndDoesNothing() {
@@ -236,6 +585,27 @@ class ArticleServiceTest {
 
         // Then
         then(articleRepository).should().getReferenceById(dto.id());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("작성자가 아닌 회원이 게시글을 수정하면, 회원을 조회하지 않고 아무 것도 하지 않는다.")
+    @Test
+    void givenOtherUsersArticle_whenUpdatingArticle_thenDoesNothing() {
+        // Given
+        Article article = createArticle();
+        ArticleDto dto = ArticleDto.of(1L,
+                UserAccountDto.of(2L, "other", "password", null, null, null, null, null, null, null),
+                "새 타이틀", "새 내용", "#springboot",
+                LocalDateTime.now(), "other", LocalDateTime.now(), "other");
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+
+        // When
+        sut.updateArticle(dto.id(), dto);
+
+        // Then
+        assertThat(article).hasFieldOrPropertyWithValue("title", "title");
+        then(userAccountRepository).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글의 ID를 입력하면, 게시글을 삭제한다")
@@ -244,17 +614,45 @@ class ArticleServiceTest {
         // Given
         Long articleId = 1L;
         String userId = "uno";
-        willDoNothing().given(articleRepository).deleteByIdAndUserAccount_UserId(articleId, userId);
+        Set<Hashtag> hashtags = Set.of(createHashtag(1L, "java"));
+        given(hashtagService.getHashtagsOfArticle(articleId)).willReturn(hashtags);
+        given(articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId)).willReturn(1L);
 
         // When
         sut.deleteArticle(1L, userId);
 
         // Then
         then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
+        then(hashtagService).should().decreaseArticleCount(hashtags);
+        then(eventPublisher).should().publishEvent(ArticleEvent.deleted(articleId));
+
+    }
+
+
+    @DisplayName("다른 사람의 게시글 ID를 입력하면, 삭제되지 않고 이벤트도 발행하지 않는다")
+    @Test
+    void givenOthersArticleId_whenDeletingArticle_thenPublishesNothing() {
+        // Given
+        Long articleId = 1L;
+        String userId = "other";
+        given(articleRepository.deleteByIdAndUserAccount_UserId(articleId, userId)).willReturn(0L);
+
+        // When
+        sut.deleteArticle(articleId, userId);
 
+        // Then
+        then(articleRepository).should().deleteByIdAndUserAccount_UserId(articleId, userId);
+        then(hashtagService).should(never()).decreaseArticleCount(any());
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 
 
+    // 캐시에 없는 것처럼, 넘겨받은 loader 로 바로 불러온다
+    private void givenArticleDetailCacheMiss(Long articleId) {
+        given(articleDetailCache.get(eq(articleId), any()))
+                .willAnswer(invocation -> invocation.<Function<Long, ArticleWithCommentsDto>>getArgument(1).apply(articleId));
+    }
+
     private UserAccount createUserAccount() {
         return UserAccount.of(
                 "uno",
@@ -265,6 +663,12 @@ class ArticleServiceTest {
         );
     }
 
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+
     private ArticleDto createArticleDto() {
         return createArticleDto("title", "content", "#java");
     }
@@ -282,6 +686,10 @@ class ArticleServiceTest {
     }
 
     private Article createArticle() {
+        return createArticle(1L);
+    }
+
+    private Article createArticle(Long id) {
         Article article = Article.of(
                 createUserAccount(),
                 "title",
@@ -289,9 +697,14 @@ class ArticleServiceTest {
                 "#java"
         );
 
-        ReflectionTestUtils.setField(article, "id", 1L);
+        ReflectionTestUtils.setField(article, "id", id);
+        ReflectionTestUtils.setField(article, "createdAt", LocalDateTime.now());
         return article;
     }
+    private ArticleListDto createArticleListDto(Long id) {
+        return ArticleListDto.of(id, "title", "#java", LocalDateTime.now(), "uno", "Uno");
+    }
+
     private UserAccountDto createUserAccountDto() {
         return UserAccountDto.of(
                 1L,
@@ -0,0 +1,158 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.metrics.JdbcUsage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("비지니스 로직 - 목록 내용/COUNT 동시 조회")
+class ConcurrentPageQueryTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final PageQueryProperties properties = new PageQueryProperties(2, 0, Duration.ofSeconds(5), Duration.ofMillis(100));
+    private final ConcurrentPageQuery sut = new ConcurrentPageQuery(executor, TransactionOperations.withoutTransaction(), TransactionOperations.withoutTransaction(), properties);
+    private final Pageable pageable = PageRequest.of(0, 2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("COUNT 가 시간 안에 끝나면, 전체 개수가 있는 페이지를 반환한다.")
+    @Test
+    void givenFastCount_whenExecuting_thenReturnsPageWithTotal() {
+        // given
+        CountDownLatch bothRunning = new CountDownLatch(2);
+
+        // when
+        Slice<String> result = sut.execute(pageable,
+                () -> {
+                    awaitOther(bothRunning);
+                    return new SliceImpl<>(List.of("a", "b"), pageable, true);
+                },
+                () -> {
+                    awaitOther(bothRunning);
+                    return 5L;
+                });
+
+        // then
+        assertThat(result).isInstanceOfSatisfying(Page.class, page -> {
+            assertThat(page.getTotalElements()).isEqualTo(5);
+            assertThat(page.getTotalPages()).isEqualTo(3);
+        });
+        assertThat(result.getContent()).containsExactly("a", "b");
+    }
+
+    @DisplayName("COUNT 가 시간 안에 끝나지 않으면, 전체 개수 없이 다음 페이지 여부만 있는 Slice 를 반환한다.")
+    @Test
+    void givenSlowCount_whenExecuting_thenReturnsSlice() {
+        // given
+        CountDownLatch never = new CountDownLatch(1);
+
+        // when
+        Slice<String> result = sut.execute(pageable,
+                () -> new SliceImpl<>(List.of("a", "b"), pageable, true),
+                () -> {
+                    try {
+                        never.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 5L;
+                });
+
+        // then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.getContent()).containsExactly("a", "b");
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @DisplayName("내용 쿼리가 실패하면, 예외를 그대로 던진다.")
+    @Test
+    void givenFailingContent_whenExecuting_thenThrows() {
+        // given
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        // when & then
+        assertThatThrownBy(() -> sut.execute(pageable, () -> {
+            throw failure;
+        }, () -> 5L)).isSameAs(failure);
+    }
+
+    @DisplayName("풀이 가득 차서 내용 쿼리를 맡기지 못하면, 요청 스레드에서 내용만 조회하고 COUNT 는 실행하지 않는다.")
+    @Test
+    void givenRejectingPool_whenExecuting_thenRunsContentInlineAndSkipsCount() {
+        // given
+        ConcurrentPageQuery sut = new ConcurrentPageQuery(runnable -> {
+            throw new RejectedExecutionException();
+        }, TransactionOperations.withoutTransaction(), TransactionOperations.withoutTransaction(), properties);
+        AtomicBoolean counted = new AtomicBoolean();
+
+        // when
+        Slice<String> result = sut.execute(pageable,
+                () -> new SliceImpl<>(List.of("a", "b"), pageable, true),
+                () -> {
+                    counted.set(true);
+                    return 5L;
+                });
+
+        // then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.getContent()).containsExactly("a", "b");
+        assertThat(counted).isFalse();
+    }
+
+    @DisplayName("요청 스레드에 JDBC 사용량 구간이 켜져 있으면, 풀에서 실행한 쿼리도 같은 구간에 센다.")
+    @Test
+    void givenJdbcUsage_whenExecuting_thenCountsPoolQueriesInRequestUsage() {
+        // given
+        JdbcUsage usage = JdbcUsage.start();
+
+        // when
+        try {
+            sut.execute(pageable,
+                    () -> {
+                        JdbcUsage.current().orElseThrow().addStatement("select * from article");
+                        return new SliceImpl<>(List.of("a"), pageable, false);
+                    },
+                    () -> {
+                        JdbcUsage.current().orElseThrow().addStatement("select count(*) from article");
+                        return 1L;
+                    });
+        } finally {
+            JdbcUsage.stop();
+        }
+
+        // then
+        assertThat(usage.statements()).isEqualTo(2);
+    }
+
+    // 두 쿼리가 정말 동시에 도는지 확인한다. 차례로 돈다면 여기서 기다리다 실패한다.
+    private static void awaitOther(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.event.HashtagCountEvent;
+import com.study.projectboard.repository.HashtagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 해시태그 카탈로그")
+@ExtendWith(MockitoExtension.class)
+class HashtagCatalogTest {
+
+    private HashtagCatalog sut;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new HashtagCatalog(hashtagRepository, meterRegistry);
+    }
+
+    @DisplayName("로딩 전에는 비어 있고(miss), 로딩 후에는 정렬된 해시태그 이름을 반환한다(hit).")
+    @Test
+    void givenRebuiltCatalog_whenGettingHashtagNames_thenReturnsSortedNames() {
+        // given
+        given(hashtagRepository.findByArticleCountGreaterThan(0L))
+                .willReturn(List.of(createHashtag("spring", 2), createHashtag("java", 1)));
+
+        // when
+        boolean loadedBeforeRebuild = sut.getHashtagNames().isPresent();
+        sut.rebuild();
+
+        // then
+        assertThat(loadedBeforeRebuild).isFalse();
+        assertThat(sut.getHashtagNames()).hasValue(List.of("java", "spring"));
+        assertThat(meterRegistry.get("board.hashtag.catalog.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.hashtag.catalog.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.hashtag.catalog.rebuild").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.hashtag.catalog.size").gauge().value()).isEqualTo(2);
+    }
+
+    @DisplayName("게시글 수 변경 이벤트를 받으면, 게시글이 없어진 해시태그는 빼고 새 해시태그는 넣는다.")
+    @Test
+    void givenHashtagCountEvents_whenApplied_thenUpdatesCatalogWithoutQuery() {
+        // given
+        given(hashtagRepository.findByArticleCountGreaterThan(0L))
+                .willReturn(List.of(createHashtag("spring", 2), createHashtag("java", 1)));
+        sut.rebuild();
+
+        // when
+        sut.onHashtagCountEvent(new HashtagCountEvent(List.of("java", "spring"), -1));
+        sut.onHashtagCountEvent(new HashtagCountEvent(List.of("boot"), 1));
+
+        // then
+        assertThat(sut.getHashtagNames()).hasValue(List.of("boot", "spring"));
+        then(hashtagRepository).should(times(1)).findByArticleCountGreaterThan(0L);
+    }
+
+    @DisplayName("다시 만드는 동안 들어온 이벤트는, DB 에서 읽은 값에 다시 반영한다.")
+    @Test
+    void givenEventDuringRebuild_whenRebuilding_thenReplaysEventOnLoadedCounts() {
+        // given
+        given(hashtagRepository.findByArticleCountGreaterThan(0L)).willAnswer(invocation -> {
+            // DB 를 읽는 중에 다른 트랜잭션이 커밋한 변경
+            sut.onHashtagCountEvent(new HashtagCountEvent(List.of("kotlin"), 1));
+            sut.onHashtagCountEvent(new HashtagCountEvent(List.of("java"), -1));
+            return List.of(createHashtag("spring", 2), createHashtag("java", 1));
+        });
+
+        // when
+        sut.rebuild();
+
+        // then
+        assertThat(sut.getHashtagNames()).hasValue(List.of("kotlin", "spring"));
+    }
+
+    @DisplayName("로딩에 실패하면, 비어 있는 상태로 남고 실패 수를 기록한다.")
+    @Test
+    void givenFailingRepository_whenRebuilding_thenStaysUnloaded() {
+        // given
+        given(hashtagRepository.findByArticleCountGreaterThan(0L)).willThrow(new IllegalStateException("db down"));
+
+        // when
+        sut.rebuild();
+
+        // then
+        assertThat(sut.isLoaded()).isFalse();
+        assertThat(meterRegistry.get("board.hashtag.catalog.rebuild.failures").counter().count()).isEqualTo(1);
+    }
+
+    private Hashtag createHashtag(String hashtagName, long articleCount) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "articleCount", articleCount);
+        return hashtag;
+    }
+
+}
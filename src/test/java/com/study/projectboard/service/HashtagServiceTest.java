@@ -0,0 +1,167 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.domain.Hashtag;
+import com.study.projectboard.event.HashtagCountEvent;
+import com.study.projectboard.repository.HashtagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 해시태그")
+@ExtendWith(MockitoExtension.class)
+class HashtagServiceTest {
+
+    @InjectMocks
+    private HashtagService sut;
+
+    @Mock
+    private HashtagRepository hashtagRepository;
+    @Mock
+    private HashtagCatalog hashtagCatalog;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("해시태그 입력값과 본문을 파싱하면, 중복 없이 정규화된 해시태그 이름을 반환한다.")
+    @Test
+    void givenHashtagAndContent_whenParsing_thenReturnsNormalizedNames() {
+        // given
+        String hashtag = "#Java";
+        String content = "오늘은 #java 와 #스프링부트 를 공부했다. #spring_boot, 단어 중간의 a#b 는 해시태그가 아니다";
+
+        // when
+        Set<String> names = sut.parseHashtagNames(hashtag, content, null);
+
+        // then
+        assertThat(names).containsExactly("java", "스프링부트", "spring_boot");
+    }
+
+    @DisplayName("해시태그 이름을 주면, 없는 해시태그만 짧은 트랜잭션으로 저장하고 커밋한다.")
+    @Test
+    void givenHashtagNames_whenCreating_thenSavesOnlyNewHashtags() {
+        // given
+        given(hashtagRepository.findByHashtagNameIn(Set.of("java", "spring"))).willReturn(List.of(createHashtag(1L, "java")));
+
+        // when
+        sut.createHashtags(Set.of("java", "spring"));
+
+        // then
+        then(hashtagRepository).should().saveAll(argThat((List<Hashtag> saved) ->
+                saved.size() == 1 && saved.get(0).getHashtagName().equals("spring")));
+        then(transactionManager).should().commit(any());
+    }
+
+    @DisplayName("다른 요청이 같은 해시태그를 먼저 만들어 유니크 제약에 걸리면, 하나씩 다시 만들고 이미 있는 해시태그는 건너뛴다.")
+    @Test
+    void givenConcurrentlyCreatedHashtag_whenCreating_thenSkipsExistingHashtag() {
+        // given
+        Set<String> names = new LinkedHashSet<>(List.of("spring", "kotlin"));
+        given(hashtagRepository.findByHashtagNameIn(names)).willReturn(List.of());
+        willThrow(new DataIntegrityViolationException("duplicate")).given(hashtagRepository).saveAll(any());
+        willThrow(new DataIntegrityViolationException("duplicate"))
+                .given(hashtagRepository).save(argThat((Hashtag hashtag) -> hashtag != null && hashtag.getHashtagName().equals("spring")));
+        willReturn(createHashtag(3L, "kotlin"))
+                .given(hashtagRepository).save(argThat((Hashtag hashtag) -> hashtag != null && hashtag.getHashtagName().equals("kotlin")));
+
+        // when
+        sut.createHashtags(names);
+
+        // then
+        then(hashtagRepository).should(times(2)).save(any());
+        then(transactionManager).should(times(2)).rollback(any());
+    }
+
+    @DisplayName("미리 만들어 둔 해시태그는, 저장하지 않고 찾기만 한다.")
+    @Test
+    void givenCreatedHashtags_whenFindingOrCreating_thenOnlyReads() {
+        // given
+        Hashtag java = createHashtag(1L, "java");
+        Hashtag spring = createHashtag(2L, "spring");
+        given(hashtagRepository.findByHashtagNameIn(Set.of("java", "spring"))).willReturn(List.of(java, spring));
+
+        // when
+        Set<Hashtag> hashtags = sut.findOrCreateHashtags(Set.of("java", "spring"));
+
+        // then
+        assertThat(hashtags).containsExactlyInAnyOrder(java, spring);
+        then(hashtagRepository).should(never()).saveAll(any());
+        then(transactionManager).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 이름이 없으면, DB 를 조회하지 않는다.")
+    @Test
+    void givenNoHashtagNames_whenFindingOrCreating_thenDoesNothing() {
+        // when
+        sut.createHashtags(Set.of());
+        Set<Hashtag> hashtags = sut.findOrCreateHashtags(Set.of());
+
+        // then
+        assertThat(hashtags).isEmpty();
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("게시글 수를 늘리면, 해시태그 id 로 DB 에서 바로 더한다.")
+    @Test
+    void givenHashtags_whenIncreasingArticleCount_thenUpdatesByIds() {
+        // when
+        sut.increaseArticleCount(Set.of(createHashtag(1L, "java")));
+
+        // then
+        then(hashtagRepository).should().updateArticleCount(List.of(1L), 1);
+        then(hashtagRepository).should(never()).save(any());
+        then(eventPublisher).should().publishEvent(new HashtagCountEvent(List.of("java"), 1));
+    }
+
+    @DisplayName("해시태그 카탈로그가 로딩되어 있으면, DB 를 조회하지 않고 해시태그 이름을 반환한다.")
+    @Test
+    void givenLoadedCatalog_whenGettingHashtagNames_thenReturnsCatalogWithoutQuery() {
+        // given
+        given(hashtagCatalog.getHashtagNames()).willReturn(Optional.of(List.of("java", "spring")));
+
+        // when
+        List<String> names = sut.getHashtagNames();
+
+        // then
+        assertThat(names).containsExactly("java", "spring");
+        then(hashtagRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("해시태그 카탈로그가 로딩되지 않았으면, DB 에서 해시태그 이름을 조회한다.")
+    @Test
+    void givenNotLoadedCatalog_whenGettingHashtagNames_thenQueriesRepository() {
+        // given
+        given(hashtagCatalog.getHashtagNames()).willReturn(Optional.empty());
+        given(hashtagRepository.findAllHashtagNames()).willReturn(List.of("java"));
+
+        // when
+        List<String> names = sut.getHashtagNames();
+
+        // then
+        assertThat(names).containsExactly("java");
+        then(hashtagRepository).should().findAllHashtagNames();
+    }
+
+    private Hashtag createHashtag(Long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
+
+}
@@ -47,7 +47,9 @@ class PaginationServiceTest {
                 arguments(6, 13, List.of(4, 5, 6, 7, 8)),
                 arguments(10, 13, List.of(8, 9, 10, 11, 12)),
                 arguments(11, 13, List.of(9, 10, 11, 12)),
-                arguments(12, 13, List.of(10, 11, 12))
+                arguments(12, 13, List.of(10, 11, 12)),
+                arguments(99, 500, List.of(97, 98, 99)),
+                arguments(150, 500, List.of())
         );
     }
 
@@ -59,4 +61,13 @@ class PaginationServiceTest {
 
         assertThat(barLength).isEqualTo(5);
     }
+
+    @DisplayName("OFFSET 페이지네이션으로 보여줄 수 있는 최대 페이지 수를 알려준다")
+    @Test
+    void getOffsetPageLimit() {
+
+        int offsetPageLimit = sut.offsetPageLimit();
+
+        assertThat(offsetPageLimit).isEqualTo(100);
+    }
 }
\ No newline at end of file
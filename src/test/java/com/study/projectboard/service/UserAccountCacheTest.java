@@ -0,0 +1,89 @@
+package com.study.projectboard.service;
+
+import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.dto.UserAccountDto;
+import com.study.projectboard.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비지니스 로직 - 회원 캐시")
+@ExtendWith(MockitoExtension.class)
+class UserAccountCacheTest {
+
+    private UserAccountCache sut;
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new UserAccountCache(userAccountRepository, meterRegistry);
+    }
+
+    @DisplayName("같은 회원을 다시 조회하면, DB 를 조회하지 않고 캐시된 회원을 반환한다.")
+    @Test
+    void givenCachedUserAccount_whenGettingAgain_thenReturnsCachedWithoutQuery() {
+        // given
+        given(userAccountRepository.findByUserId("uno")).willReturn(Optional.of(createUserAccount()));
+
+        // when
+        Optional<UserAccountDto> first = sut.get("uno");
+        Optional<UserAccountDto> second = sut.get("uno");
+
+        // then
+        assertThat(first).map(UserAccountDto::nickname).hasValue("Uno");
+        assertThat(second.orElseThrow()).isSameAs(first.orElseThrow());
+        then(userAccountRepository).should(times(1)).findByUserId("uno");
+        assertThat(meterRegistry.get("board.user.account.queries.saved").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserAccountCache.CACHE_NAME).tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("회원을 캐시에서 지우면, 해당 회원을 다시 불러온다.")
+    @Test
+    void givenEvictedUserAccount_whenGettingAgain_thenReloadsUserAccount() {
+        // given
+        given(userAccountRepository.findByUserId("uno")).willReturn(Optional.of(createUserAccount()));
+        sut.get("uno");
+
+        // when
+        sut.evict("uno");
+        sut.get("uno");
+
+        // then
+        then(userAccountRepository).should(times(2)).findByUserId("uno");
+    }
+
+    @DisplayName("없는 회원은 캐시하지 않는다.")
+    @Test
+    void givenNonexistentUserAccount_whenGetting_thenReturnsEmptyAndDoesNotCache() {
+        // given
+        given(userAccountRepository.findByUserId("nobody")).willReturn(Optional.empty());
+
+        // when
+        Optional<UserAccountDto> first = sut.get("nobody");
+        Optional<UserAccountDto> second = sut.get("nobody");
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(sut.estimatedSize()).isZero();
+        then(userAccountRepository).should(times(2)).findByUserId("nobody");
+    }
+
+    private UserAccount createUserAccount() {
+        return UserAccount.of("uno", "password", "uno@email.com", "Uno", null);
+    }
+
+}
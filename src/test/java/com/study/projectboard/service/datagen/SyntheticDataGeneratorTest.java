@@ -0,0 +1,111 @@
+package com.study.projectboard.service.datagen;
+
+import com.study.projectboard.domain.Article;
+import com.study.projectboard.domain.UserAccount;
+import com.study.projectboard.repository.ArticleRepository;
+import com.study.projectboard.repository.JpaRepositoryTest;
+import com.study.projectboard.repository.UserAccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("테스트 데이터 생성")
+@Import(JpaRepositoryTest.TestJpaConfig.class)
+@DataJpaTest
+class SyntheticDataGeneratorTest {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final EntityManager entityManager;
+
+    @Autowired
+    SyntheticDataGeneratorTest(JdbcTemplate jdbcTemplate, ArticleRepository articleRepository, UserAccountRepository userAccountRepository, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.entityManager = entityManager;
+    }
+
+    @DisplayName("데이터를 생성하면, 설정한 수만큼 회원, 게시글, 댓글을 넣고 해시태그 게시글 수를 맞춘다.")
+    @Test
+    void givenVolumes_whenGenerating_thenInsertsRowsAndKeepsHashtagCountsConsistent() {
+        // given
+        long users = count("user_account");
+        long articles = count("article");
+        long comments = count("article_comment");
+        long articleHashtags = count("article_hashtag");
+        long hashtagArticleCount = sumOfHashtagArticleCounts();
+        Long maxCommentId = jdbcTemplate.queryForObject("select max(id) from article_comment", Long.class);
+
+        // when
+        generator(20, 500, 2_000).generate();
+
+        // then
+        assertThat(count("user_account")).isEqualTo(users + 20);
+        assertThat(count("article")).isEqualTo(articles + 500);
+        assertThat(count("article_comment")).isEqualTo(comments + 2_000);
+        assertThat(count("article_hashtag")).isGreaterThan(articleHashtags);
+        assertThat(sumOfHashtagArticleCounts() - hashtagArticleCount).isEqualTo(count("article_hashtag") - articleHashtags);
+        assertThat(jdbcTemplate.queryForObject("""
+                select count(*) from article_comment c join article a on a.id = c.article_id
+                where c.id > ? and c.created_at < a.created_at
+                """, Long.class, maxCommentId)).isZero();
+    }
+
+    @DisplayName("데이터를 생성하면, 댓글이 일부 게시글에 몰린다.")
+    @Test
+    void givenZipfExponent_whenGenerating_thenCommentsAreSkewedTowardsFewArticles() {
+        // given
+        long firstArticleId = count("article") + 1;
+
+        // when
+        generator(20, 500, 5_000).generate();
+
+        // then
+        List<Long> commentCounts = jdbcTemplate.queryForList("""
+                select count(*) from article_comment where article_id >= ?
+                group by article_id order by count(*) desc
+                """, Long.class, firstArticleId);
+        assertThat(commentCounts.get(0)).isGreaterThan(commentCounts.get(commentCounts.size() / 2) * 20);
+    }
+
+    @DisplayName("데이터를 생성한 뒤 엔티티를 저장하면, 생성한 행과 id 가 겹치지 않는다.")
+    @Test
+    void givenGeneratedData_whenSavingEntities_thenUsesIdsAfterGeneratedRows() {
+        // given
+        generator(20, 500, 0).generate();
+        Long maxArticleId = jdbcTemplate.queryForObject("select max(id) from article", Long.class);
+        Long maxUserAccountId = jdbcTemplate.queryForObject("select max(id) from user_account", Long.class);
+
+        // when
+        UserAccount userAccount = userAccountRepository.save(UserAccount.of("heechan", "password", null, null, null));
+        Article article = articleRepository.save(Article.of(userAccount, "new article", "new content", "#spring"));
+        entityManager.flush();
+
+        // then
+        assertThat(userAccount.getId()).isGreaterThan(maxUserAccountId);
+        assertThat(article.getId()).isGreaterThan(maxArticleId);
+    }
+
+    private SyntheticDataGenerator generator(int users, int articles, long comments) {
+        return new SyntheticDataGenerator(jdbcTemplate, new DataGeneratorProperties(users, articles, comments, 1.1, 7, 100));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private long sumOfHashtagArticleCounts() {
+        return jdbcTemplate.queryForObject("select coalesce(sum(article_count), 0) from hashtag", Long.class);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.study.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 게시글 작성자 색인")
+class AuthorIndexTest {
+
+    private final AuthorIndex sut = new AuthorIndex();
+
+    @DisplayName("작성자를 찾으면, 그 작성자들의 게시글이 최신 id 순으로 페이지 단위로 나온다.")
+    @Test
+    void givenArticlesOfSeveralAuthors_whenSearchingNickname_thenExpandsToArticlesNewestFirst() {
+        // given
+        sut.put(1L, 10L, "uno", "유노");
+        sut.put(2L, 20L, "dos", "유노의친구");
+        sut.put(3L, 10L, "uno", "유노");
+        sut.put(4L, 30L, "tres", "트레스");
+
+        // when
+        SearchHits firstPage = sut.searchNickname("유노", 0, 2);
+        SearchHits secondPage = sut.searchNickname("유노", 2, 2);
+
+        // then
+        assertThat(firstPage.articleIds()).containsExactly(3L, 2L);
+        assertThat(firstPage.totalHits()).isEqualTo(3);
+        assertThat(secondPage.articleIds()).containsExactly(1L);
+    }
+
+    @DisplayName("닉네임이 바뀌면, 그 작성자의 모든 게시글이 새 닉네임으로 검색된다.")
+    @Test
+    void givenChangedNickname_whenSearching_thenFindsAllArticlesOfAuthorByNewNickname() {
+        // given
+        sut.put(1L, 10L, "uno", "유노");
+        sut.put(2L, 10L, "uno", "유노");
+        sut.put(2L, 10L, "uno", "새닉네임");
+
+        // when & then
+        assertThat(sut.searchNickname("유노", 0, 10).totalHits()).isZero();
+        assertThat(sut.searchNickname("닉네임", 0, 10).articleIds()).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("작성자의 마지막 게시글이 지워지면, 그 작성자는 더 이상 검색되지 않는다.")
+    @Test
+    void givenLastArticleOfAuthorRemoved_whenSearchingUserId_thenAuthorIsGone() {
+        // given
+        sut.put(1L, 10L, "uno", "유노");
+        sut.put(2L, 10L, "uno", "유노");
+        sut.remove(2L);
+
+        // when & then
+        assertThat(sut.searchUserId("uno", 0, 10).articleIds()).containsExactly(1L);
+
+        sut.remove(1L);
+        assertThat(sut.searchUserId("uno", 0, 10).totalHits()).isZero();
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.study.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 게시글 역색인")
+class InvertedIndexTest {
+
+    private final InvertedIndex sut = new InvertedIndex();
+
+    @DisplayName("여러 검색어로 검색하면, 모든 검색어를 포함한 게시글만 관련도 순으로 반환한다.")
+    @Test
+    void givenTerms_whenSearching_thenReturnsArticlesContainingAllTermsByRelevance() {
+        // given
+        sut.put(1L, Tokenizer.tokenize("spring boot 게시판"));
+        sut.put(2L, Tokenizer.tokenize("Spring boot, spring data JPA 와 spring security 를 사용한 게시판"));
+        sut.put(3L, Tokenizer.tokenize("spring 만 있는 글"));
+        sut.put(4L, Tokenizer.tokenize("관계 없는 글"));
+
+        // when
+        SearchHits hits = sut.search(Tokenizer.tokenize("Spring 게시판"), 0, 10);
+
+        // then
+        assertThat(hits.totalHits()).isEqualTo(2);
+        assertThat(hits.articleIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @DisplayName("같은 단어가 더 자주 나오는 짧은 글이, BM25 점수가 더 높다.")
+    @Test
+    void givenTermFrequencies_whenSearching_thenRanksByBm25() {
+        // given
+        sut.put(1L, Tokenizer.tokenize("java 와 관련된 아주 길고 긴 글 입니다 여러 단어가 많이 들어 있습니다"));
+        sut.put(2L, Tokenizer.tokenize("java java 정리"));
+        sut.put(3L, Tokenizer.tokenize("kotlin 정리"));
+
+        // when
+        SearchHits hits = sut.search(Tokenizer.tokenize("java"), 0, 10);
+
+        // then
+        assertThat(hits.articleIds()).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("게시글을 수정하거나 삭제하면, 검색 결과에 바로 반영된다.")
+    @Test
+    void givenUpdatedAndRemovedArticles_whenSearching_thenReflectsChanges() {
+        // given
+        sut.put(1L, Tokenizer.tokenize("old title"));
+        sut.put(2L, Tokenizer.tokenize("old title"));
+
+        // when
+        sut.put(1L, Tokenizer.tokenize("new title"));
+        sut.remove(2L);
+
+        // then
+        assertThat(sut.search(Tokenizer.tokenize("old"), 0, 10).articleIds()).isEmpty();
+        assertThat(sut.search(Tokenizer.tokenize("new title"), 0, 10).articleIds()).containsExactly(1L);
+        assertThat(sut.liveCount()).isEqualTo(1);
+    }
+
+    @DisplayName("삭제가 많이 쌓여 압축된 뒤에도, 남은 게시글은 그대로 검색되고 페이지로 나눠 조회할 수 있다.")
+    @Test
+    void givenManyRemovals_whenCompacted_thenRemainingArticlesAreSearchable() {
+        // given
+        for (long id = 1; id <= 3_000; id++) {
+            sut.put(id, Tokenizer.tokenize("common " + (id % 2 == 0 ? "even" : "odd")));
+        }
+
+        // when
+        for (long id = 1; id <= 2_990; id++) {
+            sut.remove(id);
+        }
+        SearchHits hits = sut.search(Tokenizer.tokenize("common"), 2, 3);
+
+        // then
+        assertThat(hits.totalHits()).isEqualTo(10);
+        assertThat(hits.articleIds()).containsExactly(2_998L, 2_997L, 2_996L);
+        assertThat(sut.search(Tokenizer.tokenize("even"), 0, 10).totalHits()).isEqualTo(5);
+    }
+
+}
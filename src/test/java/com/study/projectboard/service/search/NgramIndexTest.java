@@ -0,0 +1,81 @@
+package com.study.projectboard.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 게시글 n-gram 색인")
+class NgramIndexTest {
+
+    private final NgramIndex sut = new NgramIndex();
+
+    @DisplayName("띄어쓰기 없이 붙은 한글 제목도, 중간 부분 문자열로 검색된다.")
+    @Test
+    void givenHangulTitles_whenSearchingInfix_thenReturnsMatchesNewestFirst() {
+        // given
+        sut.put(1L, "스프링부트게시판 만들기");
+        sut.put(2L, "게시판에서 질문하기");
+        sut.put(3L, "게시글 목록");
+
+        // when
+        SearchHits bigram = sut.search("게시판", 0, 10);
+        SearchHits longer = sut.search("부트게시판", 0, 10);
+
+        // then
+        assertThat(bigram.articleIds()).containsExactly(2L, 1L);
+        assertThat(longer.articleIds()).containsExactly(1L);
+    }
+
+    @DisplayName("라틴 문자는 대소문자를 구분하지 않고, 조합형 한글도 완성형과 같게 검색된다.")
+    @Test
+    void givenMixedCaseAndDecomposedHangul_whenSearching_thenNormalizes() {
+        // given
+        sut.put(1L, "Spring Boot 정리");
+        sut.put(2L, Normalizer.normalize("한글 닉네임", Normalizer.Form.NFD));
+
+        // when & then
+        assertThat(sut.search("BOOT", 0, 10).articleIds()).containsExactly(1L);
+        assertThat(sut.search("닉네임", 0, 10).articleIds()).containsExactly(2L);
+    }
+
+    @DisplayName("trigram 이 모두 있어도 이어져 있지 않으면, 검색되지 않는다.")
+    @Test
+    void givenScatteredTrigrams_whenSearching_thenVerifiesSubstring() {
+        // given
+        sut.put(1L, "abcd xbcde");
+
+        // when & then
+        assertThat(sut.search("abcde", 0, 10).totalHits()).isZero();
+        assertThat(sut.search("bcde", 0, 10).articleIds()).containsExactly(1L);
+    }
+
+    @DisplayName("한 글자 검색어는 색인으로 검색할 수 없다.")
+    @Test
+    void givenSingleCharacterKeyword_whenCheckingSearchable_thenReturnsFalse() {
+        // when & then
+        assertThat(NgramIndex.isSearchable("글")).isFalse();
+        assertThat(NgramIndex.isSearchable("글쓰")).isTrue();
+    }
+
+    @DisplayName("게시글을 수정하거나 삭제하면, 검색 결과에 바로 반영되고 페이지로 나눠 조회할 수 있다.")
+    @Test
+    void givenUpdatedAndRemovedArticles_whenSearching_thenReflectsChanges() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            sut.put(id, "공지사항 " + id);
+        }
+
+        // when
+        sut.put(5L, "이벤트 안내");
+        sut.remove(4L);
+        SearchHits hits = sut.search("공지", 1, 2);
+
+        // then
+        assertThat(hits.totalHits()).isEqualTo(3);
+        assertThat(hits.articleIds()).containsExactly(2L, 1L);
+    }
+
+}
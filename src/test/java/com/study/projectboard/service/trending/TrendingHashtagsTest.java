@@ -0,0 +1,96 @@
+package com.study.projectboard.service.trending;
+
+import com.study.projectboard.dto.ArticleDto;
+import com.study.projectboard.event.ArticleEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비지니스 로직 - 지금 뜨는 해시태그")
+class TrendingHashtagsTest {
+
+    private final AtomicLong now = new AtomicLong(TrendingHashtags.BUCKET_MILLIS * 1_000);
+    private final TrendingHashtags sut = new TrendingHashtags(now::get);
+
+    @DisplayName("많이 기록된 해시태그 순으로, 요청한 개수만큼 반환한다.")
+    @Test
+    void givenRecords_whenGettingTop_thenReturnsMostFrequentFirst() {
+        // given
+        record("java", 5);
+        record("spring", 9);
+        sut.recordArticle(List.of("boot", "java"));
+
+        // when
+        List<String> top = sut.getTopHashtagNames(2);
+
+        // then
+        assertThat(top).containsExactly("spring", "java");
+    }
+
+    @DisplayName("오래된 기록일수록 가중치가 낮아, 최근에 늘어난 해시태그가 앞선다.")
+    @Test
+    void givenOlderRecords_whenTimePasses_thenRecentHashtagRanksHigher() {
+        // given
+        record("java", 10);
+        now.addAndGet(TrendingHashtags.BUCKET_MILLIS * 3);
+
+        // when
+        record("spring", 6);
+
+        // then
+        assertThat(sut.getTopHashtagNames(10)).containsExactly("spring", "java");
+    }
+
+    @DisplayName("기록 범위보다 오래 지나면, 다음 주기에 순위에서 빠진다.")
+    @Test
+    void givenExpiredRecords_whenTicked_thenDropsFromRanking() {
+        // given
+        record("java", 3);
+
+        // when
+        now.addAndGet(TrendingHashtags.BUCKET_MILLIS * TrendingHashtags.BUCKETS);
+        sut.tick();
+
+        // then
+        assertThat(sut.getTopHashtagNames(10)).isEmpty();
+    }
+
+    @DisplayName("해시태그 종류가 후보 수보다 많아도, 자주 쓰인 해시태그는 순위에 남는다.")
+    @Test
+    void givenManyDistinctHashtags_whenGettingTop_thenKeepsHeavyHitters() {
+        // given
+        record("java", 20);
+        IntStream.range(0, 5_000).forEach(i -> sut.recordSearch("tag" + i));
+
+        // when
+        List<String> top = sut.getTopHashtagNames(10);
+
+        // then
+        assertThat(top).hasSize(10).first().isEqualTo("java");
+    }
+
+    @DisplayName("커밋된 게시글 생성 이벤트의 해시태그만 기록한다.")
+    @Test
+    void givenArticleEvents_whenReceived_thenRecordsCreatedArticleHashtagsOnly() {
+        // given
+        ArticleDto article = ArticleDto.of(1L, null, "title", "content", "#java", null, null, null, null);
+
+        // when
+        sut.onArticleEvent(ArticleEvent.created(article, Set.of("java")));
+        sut.onArticleEvent(new ArticleEvent(ArticleEvent.Type.UPDATED, 2L, article, Set.of("spring")));
+
+        // then
+        assertThat(sut.getTopHashtagNames(10)).containsExactly("java");
+    }
+
+    private void record(String hashtagName, int times) {
+        IntStream.range(0, times).forEach(i -> sut.recordSearch(hashtagName));
+    }
+
+}